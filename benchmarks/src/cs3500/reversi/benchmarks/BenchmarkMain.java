@@ -0,0 +1,37 @@
+package cs3500.reversi.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, so every result reports the bytes allocated per
+ * operation next to the operations per second.
+ */
+public final class BenchmarkMain {
+
+  private BenchmarkMain() {
+  }
+
+  /**
+   * Runs the benchmarks whose names match the given patterns, or every benchmark if none
+   * are given. For instance, 'ModelBenchmarks.getBoardCopy' runs only that benchmark.
+   *
+   * @param args the patterns of the benchmarks to run
+   * @throws RunnerException if a benchmark fails to run
+   */
+  public static void main(String[] args) throws RunnerException {
+    OptionsBuilder builder = new OptionsBuilder();
+    if (args.length == 0) {
+      builder.include("cs3500\\.reversi\\.benchmarks\\..*");
+    }
+    for (String pattern : args) {
+      builder.include(pattern);
+    }
+
+    Options options = builder.addProfiler(GCProfiler.class).build();
+    new Runner(options).run();
+  }
+}
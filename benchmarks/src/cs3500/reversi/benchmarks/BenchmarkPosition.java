@@ -0,0 +1,119 @@
+package cs3500.reversi.benchmarks;
+
+import cs3500.reversi.controller.ComputerPlayer;
+import cs3500.reversi.controller.Player;
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.BasicReversiModel;
+import cs3500.reversi.model.BasicSquareReversiModel;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * A fixed position the benchmarks are run against. The position is reached by starting a
+ * game and playing the same moves every time, so two runs of a benchmark, before and after a
+ * change, measure the same board. Only the methods the model has always had are used, so the
+ * benchmarks can be run against older versions of the model too.
+ */
+final class BenchmarkPosition {
+
+  // the shape of the board, "hex" or "square"
+  private final String shape;
+  // the width of the board, one less than the width of a square board
+  private final int width;
+  // the model in this position, never changed after it is made
+  private final ReversiModel model;
+  // the player whose turn it is in this position
+  private final PlayerType turn;
+
+  /**
+   * Constructs a BenchmarkPosition part way through a game on a board of the given shape.
+   * Both players play their uppermost-leftmost legal move, and pass when they have none,
+   * until the given fraction of the board has been played and the player to move has a
+   * legal move, or the game is over. Square boards must have an even width, so a square
+   * board is made one wider than the given width.
+   *
+   * @param shape    "hex" for a hexagonal board or "square" for a square board
+   * @param width    the width of the board, an odd number
+   * @param fraction how much of the board to play, from 0 to 1
+   * @throws IllegalArgumentException if the shape is not "hex" or "square"
+   */
+  BenchmarkPosition(String shape, int width, double fraction) {
+    switch (shape) {
+      case "hex":
+        this.model = new BasicReversiModel(width);
+        break;
+      case "square":
+        this.model = new BasicSquareReversiModel(width + 1);
+        break;
+      default:
+        throw new IllegalArgumentException("Invalid shape given");
+    }
+    this.shape = shape;
+    this.width = width;
+    this.model.startGame();
+
+    PlayerType player = PlayerType.BLACK;
+    int plies = (int) (this.model.getBoardSize() * fraction);
+
+    // play on past the fraction while the player to move would have to pass
+    GamePosition move = findMove(this.model, player);
+    for (int ply = 0; (ply < plies || move == null) && !this.model.isGameOver(); ply += 1) {
+      if (move == null) {
+        this.model.passTurn(new ComputerPlayer(player));
+      } else {
+        this.model.addPieceToCoordinates(move, new ComputerPlayer(player));
+      }
+      player = player.equals(PlayerType.BLACK) ? PlayerType.WHITE : PlayerType.BLACK;
+      move = findMove(this.model, player);
+    }
+
+    this.turn = player;
+  }
+
+  /**
+   * Finds the uppermost-leftmost legal move of the given player by asking about every
+   * position of the board.
+   *
+   * @param model  the model to find the move on
+   * @param player the player to find a move for
+   * @return the move, or null if the player has no legal move
+   */
+  static GamePosition findMove(ReversiModel model, PlayerType player) {
+    Player playerTurn = new ComputerPlayer(player);
+    GamePosition found = null;
+
+    for (GamePosition posn : model.getBoardCopy().keySet()) {
+      if (model.doesCurrentPlayerHaveValidMovesPosn(posn, playerTurn)) {
+        found = found == null ? posn : posn.checkLeftUpperMost(found);
+      }
+    }
+
+    return found;
+  }
+
+  /**
+   * Gets a new model in this position, which the caller may change.
+   *
+   * @return a model in this position
+   */
+  ReversiModel getModel() {
+    Player current = new ComputerPlayer(this.turn);
+    ReversiModel copy;
+    if (this.shape.equals("hex")) {
+      copy = new BasicReversiModel(this.width, this.model.getBoardCopy(), current);
+    } else {
+      copy = new BasicSquareReversiModel(this.width + 1, this.model.getBoardCopy(), current);
+    }
+    copy.startGame();
+    return copy;
+  }
+
+  /**
+   * Gets the player whose turn it is in this position.
+   *
+   * @return the player to move
+   */
+  PlayerType getTurn() {
+    return this.turn;
+  }
+}
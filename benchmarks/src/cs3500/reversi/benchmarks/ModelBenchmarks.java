@@ -0,0 +1,151 @@
+package cs3500.reversi.benchmarks;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.reversi.controller.ComputerPlayer;
+import cs3500.reversi.controller.Player;
+import cs3500.reversi.model.Cell;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * Benchmarks the model methods that players and strategies call the most, on hexagonal and
+ * square boards from width 7 to 31. Every method is measured on the same position a third of
+ * the way through a game, and reports operations per second. Run with the GC profiler, as
+ * BenchmarkMain does, to also see how much each operation allocates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmarks {
+
+  // how much of the board has been played in the measured position
+  private static final double FRACTION_PLAYED = 1.0 / 3;
+
+  /**
+   * The shape of the board, "hex" or "square".
+   */
+  @Param({"hex", "square"})
+  public String shape;
+
+  /**
+   * The width of the board. Square boards are one wider, since their width must be even.
+   */
+  @Param({"7", "11", "15", "19", "23", "27", "31"})
+  public int width;
+
+  // the measured position, and a model in it that the benchmarks only read
+  private BenchmarkPosition position;
+  private ReversiModel model;
+  // a legal move for the player to move, and that player
+  private GamePosition move;
+  private Player player;
+
+  /**
+   * Builds the measured position once for each board.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.position = new BenchmarkPosition(this.shape, this.width, FRACTION_PLAYED);
+    this.model = this.position.getModel();
+    this.player = new ComputerPlayer(this.position.getTurn());
+
+    this.move = BenchmarkPosition.findMove(this.model, this.position.getTurn());
+    if (this.move == null) {
+      throw new IllegalStateException("The measured position has no legal move");
+    }
+  }
+
+  /**
+   * A fresh copy of the measured position for every call, for the benchmark that changes
+   * the model. Making the copy is not measured.
+   */
+  @State(Scope.Thread)
+  public static class FreshModel {
+
+    /**
+     * The copy of the measured position the benchmark may change.
+     */
+    public ReversiModel model;
+
+    /**
+     * Copies the measured position before every call.
+     *
+     * @param benchmarks the benchmarks holding the measured position
+     */
+    @Setup(Level.Invocation)
+    public void setUp(ModelBenchmarks benchmarks) {
+      this.model = benchmarks.position.getModel();
+    }
+  }
+
+  /**
+   * Measures playing a legal move, including flipping the captured pieces and notifying
+   * listeners.
+   *
+   * @param fresh the copy of the position to play the move on
+   * @return the model after the move, so the move is not optimized away
+   */
+  @Benchmark
+  public ReversiModel addPieceToCoordinates(FreshModel fresh) {
+    fresh.model.addPieceToCoordinates(this.move, this.player);
+    return fresh.model;
+  }
+
+  /**
+   * Measures checking whether the game is over.
+   *
+   * @return whether the game is over
+   */
+  @Benchmark
+  public boolean isGameOver() {
+    return this.model.isGameOver();
+  }
+
+  /**
+   * Measures checking whether the player to move has a legal move.
+   *
+   * @return whether the player to move has a legal move
+   */
+  @Benchmark
+  public boolean doesCurrentPlayerHaveValidMoves() {
+    return this.model.doesCurrentPlayerHaveValidMoves();
+  }
+
+  /**
+   * Measures counting the pieces a legal move would capture.
+   *
+   * @return the number of pieces the move would capture
+   */
+  @Benchmark
+  public int getScoreForMove() {
+    return this.model.getScoreForMove(this.move);
+  }
+
+  /**
+   * Measures copying the board.
+   *
+   * @return the copy of the board
+   */
+  @Benchmark
+  public HashMap<GamePosition, Cell> getBoardCopy() {
+    return this.model.getBoardCopy();
+  }
+}
@@ -0,0 +1,128 @@
+package cs3500.reversi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.strategies.AvoidCellsNextToCorner;
+import cs3500.reversi.strategies.CaptureCellsInCorner;
+import cs3500.reversi.strategies.CaptureMostPieces;
+import cs3500.reversi.strategies.MinimizeNextOpponentMove;
+import cs3500.reversi.strategies.ReversiStrategy;
+import cs3500.reversi.strategies.TryTwoStrategies;
+
+/**
+ * Benchmarks chooseMove of the simple strategies and of strategies chained with
+ * TryTwoStrategies, on hexagonal and square boards from width 7 to 31. Every strategy chooses
+ * a move in each position of the same corpus, taken early, in the middle and late in a game,
+ * and the average time of one choice is reported. Comparing the times over the widths shows
+ * how each strategy scales with the size of the board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmarks {
+
+  // the number of positions in the corpus, one for each fraction below
+  private static final int CORPUS_SIZE = 3;
+  // how much of the board has been played in each position of the corpus
+  private static final double[] FRACTIONS_PLAYED = {0.15, 0.35, 0.55};
+
+  /**
+   * The strategy to measure. 'tryTwo' chains captureCorner in front of captureMost, and
+   * 'tryAll' chains captureCorner, avoidNextToCorner, minimizeOpponent and captureMost in
+   * that order.
+   */
+  @Param({"captureMost", "avoidNextToCorner", "captureCorner", "minimizeOpponent", "tryTwo",
+      "tryAll"})
+  public String strategy;
+
+  /**
+   * The shape of the board, "hex" or "square".
+   */
+  @Param({"hex", "square"})
+  public String shape;
+
+  /**
+   * The width of the board. Square boards are one wider, since their width must be even.
+   */
+  @Param({"7", "11", "15", "19", "23", "27", "31"})
+  public int width;
+
+  // the strategy being measured
+  private ReversiStrategy strategyToRun;
+  // the positions of the corpus, and the player to move in each
+  private ReversiModel[] models;
+  private PlayerType[] turns;
+
+  /**
+   * Makes the strategy and builds the corpus once for each board.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.strategyToRun = makeStrategy(this.strategy);
+    this.models = new ReversiModel[CORPUS_SIZE];
+    this.turns = new PlayerType[CORPUS_SIZE];
+
+    for (int index = 0; index < CORPUS_SIZE; index += 1) {
+      BenchmarkPosition position = new BenchmarkPosition(this.shape, this.width,
+          FRACTIONS_PLAYED[index]);
+      this.models[index] = position.getModel();
+      this.turns[index] = position.getTurn();
+    }
+  }
+
+  /**
+   * Measures choosing a move in every position of the corpus. The time reported is for one
+   * position.
+   *
+   * @param blackhole takes the chosen moves, so they are not optimized away
+   */
+  @Benchmark
+  @OperationsPerInvocation(CORPUS_SIZE)
+  public void chooseMove(Blackhole blackhole) {
+    for (int index = 0; index < this.models.length; index += 1) {
+      blackhole.consume(this.strategyToRun.chooseMove(this.models[index], this.turns[index]));
+    }
+  }
+
+  // makes the strategy with the given name
+  private static ReversiStrategy makeStrategy(String name) {
+    switch (name) {
+      case "captureMost":
+        return new CaptureMostPieces();
+      case "avoidNextToCorner":
+        return new AvoidCellsNextToCorner();
+      case "captureCorner":
+        return new CaptureCellsInCorner();
+      case "minimizeOpponent":
+        return new MinimizeNextOpponentMove();
+      case "tryTwo":
+        return new TryTwoStrategies(new CaptureCellsInCorner(), new CaptureMostPieces());
+      case "tryAll":
+        return new TryTwoStrategies(new CaptureCellsInCorner(),
+            new TryTwoStrategies(new AvoidCellsNextToCorner(),
+                new TryTwoStrategies(new MinimizeNextOpponentMove(), new CaptureMostPieces())));
+      default:
+        throw new IllegalArgumentException("Invalid strategy given");
+    }
+  }
+}
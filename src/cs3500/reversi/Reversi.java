@@ -8,15 +8,24 @@ import cs3500.reversi.controller.HumanPlayer;
 import cs3500.reversi.controller.Player;
 import cs3500.reversi.controller.ComputerPlayer;
 import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.controller.TurnScheduler;
+import cs3500.reversi.metrics.ModelMetrics;
+import cs3500.reversi.model.ABasicReversiModel;
 import cs3500.reversi.model.BasicReversiModel;
 import cs3500.reversi.model.BasicSquareReversiModel;
 import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.strategies.AlphaBetaSearch;
 import cs3500.reversi.strategies.AvoidCellsNextToCorner;
 import cs3500.reversi.strategies.CaptureCellsInCorner;
 import cs3500.reversi.strategies.CaptureMostPieces;
+import cs3500.reversi.strategies.LazySmpSearch;
 import cs3500.reversi.strategies.MinimizeNextOpponentMove;
+import cs3500.reversi.strategies.MonteCarloTreeSearch;
+import cs3500.reversi.strategies.ParallelMonteCarloTreeSearch;
+import cs3500.reversi.strategies.ParallelRootSearch;
 import cs3500.reversi.strategies.ReversiStrategy;
 import cs3500.reversi.strategies.TryTwoStrategies;
+import cs3500.reversi.tournament.Tournament;
 import cs3500.reversi.visualview.HexagonalFrame;
 import cs3500.reversi.visualview.ReversiVisualView;
 import cs3500.reversi.visualview.SquareFrame;
@@ -26,10 +35,18 @@ import cs3500.reversi.visualview.SquareFrame;
  */
 public final class Reversi {
 
+  // how long a computer player may take to choose a move before it passes, in milliseconds
+  private static final long MOVE_TIMEOUT_MILLIS = 60_000;
+
   /**
    * Main class that instantiates a model and view.
    */
   public static void main(String[] args) {
+    if (args.length > 0 && args[0].equals("tournament")) {
+      runTournament(args);
+      return;
+    }
+
     Player player1 = new HumanPlayer(PlayerType.BLACK);
     Player player2 = new HumanPlayer(PlayerType.WHITE);
     int argCounter = 0;
@@ -108,7 +125,7 @@ public final class Reversi {
       }
     }
 
-    ReversiModel model;
+    ABasicReversiModel model;
     ReversiVisualView view1;
     ReversiVisualView view2;
 
@@ -136,8 +153,19 @@ public final class Reversi {
       }
     }
 
-    BasicReversiController controller1 = new BasicReversiController(model, player1, view1);
-    BasicReversiController controller2 = new BasicReversiController(model, player2, view2);
+    // Publish the model's metrics over JMX if asked to with -Dcs3500.reversi.metrics=true
+    if (Boolean.getBoolean("cs3500.reversi.metrics")) {
+      ModelMetrics metrics = new ModelMetrics();
+      metrics.register("game");
+      model.setMetrics(metrics);
+    }
+
+    // the game is played on the event thread, and computer players think on their own threads
+    TurnScheduler turns = TurnScheduler.onEventThread(MOVE_TIMEOUT_MILLIS);
+    BasicReversiController controller1 =
+        new BasicReversiController(model, player1, view1, turns);
+    BasicReversiController controller2 =
+        new BasicReversiController(model, player2, view2, turns);
 
     model.addFeaturesListener(controller1);
     model.addFeaturesListener(controller2);
@@ -148,7 +176,7 @@ public final class Reversi {
     view1.makeVisible();
     view2.makeVisible();
 
-    model.startGame();
+    turns.execute(model::startGame);
   }
 
   // Helper method to get to the next player given 
@@ -166,24 +194,8 @@ public final class Reversi {
   private static Player setUpComputer(String[] args, int argCounter, PlayerType type) {
     List<ReversiStrategy> strats = new ArrayList<>();
     while (argCounter < args.length) {
-      switch (args[argCounter]) {
-        case "strategy1":
-          strats.add(new CaptureMostPieces());
-          break;
-        case "strategy2":
-          strats.add(new AvoidCellsNextToCorner());
-          break;
-        case "strategy3":
-          strats.add(new CaptureCellsInCorner());
-          break;
-        case "strategy4":
-          strats.add(new MinimizeNextOpponentMove());
-          break;
-        case "human":
-        case "computer":
-          break;
-        default:
-          throw new IllegalArgumentException("Invalid argument given");
+      if (!args[argCounter].equals("human") && !args[argCounter].equals("computer")) {
+        strats.add(makeStrategy(args[argCounter]));
       }
       argCounter += 1;
     }
@@ -196,6 +208,78 @@ public final class Reversi {
     }
   }
 
+  // Helper method to make the strategy with the given command line name
+  private static ReversiStrategy makeStrategy(String name) {
+    switch (name) {
+      case "strategy1":
+        return new CaptureMostPieces();
+      case "strategy2":
+        return new AvoidCellsNextToCorner();
+      case "strategy3":
+        return new CaptureCellsInCorner();
+      case "strategy4":
+        return new MinimizeNextOpponentMove();
+      case "strategy5":
+        return new AlphaBetaSearch();
+      case "strategy6":
+        return new ParallelRootSearch(4);
+      case "strategy7":
+        return new LazySmpSearch(Runtime.getRuntime().availableProcessors());
+      case "strategy8":
+        return new MonteCarloTreeSearch();
+      case "strategy9":
+        return new ParallelMonteCarloTreeSearch();
+      default:
+        throw new IllegalArgumentException("Invalid argument given");
+    }
+  }
+
+  // Helper method to play a tournament without any views and print its results. The
+  // arguments after 'tournament' are an optional 'square', an optional board size, the
+  // number of games every two entrants play, and then the entrants. Each entrant is a list of
+  // strategies joined by '+', such as 'strategy4+strategy1'.
+  private static void runTournament(String[] args) {
+    int argCounter = 1;
+    boolean square = false;
+    if (args.length > argCounter && args[argCounter].equals("square")) {
+      square = true;
+      argCounter += 1;
+    }
+
+    int boardLength = square ? 8 : 7;
+    int games;
+    try {
+      if (args.length > argCounter + 1 && args[argCounter + 1].matches("\\d+")) {
+        boardLength = Integer.valueOf(args[argCounter]);
+        argCounter += 1;
+      }
+      games = Integer.valueOf(args[argCounter]);
+      argCounter += 1;
+    } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Invalid board size or number of games given");
+    }
+
+    Tournament tournament = new Tournament(square, boardLength,
+        Runtime.getRuntime().availableProcessors());
+    while (argCounter < args.length) {
+      String[] names = args[argCounter].split("\\+");
+      // check the names now, rather than on the first game
+      for (String name : names) {
+        makeStrategy(name);
+      }
+      tournament.addEntrant(args[argCounter], () -> {
+        List<ReversiStrategy> strats = new ArrayList<>();
+        for (String name : names) {
+          strats.add(makeStrategy(name));
+        }
+        return composeAIStrategy(strats);
+      });
+      argCounter += 1;
+    }
+
+    System.out.print(tournament.run(games));
+  }
+
   // Helper method to compose multiple strategies
   private static ReversiStrategy composeAIStrategy(List<ReversiStrategy> strats) {
     ReversiStrategy currentStrategy = strats.get(0);
@@ -1,17 +1,27 @@
 package cs3500.reversi.controller;
 
+import java.util.concurrent.CompletableFuture;
+
 import cs3500.reversi.model.GamePosition;
-import cs3500.reversi.model.PositionAxial;
 import cs3500.reversi.model.ReversiModel;
 import cs3500.reversi.visualview.ReversiVisualView;
 
 /**
  * Represents a controller for the game of Reversi.
+ *
+ * <p>A controller given a TurnScheduler works out its player's moves off the game thread, on
+ * a copy of the model, and makes them on the game thread once they are ready. A controller
+ * without one works out and makes its player's moves on whichever thread told it that it
+ * was the player's turn.
  */
 public class BasicReversiController implements PlayerActionFeatures, ModelStatusFeatures {
   private final ReversiModel model;
   private final Player player;
   private final ReversiVisualView view;
+  // where moves are worked out and made, null to work them out on the calling thread
+  private final TurnScheduler turns;
+  // the move being worked out for the player, null if there is none
+  private CompletableFuture<GamePosition> pendingMove;
 
   /**
    * Constructs a new BasicReversiController with the given model, player, and
@@ -22,9 +32,25 @@ public class BasicReversiController implements PlayerActionFeatures, ModelStatus
    * @param view   the view to use
    */
   public BasicReversiController(ReversiModel model, Player player, ReversiVisualView view) {
+    this(model, player, view, null);
+  }
+
+  /**
+   * Constructs a new BasicReversiController with the given model, player, and
+   * view, whose player's moves are worked out and made by the given scheduler.
+   *
+   * @param model  the model to use
+   * @param player the player to use
+   * @param view   the view to use
+   * @param turns  the scheduler to work out and make moves with, shared by every controller
+   *               of the model, or null to work them out on the calling thread
+   */
+  public BasicReversiController(ReversiModel model, Player player, ReversiVisualView view,
+                                TurnScheduler turns) {
     this.model = model;
     this.player = player;
     this.view = view;
+    this.turns = turns;
   }
 
   /**
@@ -34,15 +60,13 @@ public class BasicReversiController implements PlayerActionFeatures, ModelStatus
    */
   @Override
   public void moveToCoordinate(GamePosition posn) {
-
-    // if the game is not over, add the piece to the board.
-    if (!this.model.isGameOver()) {
-      GamePosition posnToMove = this.player.requestMove(this.model, posn);
-      if (posnToMove.containsCoordinate(this.model.getBoardSize())) {
-        this.passTurn();
-      } else {
-        this.model.addPieceToCoordinates(posnToMove, this.player);
-      }
+    if (this.turns == null) {
+      this.makeMove(posn);
+    } else {
+      this.turns.call(() -> {
+        this.makeMove(posn);
+        return null;
+      });
     }
   }
 
@@ -51,8 +75,13 @@ public class BasicReversiController implements PlayerActionFeatures, ModelStatus
    */
   @Override
   public void passTurn() {
-    if (!this.model.isGameOver()) {
-      this.model.passTurn(this.player);
+    if (this.turns == null) {
+      this.makePass();
+    } else {
+      this.turns.call(() -> {
+        this.makePass();
+        return null;
+      });
     }
   }
 
@@ -62,11 +91,74 @@ public class BasicReversiController implements PlayerActionFeatures, ModelStatus
     // repaints the appropriate frame
     this.view.refresh(currentTurn.equals(this.player.toString()));
 
-    // if it is the player's turn, notify them
-    if (currentTurn.equals(this.player.toString())) {
-      if (!this.player.notifyYourTurn(model).equals(new PositionAxial(0, 0, 0))) {
-        this.moveToCoordinate(new PositionAxial(0, 0, 0));
+    // if it is the player's turn and it does not wait for input from the view, ask it for
+    // its move
+    if (currentTurn.equals(this.player.toString()) && !this.player.isWaitingForInput()) {
+      if (this.turns != null) {
+        this.requestMove();
+      } else if (!this.model.isGameOver()) {
+        this.makeChosenMove(this.player.notifyYourTurn(this.model));
+      }
+    }
+  }
+
+  // asks the player for a move on a copy of the model, and makes it on the game thread
+  // if nothing has changed by the time it is ready
+  private void requestMove() {
+    if (this.pendingMove != null) {
+      this.pendingMove.cancel(true);
+      this.pendingMove = null;
+    }
+    if (this.model.isGameOver()) {
+      return;
+    }
+
+    long position = this.model.getPositionHash();
+    CompletableFuture<GamePosition> move = this.turns.chooseMove(this.player, this.model.copy());
+    this.pendingMove = move;
+    move.whenComplete((posn, error) -> this.turns.execute(() -> {
+      // a move asked for before the last change to the game is no longer wanted
+      if (this.pendingMove != move || this.model.getPositionHash() != position) {
+        return;
+      }
+      this.pendingMove = null;
+
+      if (error != null) {
+        // a player that fails or runs out of time gives up its turn
+        this.makePass();
+      } else {
+        try {
+          this.makeChosenMove(posn);
+        } catch (IllegalStateException | IllegalArgumentException e) {
+          // a player that chooses a move it cannot make gives up its turn
+          this.makePass();
+        }
       }
+    }));
+  }
+
+  // asks the player for the move to make at the given position and makes it
+  private void makeMove(GamePosition posn) {
+
+    // if the game is not over, add the piece to the board.
+    if (!this.model.isGameOver()) {
+      this.makeChosenMove(this.player.requestMove(this.model, posn));
+    }
+  }
+
+  // makes the move the player chose, where a position off the board is a pass
+  private void makeChosenMove(GamePosition posnToMove) {
+    if (posnToMove.containsCoordinate(this.model.getBoardSize())) {
+      this.makePass();
+    } else {
+      this.model.addPieceToCoordinates(posnToMove, this.player);
+    }
+  }
+
+  // passes the player's turn if the game is not over
+  private void makePass() {
+    if (!this.model.isGameOver()) {
+      this.model.passTurn(this.player);
     }
   }
 
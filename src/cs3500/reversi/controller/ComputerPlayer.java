@@ -1,6 +1,8 @@
 package cs3500.reversi.controller;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import cs3500.reversi.model.GamePosition;
 import cs3500.reversi.model.PositionAxial;
@@ -14,9 +16,15 @@ import cs3500.reversi.strategies.ReversiStrategy;
  */
 public class ComputerPlayer implements Player {
 
+  // the shared players returned by of, one per player type
+  private static final ComputerPlayer BLACK = new ComputerPlayer(PlayerType.BLACK);
+  private static final ComputerPlayer WHITE = new ComputerPlayer(PlayerType.WHITE);
+
   // The type of the player, which can be BLACK or WHITE.
   final PlayerType type;
   private final ReversiStrategy strategy;
+  // told about every move the strategy chooses, empty unless the player is being measured
+  private final List<DecisionListener> decisionListeners;
 
   /**
    * Constructs a new ComputerPlayer with the given player type.
@@ -26,6 +34,7 @@ public class ComputerPlayer implements Player {
   public ComputerPlayer(PlayerType type) {
     this.type = Objects.requireNonNull(type);
     this.strategy = new CaptureMostPieces();
+    this.decisionListeners = new CopyOnWriteArrayList<>();
   }
 
   /**
@@ -37,6 +46,39 @@ public class ComputerPlayer implements Player {
   public ComputerPlayer(PlayerType type, ReversiStrategy strategy) {
     this.type = Objects.requireNonNull(type);
     this.strategy = strategy;
+    this.decisionListeners = new CopyOnWriteArrayList<>();
+  }
+
+  /**
+   * Gets the shared player of the given type, for code that only needs a player to say whose
+   * turn it is or who owns a cell, so it does not have to make a new one every time. The
+   * shared players play with CaptureMostPieces and cannot be given listeners.
+   *
+   * @param type The type of the player, which can be BLACK or WHITE.
+   * @return the shared player of the given type
+   */
+  public static Player of(PlayerType type) {
+    if (Objects.requireNonNull(type).equals(PlayerType.BLACK)) {
+      return BLACK;
+    } else {
+      return WHITE;
+    }
+  }
+
+  /**
+   * Adds a listener that is told how long every move chosen from now on took and how much
+   * the strategy asked of the model. While a player has no listeners, its strategy is given
+   * the model directly and nothing is measured.
+   *
+   * @param listener - the listener to add
+   * @throws IllegalStateException if this is one of the shared players returned by of
+   */
+  public void addDecisionListener(DecisionListener listener) {
+    Objects.requireNonNull(listener);
+    if (this == BLACK || this == WHITE) {
+      throw new IllegalStateException("Shared players cannot be given listeners");
+    }
+    this.decisionListeners.add(listener);
   }
 
   /**
@@ -49,7 +91,23 @@ public class ComputerPlayer implements Player {
    */
   @Override
   public GamePosition requestMove(ReversiModel model, GamePosition posn) {
-    return this.strategy.chooseMove(model, this.type);
+    if (this.decisionListeners.isEmpty()) {
+      return this.strategy.chooseMove(model, this.type);
+    }
+
+    // the strategy is handed a model that counts what is asked of it
+    CountingReversiModel counting = new CountingReversiModel(model);
+    long start = System.nanoTime();
+    GamePosition move = this.strategy.chooseMove(counting, this.type);
+    long wallNanos = System.nanoTime() - start;
+
+    DecisionMetrics metrics = new DecisionMetrics(this.type, model.getBoardSize(), wallNanos,
+        counting.getLegalMovesExamined(), counting.getBoardCopies(), counting.getModelCalls());
+    for (DecisionListener listener : this.decisionListeners) {
+      listener.decisionMade(metrics);
+    }
+
+    return move;
   }
 
   /**
@@ -103,9 +161,9 @@ public class ComputerPlayer implements Player {
    */
   public Player getOppositePlayer() {
     if (this.type.equals(PlayerType.BLACK)) {
-      return new ComputerPlayer(PlayerType.WHITE);
+      return WHITE;
     } else {
-      return new ComputerPlayer(PlayerType.BLACK);
+      return BLACK;
     }
   }
 
@@ -115,4 +173,9 @@ public class ComputerPlayer implements Player {
     // requests the move according to the appropriate strategy
     return this.requestMove(model, new PositionAxial(0, 0, 0));
   }
+
+  @Override
+  public boolean isWaitingForInput() {
+    return false;
+  }
 }
@@ -0,0 +1,212 @@
+package cs3500.reversi.controller;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import cs3500.reversi.model.Cell;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * A model that passes every call on to another model and counts the calls, the moves that
+ * were checked for legality and the copies that were made. ComputerPlayer hands one to its
+ * strategy while measuring a decision. A copy of the model counts its calls in the same
+ * counts, so the work of a strategy that searches copies on other threads is counted too,
+ * which is why the counts can be added to from any thread.
+ */
+final class CountingReversiModel implements ReversiModel {
+
+  // the model every call is passed on to
+  private final ReversiModel delegate;
+  // what has been asked of the model and its copies so far
+  private final LongAdder legalMovesExamined;
+  private final LongAdder boardCopies;
+  private final LongAdder modelCalls;
+
+  /**
+   * Constructs a CountingReversiModel that passes its calls on to the given model.
+   *
+   * @param delegate the model to pass calls on to
+   */
+  CountingReversiModel(ReversiModel delegate) {
+    this(delegate, new LongAdder(), new LongAdder(), new LongAdder());
+  }
+
+  // constructs a CountingReversiModel that adds to the given counts
+  private CountingReversiModel(ReversiModel delegate, LongAdder legalMovesExamined,
+                               LongAdder boardCopies, LongAdder modelCalls) {
+    this.delegate = delegate;
+    this.legalMovesExamined = legalMovesExamined;
+    this.boardCopies = boardCopies;
+    this.modelCalls = modelCalls;
+  }
+
+  /**
+   * Gets the number of moves checked or listed as legal so far, by this model and its
+   * copies.
+   *
+   * @return the number of legal moves examined
+   */
+  long getLegalMovesExamined() {
+    return this.legalMovesExamined.sum();
+  }
+
+  /**
+   * Gets the number of copies of the board or model made so far, by this model and its
+   * copies.
+   *
+   * @return the number of board copies made
+   */
+  long getBoardCopies() {
+    return this.boardCopies.sum();
+  }
+
+  /**
+   * Gets the number of calls made so far, to this model and its copies.
+   *
+   * @return the number of model calls
+   */
+  long getModelCalls() {
+    return this.modelCalls.sum();
+  }
+
+  @Override
+  public void addFeaturesListener(ModelStatusFeatures feature) {
+    this.modelCalls.increment();
+    this.delegate.addFeaturesListener(feature);
+  }
+
+  @Override
+  public void startGame() {
+    this.modelCalls.increment();
+    this.delegate.startGame();
+  }
+
+  @Override
+  public HashMap<GamePosition, Cell> getBoardCopy() {
+    this.modelCalls.increment();
+    this.boardCopies.increment();
+    return this.delegate.getBoardCopy();
+  }
+
+  @Override
+  public void addPieceToCoordinates(GamePosition posn, Player player) {
+    this.modelCalls.increment();
+    this.delegate.addPieceToCoordinates(posn, player);
+  }
+
+  @Override
+  public void passTurn(Player player) {
+    this.modelCalls.increment();
+    this.delegate.passTurn(player);
+  }
+
+  @Override
+  public void applyMove(int ordinal) {
+    this.modelCalls.increment();
+    this.delegate.applyMove(ordinal);
+  }
+
+  @Override
+  public void undoMove() {
+    this.modelCalls.increment();
+    this.delegate.undoMove();
+  }
+
+  @Override
+  public ReversiModel copy() {
+    this.modelCalls.increment();
+    this.boardCopies.increment();
+    return new CountingReversiModel(this.delegate.copy(), this.legalMovesExamined,
+        this.boardCopies, this.modelCalls);
+  }
+
+  @Override
+  public boolean doesCurrentPlayerHaveValidMoves() {
+    this.modelCalls.increment();
+    return this.delegate.doesCurrentPlayerHaveValidMoves();
+  }
+
+  @Override
+  public boolean doesCurrentPlayerHaveValidMovesPosn(GamePosition posn, Player playerTurn) {
+    this.modelCalls.increment();
+    this.legalMovesExamined.increment();
+    return this.delegate.doesCurrentPlayerHaveValidMovesPosn(posn, playerTurn);
+  }
+
+  @Override
+  public int getBoardSize() {
+    this.modelCalls.increment();
+    return this.delegate.getBoardSize();
+  }
+
+  @Override
+  public boolean hasGameStarted() {
+    this.modelCalls.increment();
+    return this.delegate.hasGameStarted();
+  }
+
+  @Override
+  public String getCurrentWinner() {
+    this.modelCalls.increment();
+    return this.delegate.getCurrentWinner();
+  }
+
+  @Override
+  public Cell getCellAt(GamePosition posn) {
+    this.modelCalls.increment();
+    return this.delegate.getCellAt(posn);
+  }
+
+  @Override
+  public boolean isGameOver() {
+    this.modelCalls.increment();
+    return this.delegate.isGameOver();
+  }
+
+  @Override
+  public int getCurrentScore(PlayerType playerType) {
+    this.modelCalls.increment();
+    return this.delegate.getCurrentScore(playerType);
+  }
+
+  @Override
+  public int getNumRows() {
+    this.modelCalls.increment();
+    return this.delegate.getNumRows();
+  }
+
+  @Override
+  public int getScoreForMove(GamePosition posn) {
+    this.modelCalls.increment();
+    this.legalMovesExamined.increment();
+    return this.delegate.getScoreForMove(posn);
+  }
+
+  @Override
+  public int getScoreForMovePlayer(GamePosition posn, String player) {
+    this.modelCalls.increment();
+    this.legalMovesExamined.increment();
+    return this.delegate.getScoreForMovePlayer(posn, player);
+  }
+
+  @Override
+  public int getLegalMoves(PlayerType playerType, int[] moves, int[] flips) {
+    this.modelCalls.increment();
+    int count = this.delegate.getLegalMoves(playerType, moves, flips);
+    this.legalMovesExamined.add(count);
+    return count;
+  }
+
+  @Override
+  public GamePosition getPositionAt(int ordinal) {
+    this.modelCalls.increment();
+    return this.delegate.getPositionAt(ordinal);
+  }
+
+  @Override
+  public long getPositionHash() {
+    this.modelCalls.increment();
+    return this.delegate.getPositionHash();
+  }
+}
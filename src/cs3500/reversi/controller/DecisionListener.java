@@ -0,0 +1,15 @@
+package cs3500.reversi.controller;
+
+/**
+ * Represents something that is told about every move a ComputerPlayer chooses, such as a
+ * collector of response time statistics.
+ */
+public interface DecisionListener {
+
+  /**
+   * Notifies the listener that a computer player has chosen a move.
+   *
+   * @param metrics - how long the choice took and how much work it did
+   */
+  public void decisionMade(DecisionMetrics metrics);
+}
@@ -0,0 +1,91 @@
+package cs3500.reversi.controller;
+
+/**
+ * The measurements of one move chosen by a ComputerPlayer: how long its strategy took and how
+ * much it asked of the model while choosing.
+ */
+public final class DecisionMetrics {
+
+  private final PlayerType player;
+  private final int boardSize;
+  private final long wallNanos;
+  private final long legalMovesExamined;
+  private final long boardCopies;
+  private final long modelCalls;
+
+  /**
+   * Constructs the DecisionMetrics of one move.
+   *
+   * @param player             the player who chose the move
+   * @param boardSize          the number of cells on the board
+   * @param wallNanos          how long the move took to choose, in nanoseconds
+   * @param legalMovesExamined the number of moves checked or listed as legal
+   * @param boardCopies        the number of copies of the board or model made
+   * @param modelCalls         the number of calls made to the model
+   */
+  public DecisionMetrics(PlayerType player, int boardSize, long wallNanos,
+                         long legalMovesExamined, long boardCopies, long modelCalls) {
+    this.player = player;
+    this.boardSize = boardSize;
+    this.wallNanos = wallNanos;
+    this.legalMovesExamined = legalMovesExamined;
+    this.boardCopies = boardCopies;
+    this.modelCalls = modelCalls;
+  }
+
+  /**
+   * Gets the player who chose the move.
+   *
+   * @return the player who chose the move
+   */
+  public PlayerType getPlayer() {
+    return this.player;
+  }
+
+  /**
+   * Gets the number of cells on the board the move was chosen on.
+   *
+   * @return the number of cells on the board
+   */
+  public int getBoardSize() {
+    return this.boardSize;
+  }
+
+  /**
+   * Gets how long the move took to choose.
+   *
+   * @return the time taken, in nanoseconds
+   */
+  public long getWallNanos() {
+    return this.wallNanos;
+  }
+
+  /**
+   * Gets the number of moves the strategy checked the legality or score of, counting every
+   * move in a list of legal moves it asked for, on the model or any copy of it.
+   *
+   * @return the number of legal moves examined
+   */
+  public long getLegalMovesExamined() {
+    return this.legalMovesExamined;
+  }
+
+  /**
+   * Gets the number of copies of the board or of the model the strategy made.
+   *
+   * @return the number of board copies made
+   */
+  public long getBoardCopies() {
+    return this.boardCopies;
+  }
+
+  /**
+   * Gets the number of calls the strategy made to the model it was given, including the
+   * calls made to copies of the model.
+   *
+   * @return the number of model calls
+   */
+  public long getModelCalls() {
+    return this.modelCalls;
+  }
+}
@@ -0,0 +1,106 @@
+package cs3500.reversi.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * Plays a game by asking each player for its move in turn, in a loop, rather than by having
+ * every move made from inside the listener of the move before it. When controllers make
+ * their players' moves as they are told it is their turn, each move is made from inside the
+ * last one, and a game between two computer players becomes one call as deep as the game is
+ * long. The loop makes every move from the same frame, so games of any length can be played.
+ *
+ * <p>The loop listens to the model only to learn whose turn it is. Its own listeners are
+ * told the current turn once before the first move and after every move, from the loop
+ * rather than from inside the model, so they should only show the game and not make moves.
+ */
+public class GameLoop implements ModelStatusFeatures {
+  private final ReversiModel model;
+  private final Player black;
+  private final Player white;
+  // told the current turn before the first move and after every move
+  private final List<ModelStatusFeatures> listeners;
+  // whose turn the model last said it was, null before the game starts
+  private String currentTurn;
+
+  /**
+   * Constructs a GameLoop for the given model and players, which listens to the model. The
+   * loop must be made before the game is started.
+   *
+   * @param model the model to play on
+   * @param black the player playing black
+   * @param white the player playing white
+   * @throws IllegalStateException if the game has already started
+   */
+  public GameLoop(ReversiModel model, Player black, Player white) {
+    this.model = Objects.requireNonNull(model);
+    this.black = Objects.requireNonNull(black);
+    this.white = Objects.requireNonNull(white);
+    this.listeners = new ArrayList<>();
+    if (model.hasGameStarted()) {
+      throw new IllegalStateException("Game loop must be made before the game starts");
+    }
+    model.addFeaturesListener(this);
+  }
+
+  /**
+   * Adds a listener to tell the current turn before the first move and after every move.
+   *
+   * @param listener the listener to add
+   */
+  public void addListener(ModelStatusFeatures listener) {
+    this.listeners.add(Objects.requireNonNull(listener));
+  }
+
+  /**
+   * Starts the game if it has not started, then asks the player whose turn it is for a move
+   * and makes it, until the game is over or a player is waiting for input from a view, which
+   * a HumanPlayer always is.
+   *
+   * @return the number of moves and passes made
+   */
+  public int play() {
+    if (!this.model.hasGameStarted()) {
+      this.model.startGame();
+    }
+    this.publish();
+
+    int turns = 0;
+    while (!this.model.isGameOver()) {
+      Player player = this.black.toString().equals(this.currentTurn) ? this.black : this.white;
+
+      // a player waiting for input from a view makes its move through the view
+      if (player.isWaitingForInput()) {
+        break;
+      }
+
+      GamePosition posn = player.notifyYourTurn(this.model);
+
+      if (posn.containsCoordinate(this.model.getBoardSize())) {
+        this.model.passTurn(player);
+      } else {
+        this.model.addPieceToCoordinates(posn, player);
+      }
+      turns += 1;
+      this.publish();
+    }
+
+    return turns;
+  }
+
+  @Override
+  public void notifyToRefresh(String currentTurn) {
+    this.currentTurn = currentTurn;
+  }
+
+  // tells every listener whose turn it is
+  private void publish() {
+    for (ModelStatusFeatures listener : this.listeners) {
+      listener.notifyToRefresh(this.currentTurn);
+    }
+  }
+}
@@ -10,6 +10,10 @@ import cs3500.reversi.model.ReversiModel;
  * Represents a human player in the game of Reversi.
  */
 public class HumanPlayer implements Player {
+  // the players returned by getOppositePlayer, one per player type
+  private static final HumanPlayer BLACK = new HumanPlayer(PlayerType.BLACK);
+  private static final HumanPlayer WHITE = new HumanPlayer(PlayerType.WHITE);
+
   // The type of the player, which can be BLACK or WHITE.
   final PlayerType type;
 
@@ -86,9 +90,9 @@ public class HumanPlayer implements Player {
    */
   public Player getOppositePlayer() {
     if (this.type.equals(PlayerType.BLACK)) {
-      return new HumanPlayer(PlayerType.WHITE);
+      return WHITE;
     } else {
-      return new HumanPlayer(PlayerType.BLACK);
+      return BLACK;
     }
   }
 
@@ -99,4 +103,9 @@ public class HumanPlayer implements Player {
     // player input.
   }
 
+  @Override
+  public boolean isWaitingForInput() {
+    return true;
+  }
+
 }
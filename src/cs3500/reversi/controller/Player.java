@@ -35,4 +35,12 @@ public interface Player {
    * @return the position that is chosen to move to
    */
   public GamePosition notifyYourTurn(ReversiModel model);
+
+  /**
+   * Returns whether the player makes its moves through a view, so that on its turn the game
+   * waits for input from the view rather than asking the player for a move.
+   *
+   * @return true if the player waits for input from a view, false otherwise
+   */
+  public boolean isWaitingForInput();
 }
@@ -0,0 +1,167 @@
+package cs3500.reversi.controller;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
+
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * Runs the turns of a game on two kinds of threads. Every change to the model is made on a
+ * single game thread, so the model is never changed by two threads at once. The moves of
+ * players are worked out on a separate pool of threads, so a slow strategy never holds up
+ * the game thread, and come back through a CompletableFuture.
+ *
+ * <p>A move that takes longer than the timeout is cancelled, which interrupts the thread
+ * working it out, and its future fails with a TimeoutException. Controllers sharing a game
+ * should share one scheduler, so that all of their changes are made on the same thread.
+ */
+public final class TurnScheduler implements AutoCloseable {
+
+  // where changes to the model are run, and whether the calling thread is that thread
+  private final Executor gameThread;
+  private final BooleanSupplier onGameThread;
+  // the thread the scheduler made to be the game thread, null if it was given one
+  private final ExecutorService ownGameThread;
+  // the threads moves are worked out on
+  private final ExecutorService movePool;
+  // how long a player may take to choose a move, in milliseconds
+  private final long moveTimeoutMillis;
+
+  private TurnScheduler(Executor gameThread, BooleanSupplier onGameThread,
+                        ExecutorService ownGameThread, long moveTimeoutMillis) {
+    if (moveTimeoutMillis <= 0) {
+      throw new IllegalArgumentException("Move timeout must be positive");
+    }
+
+    this.gameThread = gameThread;
+    this.onGameThread = onGameThread;
+    this.ownGameThread = ownGameThread;
+    this.movePool = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "reversi-move");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.moveTimeoutMillis = moveTimeoutMillis;
+  }
+
+  /**
+   * Constructs a TurnScheduler whose game thread is the Swing event thread, so the views can
+   * read the model while painting without it changing under them.
+   *
+   * @param moveTimeoutMillis how long a player may take to choose a move, in milliseconds
+   * @return the scheduler
+   * @throws IllegalArgumentException if the timeout is not positive
+   */
+  public static TurnScheduler onEventThread(long moveTimeoutMillis) {
+    return new TurnScheduler(SwingUtilities::invokeLater, SwingUtilities::isEventDispatchThread,
+        null, moveTimeoutMillis);
+  }
+
+  /**
+   * Constructs a TurnScheduler with a game thread of its own, for games without views.
+   *
+   * @param moveTimeoutMillis how long a player may take to choose a move, in milliseconds
+   * @return the scheduler
+   * @throws IllegalArgumentException if the timeout is not positive
+   */
+  public static TurnScheduler onOwnThread(long moveTimeoutMillis) {
+    Thread[] game = new Thread[1];
+    ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+      game[0] = new Thread(runnable, "reversi-game");
+      game[0].setDaemon(true);
+      return game[0];
+    });
+    return new TurnScheduler(executor, () -> Thread.currentThread() == game[0], executor,
+        moveTimeoutMillis);
+  }
+
+  /**
+   * Works out the move of the given player on the pool of move threads. The player should
+   * be given its own copy of the model, since the game thread may change the real one while
+   * the move is worked out.
+   *
+   * @param player the player whose move to work out
+   * @param model  the copy of the model to choose a move from
+   * @return the move, or a failed future if the player threw anything or timed out
+   */
+  public CompletableFuture<GamePosition> chooseMove(Player player, ReversiModel model) {
+    CompletableFuture<GamePosition> move = new CompletableFuture<>();
+    Future<?> task = this.movePool.submit(() -> {
+      try {
+        move.complete(player.notifyYourTurn(model));
+      } catch (Throwable e) {
+        // anything the player throws fails the move, so the game is never left waiting
+        move.completeExceptionally(e);
+      }
+    });
+
+    // stopping the move early, for any reason, interrupts the thread working it out
+    move.orTimeout(this.moveTimeoutMillis, TimeUnit.MILLISECONDS)
+        .whenComplete((result, error) -> {
+          if (error != null) {
+            task.cancel(true);
+          }
+        });
+    return move;
+  }
+
+  /**
+   * Runs the given change to the model on the game thread later, without waiting for it.
+   *
+   * @param change the change to make
+   */
+  public void execute(Runnable change) {
+    this.gameThread.execute(change);
+  }
+
+  /**
+   * Runs the given change to the model on the game thread and waits for it, throwing
+   * anything it throws. A change asked for from the game thread is run right away.
+   *
+   * @param change the change to make
+   * @param <T>    the type of the change's result
+   * @return the result of the change
+   * @throws IllegalStateException if the thread is interrupted while waiting
+   */
+  public <T> T call(Supplier<T> change) {
+    if (this.onGameThread.getAsBoolean()) {
+      return change.get();
+    }
+
+    FutureTask<T> task = new FutureTask<>(change::get);
+    this.gameThread.execute(task);
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the game thread");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Stops every move being worked out and the game thread, if the scheduler made it.
+   */
+  @Override
+  public void close() {
+    this.movePool.shutdownNow();
+    if (this.ownGameThread != null) {
+      this.ownGameThread.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package cs3500.reversi.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import cs3500.reversi.controller.DecisionListener;
+import cs3500.reversi.controller.DecisionMetrics;
+
+/**
+ * Collects the measurements of every move chosen by the computer players it listens to: a
+ * histogram of how long each took and the total work done. Counting takes no locks, so one
+ * DecisionStatistics can listen to players on different threads. It can be published over
+ * JMX, so response times can be watched and alerted on while games are played.
+ */
+public final class DecisionStatistics implements DecisionListener, DecisionStatisticsMXBean {
+
+  private final LatencyHistogram wallNanos;
+  private final LongAdder legalMovesExamined;
+  private final LongAdder boardCopies;
+  private final LongAdder modelCalls;
+
+  /**
+   * Constructs a DecisionStatistics with no decisions recorded.
+   */
+  public DecisionStatistics() {
+    this.wallNanos = new LatencyHistogram();
+    this.legalMovesExamined = new LongAdder();
+    this.boardCopies = new LongAdder();
+    this.modelCalls = new LongAdder();
+  }
+
+  @Override
+  public void decisionMade(DecisionMetrics metrics) {
+    this.wallNanos.record(metrics.getWallNanos());
+    this.legalMovesExamined.add(metrics.getLegalMovesExamined());
+    this.boardCopies.add(metrics.getBoardCopies());
+    this.modelCalls.add(metrics.getModelCalls());
+  }
+
+  /**
+   * Publishes these statistics on the platform MBean server under
+   * cs3500.reversi:type=DecisionStatistics,name=the given name.
+   *
+   * @param name the name to publish the statistics under, such as the player's color
+   * @throws IllegalStateException if the statistics cannot be published, such as when the
+   *                               name is already taken
+   */
+  public void register(String name) {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+          new ObjectName("cs3500.reversi:type=DecisionStatistics,name=" + name));
+    } catch (JMException e) {
+      throw new IllegalStateException("Could not register decision statistics", e);
+    }
+  }
+
+  /**
+   * Gets the histogram of how long each move took to choose, in nanoseconds.
+   *
+   * @return the histogram of decision times
+   */
+  public LatencyHistogram getWallNanos() {
+    return this.wallNanos;
+  }
+
+  @Override
+  public long getDecisions() {
+    return this.wallNanos.getCount();
+  }
+
+  @Override
+  public double getMeanMillis() {
+    return this.wallNanos.getMean() / 1_000_000.0;
+  }
+
+  @Override
+  public double getP50Millis() {
+    return this.wallNanos.getValueAtPercentile(50) / 1_000_000.0;
+  }
+
+  @Override
+  public double getP99Millis() {
+    return this.wallNanos.getValueAtPercentile(99) / 1_000_000.0;
+  }
+
+  @Override
+  public double getMaxMillis() {
+    return this.wallNanos.getMax() / 1_000_000.0;
+  }
+
+  @Override
+  public long getLegalMovesExamined() {
+    return this.legalMovesExamined.sum();
+  }
+
+  @Override
+  public long getBoardCopies() {
+    return this.boardCopies.sum();
+  }
+
+  @Override
+  public long getModelCalls() {
+    return this.modelCalls.sum();
+  }
+
+  @Override
+  public void reset() {
+    this.wallNanos.reset();
+    this.legalMovesExamined.reset();
+    this.boardCopies.reset();
+    this.modelCalls.reset();
+  }
+}
@@ -0,0 +1,68 @@
+package cs3500.reversi.metrics;
+
+/**
+ * The view of a DecisionStatistics that is published over JMX.
+ */
+public interface DecisionStatisticsMXBean {
+
+  /**
+   * Gets the number of moves chosen.
+   *
+   * @return the number of decisions
+   */
+  long getDecisions();
+
+  /**
+   * Gets the mean time taken to choose a move.
+   *
+   * @return the mean decision time, in milliseconds
+   */
+  double getMeanMillis();
+
+  /**
+   * Gets the time that half of the moves were chosen within.
+   *
+   * @return the median decision time, in milliseconds
+   */
+  double getP50Millis();
+
+  /**
+   * Gets the time that 99 percent of the moves were chosen within.
+   *
+   * @return the 99th percentile decision time, in milliseconds
+   */
+  double getP99Millis();
+
+  /**
+   * Gets the longest time taken to choose a move.
+   *
+   * @return the longest decision time, in milliseconds
+   */
+  double getMaxMillis();
+
+  /**
+   * Gets the total number of legal moves examined over every decision.
+   *
+   * @return the number of legal moves examined
+   */
+  long getLegalMovesExamined();
+
+  /**
+   * Gets the total number of board copies made over every decision.
+   *
+   * @return the number of board copies made
+   */
+  long getBoardCopies();
+
+  /**
+   * Gets the total number of model calls made over every decision.
+   *
+   * @return the number of model calls
+   */
+  long getModelCalls();
+
+  /**
+   * Forgets every decision recorded so far.
+   */
+  void reset();
+}
@@ -0,0 +1,146 @@
+package cs3500.reversi.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations in the style of HdrHistogram. Values below 128 each get their own
+ * bucket, and every larger power of two is split into 64 buckets, so any recorded value is
+ * reported within 1/64 of itself while the histogram stays a fixed 30 KB however large the
+ * values are. Recording takes no locks, so one histogram can be shared by several threads.
+ */
+public final class LatencyHistogram {
+
+  // values below this each have a bucket of their own
+  private static final int LINEAR_BUCKETS = 128;
+  // the number of buckets every larger power of two is split into
+  private static final int SUB_BUCKETS = 64;
+  // enough buckets for every non-negative long
+  private static final int BUCKETS = LINEAR_BUCKETS + 57 * SUB_BUCKETS;
+
+  private final AtomicLongArray counts;
+  private final LongAdder count;
+  private final LongAdder sum;
+  private final LongAccumulator max;
+
+  /**
+   * Constructs an empty LatencyHistogram.
+   */
+  public LatencyHistogram() {
+    this.counts = new AtomicLongArray(BUCKETS);
+    this.count = new LongAdder();
+    this.sum = new LongAdder();
+    this.max = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Records one value.
+   *
+   * @param value the value to record, such as a duration in nanoseconds
+   * @throws IllegalArgumentException if the value is negative
+   */
+  public void record(long value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Value cannot be negative");
+    }
+
+    this.counts.incrementAndGet(bucketOf(value));
+    this.count.increment();
+    this.sum.add(value);
+    this.max.accumulate(value);
+  }
+
+  /**
+   * Gets the number of values recorded.
+   *
+   * @return the number of values recorded
+   */
+  public long getCount() {
+    return this.count.sum();
+  }
+
+  /**
+   * Gets the mean of the values recorded.
+   *
+   * @return the mean value, or 0 if none have been recorded
+   */
+  public double getMean() {
+    long recorded = this.count.sum();
+    return recorded == 0 ? 0 : (double) this.sum.sum() / recorded;
+  }
+
+  /**
+   * Gets the largest value recorded.
+   *
+   * @return the largest value, or 0 if none have been recorded
+   */
+  public long getMax() {
+    return this.max.get();
+  }
+
+  /**
+   * Gets the value that the given percent of the recorded values are at or below, rounded up
+   * to the top of its bucket.
+   *
+   * @param percent the percent of values, above 0 and at most 100, such as 50 or 99
+   * @return the value at the percentile, or 0 if none have been recorded
+   * @throws IllegalArgumentException if the percent is not above 0 and at most 100
+   */
+  public long getValueAtPercentile(double percent) {
+    if (percent <= 0 || percent > 100) {
+      throw new IllegalArgumentException("Percent must be above 0 and at most 100");
+    }
+
+    long recorded = this.count.sum();
+    if (recorded == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(percent / 100 * recorded));
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket += 1) {
+      seen += this.counts.get(bucket);
+      if (seen >= rank) {
+        return Math.min(highestValueIn(bucket), this.getMax());
+      }
+    }
+
+    // values recorded while counting can leave the buckets short of the total
+    return this.getMax();
+  }
+
+  /**
+   * Removes every recorded value.
+   */
+  public void reset() {
+    for (int bucket = 0; bucket < BUCKETS; bucket += 1) {
+      this.counts.set(bucket, 0);
+    }
+    this.count.reset();
+    this.sum.reset();
+    this.max.reset();
+  }
+
+  // the bucket the given non-negative value is counted in
+  private static int bucketOf(long value) {
+    if (value < LINEAR_BUCKETS) {
+      return (int) value;
+    }
+
+    // shift the value down until it is between 64 and 127
+    int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+    return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+  }
+
+  // the largest value counted in the given bucket
+  private static long highestValueIn(int bucket) {
+    if (bucket < LINEAR_BUCKETS) {
+      return bucket;
+    }
+
+    int shift = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+    long top = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+    return ((top + 1) << shift) - 1;
+  }
+}
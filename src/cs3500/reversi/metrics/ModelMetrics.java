@@ -0,0 +1,139 @@
+package cs3500.reversi.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counts the calls to the model's expensive operations and the time spent in them. A model
+ * only records into a ModelMetrics once one is given to it, so models that are not measured
+ * pay nothing but a null check. Recording takes no locks, so one ModelMetrics can be shared
+ * by a model and the copies strategies make of it on other threads.
+ */
+public final class ModelMetrics implements ModelMetricsMXBean {
+
+  // the calls and nanoseconds of each operation, by ordinal
+  private final LongAdder[] calls;
+  private final LongAdder[] nanos;
+
+  /**
+   * Constructs a ModelMetrics with no calls recorded.
+   */
+  public ModelMetrics() {
+    int operations = ModelOperation.values().length;
+    this.calls = new LongAdder[operations];
+    this.nanos = new LongAdder[operations];
+    for (int index = 0; index < operations; index += 1) {
+      this.calls[index] = new LongAdder();
+      this.nanos[index] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records one call to the given operation.
+   *
+   * @param operation the operation that was called
+   * @param elapsed   how long the call took, in nanoseconds
+   */
+  public void record(ModelOperation operation, long elapsed) {
+    this.calls[operation.ordinal()].increment();
+    this.nanos[operation.ordinal()].add(elapsed);
+  }
+
+  /**
+   * Gets the number of calls recorded to the given operation.
+   *
+   * @param operation the operation to check
+   * @return the number of calls
+   */
+  public long getCalls(ModelOperation operation) {
+    return this.calls[operation.ordinal()].sum();
+  }
+
+  /**
+   * Gets the total time recorded in the given operation.
+   *
+   * @param operation the operation to check
+   * @return the total time, in nanoseconds
+   */
+  public long getNanos(ModelOperation operation) {
+    return this.nanos[operation.ordinal()].sum();
+  }
+
+  /**
+   * Publishes these metrics on the platform MBean server under
+   * cs3500.reversi:type=ModelMetrics,name=the given name.
+   *
+   * @param name the name to publish the metrics under
+   * @throws IllegalStateException if the metrics cannot be published, such as when the name
+   *                               is already taken
+   */
+  public void register(String name) {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+          new ObjectName("cs3500.reversi:type=ModelMetrics,name=" + name));
+    } catch (JMException e) {
+      throw new IllegalStateException("Could not register model metrics", e);
+    }
+  }
+
+  @Override
+  public long getIsValidMoveForPlayerCalls() {
+    return this.getCalls(ModelOperation.IS_VALID_MOVE_FOR_PLAYER);
+  }
+
+  @Override
+  public long getIsValidMoveForPlayerNanos() {
+    return this.getNanos(ModelOperation.IS_VALID_MOVE_FOR_PLAYER);
+  }
+
+  @Override
+  public long getCheckValidLineMadeCalls() {
+    return this.getCalls(ModelOperation.CHECK_VALID_LINE_MADE);
+  }
+
+  @Override
+  public long getCheckValidLineMadeNanos() {
+    return this.getNanos(ModelOperation.CHECK_VALID_LINE_MADE);
+  }
+
+  @Override
+  public long getGetCellAtCalls() {
+    return this.getCalls(ModelOperation.GET_CELL_AT);
+  }
+
+  @Override
+  public long getGetCellAtNanos() {
+    return this.getNanos(ModelOperation.GET_CELL_AT);
+  }
+
+  @Override
+  public long getGetBoardCopyCalls() {
+    return this.getCalls(ModelOperation.GET_BOARD_COPY);
+  }
+
+  @Override
+  public long getGetBoardCopyNanos() {
+    return this.getNanos(ModelOperation.GET_BOARD_COPY);
+  }
+
+  @Override
+  public long getNotifyListenersCalls() {
+    return this.getCalls(ModelOperation.NOTIFY_LISTENERS);
+  }
+
+  @Override
+  public long getNotifyListenersNanos() {
+    return this.getNanos(ModelOperation.NOTIFY_LISTENERS);
+  }
+
+  @Override
+  public void reset() {
+    for (int index = 0; index < this.calls.length; index += 1) {
+      this.calls[index].reset();
+      this.nanos[index].reset();
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package cs3500.reversi.metrics;
+
+/**
+ * The view of a ModelMetrics that is published over JMX. Times include the time spent in
+ * any measured operations called from within the operation, so isValidMoveForPlayer
+ * includes its calls to checkValidLineMade and getCellAt.
+ */
+public interface ModelMetricsMXBean {
+
+  /**
+   * Gets the number of calls to isValidMoveForPlayer.
+   *
+   * @return the number of calls
+   */
+  long getIsValidMoveForPlayerCalls();
+
+  /**
+   * Gets the total time spent in isValidMoveForPlayer.
+   *
+   * @return the total time, in nanoseconds
+   */
+  long getIsValidMoveForPlayerNanos();
+
+  /**
+   * Gets the number of calls to checkValidLineMade.
+   *
+   * @return the number of calls
+   */
+  long getCheckValidLineMadeCalls();
+
+  /**
+   * Gets the total time spent in checkValidLineMade.
+   *
+   * @return the total time, in nanoseconds
+   */
+  long getCheckValidLineMadeNanos();
+
+  /**
+   * Gets the number of calls to getCellAt.
+   *
+   * @return the number of calls
+   */
+  long getGetCellAtCalls();
+
+  /**
+   * Gets the total time spent in getCellAt.
+   *
+   * @return the total time, in nanoseconds
+   */
+  long getGetCellAtNanos();
+
+  /**
+   * Gets the number of calls to getBoardCopy.
+   *
+   * @return the number of calls
+   */
+  long getGetBoardCopyCalls();
+
+  /**
+   * Gets the total time spent in getBoardCopy.
+   *
+   * @return the total time, in nanoseconds
+   */
+  long getGetBoardCopyNanos();
+
+  /**
+   * Gets the number of times the listeners were notified.
+   *
+   * @return the number of notifications
+   */
+  long getNotifyListenersCalls();
+
+  /**
+   * Gets the total time spent notifying the listeners.
+   *
+   * @return the total time, in nanoseconds
+   */
+  long getNotifyListenersNanos();
+
+  /**
+   * Forgets every call recorded so far.
+   */
+  void reset();
+}
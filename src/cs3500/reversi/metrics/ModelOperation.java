@@ -0,0 +1,12 @@
+package cs3500.reversi.metrics;
+
+/**
+ * The model operations that ModelMetrics counts and times.
+ */
+public enum ModelOperation {
+  IS_VALID_MOVE_FOR_PLAYER,
+  CHECK_VALID_LINE_MADE,
+  GET_CELL_AT,
+  GET_BOARD_COPY,
+  NOTIFY_LISTENERS
+}
@@ -1,6 +1,8 @@
 package cs3500.reversi.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 
@@ -8,13 +10,16 @@ import cs3500.reversi.controller.ComputerPlayer;
 import cs3500.reversi.controller.ModelStatusFeatures;
 import cs3500.reversi.controller.Player;
 import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.metrics.ModelMetrics;
+import cs3500.reversi.metrics.ModelOperation;
 
 /**
  * Represents a basic implementation of a ReversiModel.
  * Abstraction used for hexagonal and square models.
  */
 public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyReversiModel {
-  // the game board, represented as a HashMap of positions to cells
+  // the game board, represented as a HashMap of positions to cells. Cells are only put on
+  // it through setCell, which keeps the piece counts up to date.
   protected final HashMap<GamePosition, Cell> board;
   // the players in the game
   protected final Player playerBlack;
@@ -23,6 +28,8 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
   // INVARIENT: Width must be odd and at least three. Enforced by constructor at
   // construction of BasicReversiModel.
   protected final int width;
+  // the shape of the game board, shared by every model with the same shape and width
+  protected final BoardTopology topology;
   // the turn of the current player
   // INVARIENT: currentPlayer must be either playerBlack or playerWhite. Enforced
   // by changeTurns(),
@@ -40,6 +47,27 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
 
   protected final List<ModelStatusFeatures> controllers;
 
+  // the moves made with applyMove that can still be taken back. Each move pushes the
+  // ordinals of the cells it flipped, then its own ordinal (-1 for a pass), the number of
+  // cells it flipped and the number of consecutive passed turns before it was made.
+  private int[] undoStack;
+  // the number of entries in use at the bottom of the undo stack
+  private int undoSize;
+  // the Zobrist hash of the position, kept up to date by setCell and changeTurns from the
+  // moment the model is made
+  private long positionHash;
+  // where calls to the expensive operations are recorded, null unless the model is measured
+  private ModelMetrics metrics;
+  // the number of pieces each player has on the board
+  private int blackCount;
+  private int whiteCount;
+  // the cell at every position of the regular board by its ordinal in the topology, null
+  // until the position is put on the board. Kept the same as the board by setCell, so cells
+  // can be looked up by index instead of by hashing positions.
+  private final SharedCell[] cells;
+  // the legal moves of both players on the regular board, kept up to date by setCell
+  private final LegalMoveTracker legalMoves;
+
   /**
    * Constructs a new BasicReversiModel with the specified width. The game can
    * only be played on a regular grid of cells, so the width needs to be an odd
@@ -56,10 +84,15 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
     this.playerBlack = new ComputerPlayer(PlayerType.BLACK);
     this.playerWhite = new ComputerPlayer(PlayerType.WHITE);
     this.width = width;
+    this.topology = this.createTopology(width);
+    this.cells = new SharedCell[this.topology.getCellCount()];
+    this.legalMoves = new LegalMoveTracker(this.topology);
     this.currentPlayer = this.playerBlack;
     this.consectivePassedTurns = 0;
     this.gameStarted = false;
     this.controllers = new ArrayList<>();
+    this.undoStack = new int[0];
+    this.undoSize = 0;
   }
 
   /**
@@ -81,10 +114,15 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
     this.playerBlack = playerBlack;
     this.playerWhite = playerWhite;
     this.width = width;
+    this.topology = this.createTopology(width);
+    this.cells = new SharedCell[this.topology.getCellCount()];
+    this.legalMoves = new LegalMoveTracker(this.topology);
     this.currentPlayer = this.playerBlack;
     this.consectivePassedTurns = 0;
     this.gameStarted = false;
     this.controllers = new ArrayList<>();
+    this.undoStack = new int[0];
+    this.undoSize = 0;
   }
 
   /**
@@ -109,10 +147,18 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
     this.playerBlack = new ComputerPlayer(PlayerType.BLACK);
     this.playerWhite = new ComputerPlayer(PlayerType.WHITE);
     this.width = width;
+    this.topology = this.createTopology(width);
+    this.cells = new SharedCell[this.topology.getCellCount()];
+    this.legalMoves = new LegalMoveTracker(this.topology);
     this.currentPlayer = currentPlayer;
+    if (this.isWhiteTurn()) {
+      this.positionHash = this.topology.getWhiteTurnKey();
+    }
     this.consectivePassedTurns = 0;
     this.gameStarted = false;
     this.controllers = new ArrayList<>();
+    this.undoStack = new int[0];
+    this.undoSize = 0;
   }
 
   /**
@@ -124,10 +170,15 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
     this.playerBlack = new ComputerPlayer(PlayerType.BLACK);
     this.playerWhite = new ComputerPlayer(PlayerType.WHITE);
     this.width = 11;
+    this.topology = this.createTopology(11);
+    this.cells = new SharedCell[this.topology.getCellCount()];
+    this.legalMoves = new LegalMoveTracker(this.topology);
     this.currentPlayer = this.playerBlack;
     this.consectivePassedTurns = 0;
     this.gameStarted = false;
     this.controllers = new ArrayList<>();
+    this.undoStack = new int[0];
+    this.undoSize = 0;
   }
 
   /**
@@ -143,9 +194,9 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
   public String getCurrentWinner() {
     // returns the current winning player, white player if tied because black goes
     // first
-    if (this.getCurrentScore(PlayerType.BLACK) > this.getCurrentScore(PlayerType.WHITE)) {
+    if (this.blackCount > this.whiteCount) {
       return this.playerBlack.toString();
-    } else if (this.getCurrentScore(PlayerType.BLACK) == this.getCurrentScore(PlayerType.WHITE)) {
+    } else if (this.blackCount == this.whiteCount) {
       return "Tie";
     } else {
       return this.playerWhite.toString();
@@ -159,7 +210,7 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
 
   // helper that handles if the given position does not exist in this game.
   protected void doesPosnExist(GamePosition posn) {
-    if (!board.containsKey(posn)) {
+    if (this.cellAt(posn) == null) {
       throw new IllegalArgumentException("Nonexistant position in this game");
     }
   }
@@ -180,17 +231,60 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
 
   @Override
   public int getCurrentScore(PlayerType playerType) {
-    int score = 0;
+    // the counts are kept as pieces are placed and flipped, so nothing has to be counted
+    if (playerType.equals(PlayerType.BLACK)) {
+      return this.blackCount;
+    } else {
+      return this.whiteCount;
+    }
+  }
 
-    // iterate over the board and count the number of cells owned by the given
-    for (Cell cell : this.board.values()) {
-      if (cell.getCellType().equals(CellType.Player)
-              && cell.getCellOwner().equals(new ComputerPlayer(playerType).toString())) {
-        score += 1;
-      }
+  // helper for putting the given cell at the given position as a shared cell, keeping the
+  // piece counts and the hash up to date
+  protected void setCell(GamePosition posn, Cell cell) {
+    SharedCell shared = SharedCell.of(cell);
+    this.countPiece(this.board.put(posn, shared), -1);
+    this.countPiece(shared, 1);
+
+    int ordinal = this.topology.getOrdinal(posn);
+    if (ordinal >= 0) {
+      this.hashPiece(ordinal, this.cells[ordinal]);
+      this.hashPiece(ordinal, shared);
+      this.cells[ordinal] = shared;
+      this.legalMoves.setOwner(ordinal, shared);
+    }
+  }
+
+  // the cell at the given position, looked up by ordinal when it is on the regular board,
+  // or null if the position is not on the board
+  private SharedCell cellAt(GamePosition posn) {
+    int ordinal = this.topology.getOrdinal(posn);
+    if (ordinal >= 0) {
+      return this.cells[ordinal];
+    }
+
+    Cell cell = this.board.get(posn);
+    return cell == null ? null : SharedCell.of(cell);
+  }
+
+  // whether the board has positions off the regular board, which the legal moves that are
+  // kept do not cover
+  private boolean hasOffBoardPositions() {
+    return this.board.size() != this.topology.getCellCount();
+  }
+
+  // adds the given change to the count of the owner of the given cell, if it has one
+  private void countPiece(Cell cell, int change) {
+    if (cell == null) {
+      return;
     }
 
-    return score;
+    SharedCell owner = SharedCell.of(cell);
+    if (owner == SharedCell.BLACK) {
+      this.blackCount += change;
+    } else if (owner == SharedCell.WHITE) {
+      this.whiteCount += change;
+    }
   }
 
   @Override
@@ -200,22 +294,17 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
 
   @Override
   public Cell getCellAt(GamePosition posn) {
-    doesPosnExist(posn);
-
-    Cell cellAtPosn = this.board.get(posn);
-    Cell cellToReturn = new GameCell(cellAtPosn.getCellType());
-
-    // if the cell at the given position is a player cell, set the cell to the
-    // proper player
-    if (cellAtPosn.sameCellType(CellType.Player)) {
-      if (cellAtPosn.getCellOwner().equals("X")) {
-        cellToReturn.setCellToPlayer(new ComputerPlayer(PlayerType.BLACK));
-      } else {
-        cellToReturn.setCellToPlayer(new ComputerPlayer(PlayerType.WHITE));
+    long start = this.startTiming();
+    try {
+      Cell cellToReturn = this.cellAt(posn);
+      if (cellToReturn == null) {
+        throw new IllegalArgumentException("Nonexistant position in this game");
       }
-    }
 
-    return cellToReturn;
+      return cellToReturn;
+    } finally {
+      this.stopTiming(ModelOperation.GET_CELL_AT, start);
+    }
   }
 
   @Override
@@ -231,6 +320,20 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
     } else {
       this.currentPlayer = this.playerBlack;
     }
+    this.positionHash ^= this.topology.getWhiteTurnKey();
+  }
+
+  // whether it is currently white's turn
+  private boolean isWhiteTurn() {
+    return this.currentPlayer.toString().equals("O");
+  }
+
+  // mixes the key of the given cell's piece at the given ordinal into the hash, which adds
+  // the piece if it was not there and takes it out if it was
+  private void hashPiece(int ordinal, SharedCell cell) {
+    if (cell == SharedCell.BLACK || cell == SharedCell.WHITE) {
+      this.positionHash ^= this.topology.getPieceKey(ordinal, cell == SharedCell.WHITE);
+    }
   }
 
   @Override
@@ -246,9 +349,7 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
     // change the active player's turn.
     this.changeTurns();
 
-    for (ModelStatusFeatures f : this.controllers) {
-      f.notifyToRefresh(this.getCurrentTurn());
-    }
+    this.notifyListeners();
   }
 
   @Override
@@ -267,14 +368,35 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
     this.gameStarted = true;
 
     // notify the controller to refresh the views
-    for (ModelStatusFeatures f : this.controllers) {
-      f.notifyToRefresh(this.getCurrentTurn());
-    }
+    this.notifyListeners();
   }
 
   // helper for making sure the width is correct
   protected abstract void isWidthCorrect(int width);
 
+  // helper for getting the shape of a board with the given width
+  protected abstract BoardTopology createTopology(int width);
+
+  // helper for making a model of the same kind and width from the given board, with the
+  // given player to move
+  protected abstract ABasicReversiModel createCopy(HashMap<GamePosition, Cell> board,
+                                                   Player currentPlayer);
+
+  @Override
+  public ReversiModel copy() {
+    PlayerType turn = PlayerType.BLACK;
+    if (this.isWhiteTurn()) {
+      turn = PlayerType.WHITE;
+    }
+
+    ABasicReversiModel copy = this.createCopy(this.getBoardCopy(), ComputerPlayer.of(turn));
+    copy.consectivePassedTurns = this.consectivePassedTurns;
+    copy.gameStarted = this.gameStarted;
+    copy.positionHash = this.positionHash;
+    copy.metrics = this.metrics;
+    return copy;
+  }
+
   @Override
   public int getScoreForMove(GamePosition posn) {
     // Get the list of valid positions to add a piece to on this move.
@@ -292,22 +414,31 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
    *     the move is invalid.
    */
   protected List<GamePosition> isValidMoveForPlayer(GamePosition givenPosn, Player playerTurn) {
-    Player otherPlayer = playerTurn.getOppositePlayer();
-    ArrayList<GamePosition> allCellsBetween = new ArrayList<>();
-    List<GamePosition> surroundingCells = this.getSurroundingCells(givenPosn);
-
-    // iterate over the surrounding positions adjacent to the given position
-    for (GamePosition posn : surroundingCells) {
-      // see if the cell at the surrounding position is owned by the other player
-      // and if there is a valid line of cells after it, all cells in this line are
-      // returned
-      if (this.getCellAt(posn).getCellType().equals(CellType.Player)
-              && this.getCellAt(posn).getCellOwner().equals(otherPlayer.toString())) {
-        allCellsBetween.addAll(this.checkValidLineMade(givenPosn, posn, playerTurn));
+    long start = this.startTiming();
+    try {
+      SharedCell opponent = SharedCell.of(playerTurn).opponent();
+      ArrayList<GamePosition> allCellsBetween = new ArrayList<>();
+      List<GamePosition> surroundingCells = this.getSurroundingCells(givenPosn);
+
+      // iterate over the surrounding positions adjacent to the given position
+      for (GamePosition posn : surroundingCells) {
+        // see if the cell at the surrounding position is owned by the other player
+        // and if there is a valid line of cells after it, all cells in this line are
+        // returned
+        if (this.getCellAt(posn) == opponent) {
+          long lineStart = this.startTiming();
+          try {
+            allCellsBetween.addAll(this.checkValidLineMade(givenPosn, posn, playerTurn));
+          } finally {
+            this.stopTiming(ModelOperation.CHECK_VALID_LINE_MADE, lineStart);
+          }
+        }
       }
-    }
 
-    return allCellsBetween;
+      return allCellsBetween;
+    } finally {
+      this.stopTiming(ModelOperation.IS_VALID_MOVE_FOR_PLAYER, start);
+    }
   }
 
   @Override
@@ -328,6 +459,15 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
 
   protected List<GamePosition> getSurroundingCells(GamePosition givenPosn) {
     ArrayList<GamePosition> surroundingCells = new ArrayList<>();
+    int ordinal = this.topology.getOrdinal(givenPosn);
+
+    // positions on the regular board already know their neighbors
+    if (ordinal >= 0) {
+      for (int neighbor : this.topology.getNeighbors(ordinal)) {
+        surroundingCells.add(this.topology.getPosition(neighbor));
+      }
+      return surroundingCells;
+    }
 
     for (GamePosition posn : this.board.keySet()) {
       if (posn.isNextTo(givenPosn)) {
@@ -338,10 +478,282 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
     return surroundingCells;
   }
 
+  /**
+   * Walks down the line that starts at the given position and passes through the given
+   * neighboring position, collecting the cells that the given player would flip by
+   * playing at the starting position.
+   *
+   * @param givenPosn  The starting position.
+   * @param posn       The neighboring position that gives the direction of the line.
+   * @param playerTurn The player whose turn it currently is.
+   * @return The positions on the line that would be flipped, or an empty list if the
+   *     line is not closed off by one of the player's pieces.
+   */
+  protected List<GamePosition> walkLine(GamePosition givenPosn, GamePosition posn,
+                                        Player playerTurn) {
+    ArrayList<GamePosition> cellsBetween = new ArrayList<>();
+    int next = this.topology.getOrdinal(posn);
+    int direction = -1;
+    if (next >= 0) {
+      direction = this.topology.getDirection(givenPosn, posn);
+    }
+
+    // only positions one step apart make a line, and the line has to reach the board
+    if (direction < 0) {
+      return cellsBetween;
+    }
+
+    // the neighbor is the first cell on the line, and the rest is the neighbor's own line
+    // in the same direction. This also works when the given position is just off the board.
+    SharedCell own = SharedCell.of(playerTurn);
+    SharedCell opponent = own.opponent();
+    int[] ray = this.topology.getRay(next, direction);
+    for (int step = -1; step < ray.length; step += 1) {
+      int current = step < 0 ? next : ray[step];
+      SharedCell owner = this.ownerAt(current);
+
+      // if cell is owned by player with next turn, add it to list
+      if (owner == opponent) {
+        cellsBetween.add(this.topology.getPosition(current));
+      } else if (owner == own) {
+        return cellsBetween;
+      } else {
+        cellsBetween.clear();
+        return cellsBetween;
+      }
+    }
+
+    // the line ran off the edge of the board without being closed off
+    cellsBetween.clear();
+    return cellsBetween;
+  }
+
+  @Override
+  public int getLegalMoves(PlayerType playerType, int[] moves, int[] flips) {
+    checkMoveBuffers(moves, flips, this.getBoardSize());
+
+    // the legal moves that are kept do not cover positions off the regular board, or lines
+    // through them, so such a board has to be checked cell by cell
+    if (this.hasOffBoardPositions()) {
+      return this.findLegalMoves(ComputerPlayer.of(playerType), moves, flips);
+    }
+
+    SharedCell own = SharedCell.of(playerType);
+    SharedCell opponent = own.opponent();
+    int count = 0;
+
+    // only the legal moves that are kept are counted, in ordinal order
+    BitSet legal = this.legalMoves.getMoves(own);
+    for (int ordinal = legal.nextSetBit(0); ordinal >= 0;
+         ordinal = legal.nextSetBit(ordinal + 1)) {
+      moves[count] = ordinal;
+      flips[count] = this.countFlips(ordinal, own, opponent);
+      count += 1;
+    }
+
+    return count;
+  }
+
+  // finds the legal moves of the given player by checking every position of the board, in
+  // ordinal order, putting their ordinals and the number of pieces they flip in the given
+  // arrays. Returns the number of legal moves.
+  private int findLegalMoves(Player player, int[] moves, int[] flips) {
+    int count = 0;
+    for (int ordinal = 0; ordinal < this.topology.getCellCount(); ordinal += 1) {
+      count = this.addIfLegal(this.topology.getPosition(ordinal), ordinal, player, moves,
+          flips, count);
+    }
+
+    // positions off the regular board come after it, in the order the board holds them
+    int ordinal = this.topology.getCellCount();
+    for (GamePosition posn : this.board.keySet()) {
+      if (this.topology.getOrdinal(posn) < 0) {
+        count = this.addIfLegal(posn, ordinal, player, moves, flips, count);
+        ordinal += 1;
+      }
+    }
+
+    return count;
+  }
+
+  // adds the given position with the given ordinal to the given legal moves if it is a legal
+  // move for the given player, and returns the new number of legal moves
+  private int addIfLegal(GamePosition posn, int ordinal, Player player, int[] moves,
+                         int[] flips, int count) {
+    if (this.cellAt(posn) != SharedCell.EMPTY) {
+      return count;
+    }
+
+    int flipped = this.isValidMoveForPlayer(posn, player).size();
+    if (flipped == 0) {
+      return count;
+    }
+
+    moves[count] = ordinal;
+    flips[count] = flipped;
+    return count + 1;
+  }
+
+  @Override
+  public GamePosition getPositionAt(int ordinal) {
+    if (ordinal >= 0 && ordinal < this.topology.getCellCount()) {
+      return this.topology.getPosition(ordinal);
+    }
+
+    // positions given off the regular board come after it, in the order the board holds them
+    int offBoard = ordinal - this.topology.getCellCount();
+    if (offBoard >= 0) {
+      for (GamePosition posn : this.board.keySet()) {
+        if (this.topology.getOrdinal(posn) < 0) {
+          if (offBoard == 0) {
+            return posn;
+          }
+          offBoard -= 1;
+        }
+      }
+    }
+
+    throw new IllegalArgumentException("Nonexistant position in this game");
+  }
+
+  // helper for making sure the arrays given to getLegalMoves can hold every move
+  static void checkMoveBuffers(int[] moves, int[] flips, int boardSize) {
+    if (moves.length < boardSize || flips.length < boardSize) {
+      throw new IllegalArgumentException("Move arrays must have room for every cell");
+    }
+  }
+
+  // counts the pieces owned by the opponent that would be flipped by a move at the given
+  // ordinal, walking each precomputed line without building any lists
+  private int countFlips(int ordinal, SharedCell own, SharedCell opponent) {
+    int flips = 0;
+
+    for (int direction = 0; direction < this.topology.getDirectionCount(); direction += 1) {
+      int[] ray = this.topology.getRay(ordinal, direction);
+      int length = 0;
+
+      // walk over the opponent's pieces until something else is found
+      while (length < ray.length && this.ownerAt(ray[length]) == opponent) {
+        length += 1;
+      }
+
+      // the line only counts if it is closed off by one of the player's own pieces
+      if (length > 0 && length < ray.length && this.ownerAt(ray[length]) == own) {
+        flips += length;
+      }
+    }
+
+    return flips;
+  }
+
+  @Override
+  public void applyMove(int ordinal) {
+    int previousPasses = this.consectivePassedTurns;
+
+    // passing only changes whose turn it is
+    if (ordinal == this.getBoardSize()) {
+      this.pushUndo(-1);
+      this.pushUndo(0);
+      this.pushUndo(previousPasses);
+      this.consectivePassedTurns += 1;
+      this.changeTurns();
+      return;
+    }
+
+    GamePosition posn = this.getPositionAt(ordinal);
+    int cell = this.topology.getOrdinal(posn);
+    if (cell < 0 || this.cells[cell] != SharedCell.EMPTY) {
+      throw new IllegalStateException("Move cannot be made");
+    }
+
+    SharedCell own = this.currentPlayerCell();
+    SharedCell opponent = own.opponent();
+    int flipped = 0;
+
+    for (int direction = 0; direction < this.topology.getDirectionCount(); direction += 1) {
+      int[] ray = this.topology.getRay(cell, direction);
+      int length = 0;
+
+      // walk over the opponent's pieces until something else is found
+      while (length < ray.length && this.ownerAt(ray[length]) == opponent) {
+        length += 1;
+      }
+
+      // flip the line only if it is closed off by one of the player's own pieces
+      if (length > 0 && length < ray.length && this.ownerAt(ray[length]) == own) {
+        for (int i = 0; i < length; i += 1) {
+          this.pushUndo(ray[i]);
+          this.setCell(this.topology.getPosition(ray[i]), own);
+        }
+        flipped += length;
+      }
+    }
+
+    if (flipped == 0) {
+      throw new IllegalStateException("Move cannot be made");
+    }
+
+    // place the piece
+    this.setCell(posn, own);
+
+    this.pushUndo(cell);
+    this.pushUndo(flipped);
+    this.pushUndo(previousPasses);
+    this.consectivePassedTurns = 0;
+    this.changeTurns();
+  }
+
+  @Override
+  public void undoMove() {
+    if (this.undoSize == 0) {
+      throw new IllegalStateException("No move to undo");
+    }
+
+    this.consectivePassedTurns = this.undoStack[--this.undoSize];
+    int flipped = this.undoStack[--this.undoSize];
+    int cell = this.undoStack[--this.undoSize];
+    this.changeTurns();
+
+    if (cell >= 0) {
+      SharedCell opponent = this.currentPlayerCell().opponent();
+
+      // empty the cell again and give every flipped cell back to the opponent
+      this.setCell(this.topology.getPosition(cell), SharedCell.EMPTY);
+      for (int i = 0; i < flipped; i += 1) {
+        int flippedCell = this.undoStack[--this.undoSize];
+        this.setCell(this.topology.getPosition(flippedCell), opponent);
+      }
+    }
+  }
+
+  // the shared cell owned by the player whose turn it is
+  private SharedCell currentPlayerCell() {
+    if (this.isWhiteTurn()) {
+      return SharedCell.WHITE;
+    } else {
+      return SharedCell.BLACK;
+    }
+  }
+
+  // the shared cell of the owner of the cell at the given ordinal of the topology
+  private SharedCell ownerAt(int ordinal) {
+    return this.cells[ordinal];
+  }
+
+  // pushes a value onto the undo stack, growing it when it is full
+  private void pushUndo(int value) {
+    if (this.undoSize == this.undoStack.length) {
+      this.undoStack = Arrays.copyOf(this.undoStack, Math.max(64, this.undoStack.length * 2));
+    }
+
+    this.undoStack[this.undoSize] = value;
+    this.undoSize += 1;
+  }
+
   // helper for changing the ownership of cells between the given positions
   protected void changeAllCellsBetween(List<GamePosition> posnBetween) {
     for (GamePosition posn : posnBetween) {
-      this.board.get(posn).setCellToPlayer(this.currentPlayer);
+      this.setCell(posn, this.currentPlayerCell());
     }
   }
 
@@ -358,6 +770,13 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
       return true;
     }
 
+    // the legal moves are kept as the board changes, so only a board with positions off
+    // the regular board has to be checked cell by cell
+    if (!this.hasOffBoardPositions()) {
+      return this.legalMoves.getMoveCount(SharedCell.BLACK) == 0
+          && this.legalMoves.getMoveCount(SharedCell.WHITE) == 0;
+    }
+
     // for every position on the board, check if the current player has any valid
     // moves
     for (GamePosition posn : this.board.keySet()) {
@@ -373,6 +792,11 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
 
   @Override
   public boolean doesCurrentPlayerHaveValidMovesPosn(GamePosition posn, Player playerTurn) {
+    int ordinal = this.topology.getOrdinal(posn);
+    if (ordinal >= 0 && this.cells[ordinal] != null) {
+      return this.legalMoves.isLegal(ordinal, SharedCell.of(playerTurn));
+    }
+
     if (this.getCellAt(posn).sameCellType(CellType.Empty)) {
       return !(this.isValidMoveForPlayer(posn, playerTurn).isEmpty());
     } else {
@@ -382,6 +806,10 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
 
   @Override
   public boolean doesCurrentPlayerHaveValidMoves() {
+    if (!this.hasOffBoardPositions()) {
+      return this.legalMoves.getMoveCount(this.currentPlayerCell()) > 0;
+    }
+
     // for every position on the board, check if the current player has any valid
     // moves
     for (GamePosition posn : this.board.keySet()) {
@@ -408,14 +836,8 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
 
     if (!validTiles.isEmpty()) {
 
-      // create a player cell to represent the player's piece.
-      Cell playerCell = new GameCell(CellType.Player);
-
-      // set the owner of the player cell to the current player.
-      playerCell.setCellToPlayer(this.currentPlayer);
-
-      // place the player cell on the game board at the specified position.
-      this.board.put(posn, playerCell);
+      // place the current player's cell on the game board at the specified position.
+      this.setCell(posn, this.currentPlayerCell());
 
       // change the ownership of cells between the specified positions.
       this.changeAllCellsBetween(validTiles);
@@ -428,11 +850,65 @@ public abstract class ABasicReversiModel implements ReversiModel, ReadOnlyRevers
       // integer.
       this.consectivePassedTurns = 0;
 
+      this.notifyListeners();
+    } else {
+      throw new IllegalStateException("Move cannot be made");
+    }
+  }
+
+  /**
+   * Gets the ordinals of the cells the given player can play on the regular board, as
+   * given by getPositionAt. The model keeps these as the board changes, only checking again
+   * the cells that can see a changed cell, so asking for them costs little. The returned set
+   * is a copy, so changing it does not change the model.
+   *
+   * @param playerType the player whose moves to get
+   * @return the ordinals of the player's legal moves
+   */
+  public BitSet getLegalMoveSet(PlayerType playerType) {
+    return (BitSet) this.legalMoves.getMoves(SharedCell.of(playerType)).clone();
+  }
+
+  /**
+   * Starts recording the calls to this model's expensive operations, and the time spent in
+   * them, into the given metrics, or stops recording if it is null. Copies made of this
+   * model record into the same metrics. The metrics should be set before the model is
+   * shared with other threads, since they are read without synchronization to keep the
+   * unmeasured model as fast as it was.
+   *
+   * @param metrics the metrics to record into, or null to stop recording
+   */
+  public void setMetrics(ModelMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  // helper that gets the time an operation started, or 0 if the model is not measured
+  protected long startTiming() {
+    return this.metrics == null ? 0 : System.nanoTime();
+  }
+
+  // helper that records a call to the given operation that started at the given time
+  protected void stopTiming(ModelOperation operation, long start) {
+    ModelMetrics current = this.metrics;
+    if (current != null && start != 0) {
+      current.record(operation, System.nanoTime() - start);
+    }
+  }
+
+  // helper that tells every listener to refresh, recording how long they took
+  private void notifyListeners() {
+    long start = this.startTiming();
+    try {
       for (ModelStatusFeatures f : this.controllers) {
         f.notifyToRefresh(this.getCurrentTurn());
       }
-    } else {
-      throw new IllegalStateException("Move cannot be made");
+    } finally {
+      this.stopTiming(ModelOperation.NOTIFY_LISTENERS, start);
     }
   }
+
+  @Override
+  public long getPositionHash() {
+    return this.positionHash;
+  }
 }
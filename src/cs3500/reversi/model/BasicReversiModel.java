@@ -1,12 +1,12 @@
 package cs3500.reversi.model;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import cs3500.reversi.controller.ComputerPlayer;
 import cs3500.reversi.controller.Player;
 import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.metrics.ModelOperation;
 
 /**
  * Represents the model of a Reversi game. Manages the game board, players, and
@@ -77,7 +77,7 @@ public class BasicReversiModel extends ABasicReversiModel {
     this.addStartingPieces();
 
     for (GamePosition posn : board.keySet()) {
-      this.board.put(posn, board.get(posn));
+      this.setCell(posn, board.get(posn));
     }
   }
 
@@ -94,25 +94,15 @@ public class BasicReversiModel extends ABasicReversiModel {
 
   @Override
   public HashMap<GamePosition, Cell> getBoardCopy() {
-    HashMap<GamePosition, Cell> boardCopy = new HashMap<>();
+    long start = this.startTiming();
+    HashMap<GamePosition, Cell> boardCopy = new HashMap<>(this.board.size() * 2);
 
-    // iterate over the board and create a deep copy of each cell
-    for (GamePosition posn : this.board.keySet()) {
-      GamePosition posnCopy = new PositionAxial(posn.getQ(), posn.getR(), posn.getS());
-      Cell cell = this.board.get(posn);
-      Cell cellCopy = new GameCell(cell.getCellType());
-
-      if (cell.sameCellType(CellType.Player)) {
-        if (cell.getCellOwner().equals("X")) {
-          cellCopy.setCellToPlayer(new ComputerPlayer(PlayerType.BLACK));
-        } else {
-          cellCopy.setCellToPlayer(new ComputerPlayer(PlayerType.WHITE));
-        }
-      }
-
-      boardCopy.put(posnCopy, cellCopy);
+    // positions and shared cells cannot be changed, so the copy shares them with the board
+    for (Map.Entry<GamePosition, Cell> entry : this.board.entrySet()) {
+      boardCopy.put(entry.getKey(), SharedCell.of(entry.getValue()));
     }
 
+    this.stopTiming(ModelOperation.GET_BOARD_COPY, start);
     return boardCopy;
   }
 
@@ -138,8 +128,7 @@ public class BasicReversiModel extends ABasicReversiModel {
 
       for (int currentS = currentRowStartingS; currentS >= currentRowStartingQ; currentS -= 1) {
         // create empty cell and add it to the board at the current position
-        this.board.put(new PositionAxial(currentQ, currentR, currentS),
-            new GameCell(CellType.Empty));
+        this.setCell(new PositionAxial(currentQ, currentR, currentS), SharedCell.EMPTY);
         // move to the next q coordinate in the row
         currentQ += 1;
       }
@@ -164,12 +153,6 @@ public class BasicReversiModel extends ABasicReversiModel {
    * positions.
    */
   private void addStartingPieces() {
-    Cell whiteCell = new GameCell(CellType.Player);
-    whiteCell.setCellToPlayer(new ComputerPlayer(PlayerType.WHITE));
-
-    Cell blackCell = new GameCell(CellType.Player);
-    blackCell.setCellToPlayer(new ComputerPlayer(PlayerType.BLACK));
-
     // setting initial player positions
     this.initializeCell(-1, 0, 1, PlayerType.WHITE);
     this.initializeCell(0, -1, 1, PlayerType.BLACK);
@@ -181,8 +164,7 @@ public class BasicReversiModel extends ABasicReversiModel {
 
   // helper for initializing a cell to be occupied by a player
   private void initializeCell(int q, int r, int s, PlayerType type) {
-    this.board.put(new PositionAxial(q, r, s), new GameCell(CellType.Player));
-    this.board.get(new PositionAxial(q, r, s)).setCellToPlayer(new ComputerPlayer(type));
+    this.setCell(new PositionAxial(q, r, s), SharedCell.of(type));
   }
 
   /**
@@ -197,137 +179,26 @@ public class BasicReversiModel extends ABasicReversiModel {
    */
   protected List<GamePosition> checkValidLineMade(GamePosition givenPosn, GamePosition posn,
       Player playerTurn) {
-    ArrayList<GamePosition> cellsBetween = new ArrayList<>();
-
-    // check if given and ending positions share Q coordinates
-    if (givenPosn.getQ() == posn.getQ()) {
-
-      if (givenPosn.getR() < posn.getR()) {
-        // determine the range of R and S coordinates between the two positions.
-        int startingPositionR = Math.min(givenPosn.getR(), posn.getR());
-        int startingPositionS = Math.max(givenPosn.getS(), posn.getS());
-        this.goDownLine(startingPositionR, startingPositionS, cellsBetween, "q",
-            givenPosn.getQ(), true, playerTurn);
-      } else {
-        int startingPositionR = Math.max(givenPosn.getR(), posn.getR());
-        int startingPositionS = Math.min(givenPosn.getS(), posn.getS());
-        this.goDownLine(startingPositionS, startingPositionR, cellsBetween, "q",
-            givenPosn.getQ(), false, playerTurn);
-      }
-    }
-
-    // check if given and ending positions share R coordinates
-    if (givenPosn.getR() == posn.getR()) {
-      if (givenPosn.getQ() < posn.getQ()) {
-        // determine the range of Q and S coordinates between the two positions.
-        int startingPositionQ = Math.min(givenPosn.getQ(), posn.getQ());
-        int startingPositionS = Math.max(givenPosn.getS(), posn.getS());
-        this.goDownLine(startingPositionQ, startingPositionS, cellsBetween, "r",
-            givenPosn.getR(), true, playerTurn);
-      } else {
-        int startingPositionQ = Math.max(givenPosn.getQ(), posn.getQ());
-        int startingPositionS = Math.min(givenPosn.getS(), posn.getS());
-        this.goDownLine(startingPositionS, startingPositionQ, cellsBetween, "r",
-            givenPosn.getR(), false, playerTurn);
-      }
-    }
-
-    // check if given and ending positions share S coordinates
-    if (givenPosn.getS() == posn.getS()) {
-      if (givenPosn.getQ() < posn.getQ()) {
-        // determine the range of Q and R coordinates between the two positions.
-        int startingPositionQ = Math.min(givenPosn.getQ(), posn.getQ());
-        int startingPositionR = Math.max(givenPosn.getR(), posn.getR());
-        this.goDownLine(startingPositionQ, startingPositionR, cellsBetween, "s",
-            givenPosn.getS(), true, playerTurn);
-      } else {
-        int startingPositionQ = Math.max(givenPosn.getQ(), posn.getQ());
-        int startingPositionR = Math.min(givenPosn.getR(), posn.getR());
-        this.goDownLine(startingPositionR, startingPositionQ, cellsBetween, "s",
-            givenPosn.getS(), false, playerTurn);
-      }
-    }
-
-    return cellsBetween;
+    // the two positions share exactly one of the q, r and s coordinates, so the
+    // line between them is one of the six precomputed lines of the given position
+    return this.walkLine(givenPosn, posn, playerTurn);
   }
 
-  // traverses positions on the game board based on the direction and row type
-  // and adds it to the list if it will be converted by the current player with
-  // a proper move
-  private void goDownLine(int incrementStartingPostion, int decrementStartingPosition,
-      ArrayList<GamePosition> cellsBetween, String row, int constantPosition,
-      boolean foward, Player playerTurn) {
-    // iterate through the range of coordinates and check for valid positions.
-    while (true) {
-      incrementStartingPostion += 1;
-      decrementStartingPosition -= 1;
-
-      // calculate current position based on direction
-      GamePosition currentPosition = this.calculateStartingPosition(foward, row,
-          incrementStartingPostion, decrementStartingPosition, constantPosition);
-
-      // check if the position exists on the board and is owned by the other player.
-      // if so, clear the list
-      // if not, add the current position to the list
-      if (!this.board.containsKey(currentPosition)) {
-        cellsBetween.clear();
-        break;
-      }
-
-      // if cell is owned by player with next turn, add it to list
-      if (!this.getCellAt(currentPosition).getCellOwner()
-          .equals(playerTurn.getOppositePlayer().toString())) {
-        if (this.getCellAt(currentPosition).getCellOwner()
-            .equals(playerTurn.toString())) {
-          break;
-        } else {
-          cellsBetween.clear();
-          break;
-        }
-      } else {
-        cellsBetween.add(currentPosition);
-      }
-    }
-  }
-
-  // return the starting position for the line being made, depending on direction
-  // given
-  private GamePosition calculateStartingPosition(boolean foward, String row,
-      int incrementStartingPostion,
-      int decrementStartingPosition,
-      int constantPosition) {
-    // calculate current position based on forward direction
-    if (foward) {
-      return getGamePosition(row, incrementStartingPostion, decrementStartingPosition,
-              constantPosition);
-    }
-    // calculate current position based on backward direction
-    else {
-      return getGamePosition(row, decrementStartingPosition, incrementStartingPostion,
-              constantPosition);
+  @Override
+  protected void isWidthCorrect(int width) {
+    if (width < 3 || width % 2 == 0) {
+      throw new IllegalArgumentException("Width must be odd and at least three.");
     }
   }
 
-  private GamePosition getGamePosition(String row, int incrementStartingPostion,
-                                       int decrementStartingPosition, int constantPosition) {
-    if (row.equalsIgnoreCase("s")) {
-      return new PositionAxial(incrementStartingPostion, decrementStartingPosition,
-          constantPosition);
-    } else if (row.equalsIgnoreCase("r")) {
-      return new PositionAxial(incrementStartingPostion, constantPosition,
-          decrementStartingPosition);
-    } else if (row.equalsIgnoreCase("q")) {
-      return new PositionAxial(constantPosition, incrementStartingPostion,
-          decrementStartingPosition);
-    } else {
-      throw new IllegalArgumentException("Invalid row given");
-    }
+  @Override
+  protected BoardTopology createTopology(int width) {
+    return BoardTopology.hexagonal(width);
   }
 
   @Override
-  protected void isWidthCorrect(int width) {
-    if (width < 3 || width % 2 == 0) {
-      throw new IllegalArgumentException("Width must be odd and at least three.");
-    }
+  protected ABasicReversiModel createCopy(HashMap<GamePosition, Cell> board,
+                                          Player currentPlayer) {
+    return new BasicReversiModel(this.width, board, currentPlayer);
   }
 }
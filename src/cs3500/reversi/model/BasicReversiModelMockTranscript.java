@@ -1,6 +1,7 @@
 package cs3500.reversi.model;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 
@@ -35,6 +36,10 @@ public class BasicReversiModelMockTranscript implements ReversiModel {
   private boolean gameStarted;
   // the log of the game
   final StringBuilder log;
+  // the positions of the board, indexed by the ordinals handed out by getLegalMoves
+  private List<GamePosition> ordinalPositions;
+  // the cells replaced by each move made with applyMove, most recent last
+  private final List<HashMap<PositionAxial, Cell>> replacedCells = new ArrayList<>();
 
   /**
    * Constructs a new BasicReversiModelMockTranscript with the specified width.
@@ -599,6 +604,128 @@ public class BasicReversiModelMockTranscript implements ReversiModel {
     }
   }
 
+  /**
+   * Finds the legal moves the same way the strategies used to, by asking about every
+   * position in a copy of the board, so that the log still records each position that is
+   * scored. Ordinals are indices into the order the copy's positions are visited in.
+   */
+  @Override
+  public int getLegalMoves(PlayerType playerType, int[] moves, int[] flips) {
+    List<GamePosition> positions = this.getOrdinalPositions();
+    int count = 0;
+
+    for (int ordinal = 0; ordinal < positions.size(); ordinal += 1) {
+      GamePosition posn = positions.get(ordinal);
+      if (this.doesCurrentPlayerHaveValidMovesPosn(posn, new ComputerPlayer(playerType))) {
+        moves[count] = ordinal;
+        flips[count] = this.getScoreForMove(posn);
+        count += 1;
+      }
+    }
+
+    return count;
+  }
+
+  @Override
+  public GamePosition getPositionAt(int ordinal) {
+    List<GamePosition> positions = this.getOrdinalPositions();
+    if (ordinal < 0 || ordinal >= positions.size()) {
+      throw new IllegalArgumentException("Nonexistant position in this game");
+    }
+
+    return positions.get(ordinal);
+  }
+
+  @Override
+  public void applyMove(int ordinal) {
+    HashMap<PositionAxial, Cell> replaced = new HashMap<>();
+
+    if (ordinal != this.getBoardSize()) {
+      PositionAxial posn = (PositionAxial) this.getPositionAt(ordinal);
+      List<PositionAxial> flipped = this.isValidMoveForPlayer(posn, this.currentPlayer);
+      if (!this.board.get(posn).sameCellType(CellType.Empty) || flipped.isEmpty()) {
+        throw new IllegalStateException("Move cannot be made");
+      }
+
+      replaced.put(posn, this.board.get(posn));
+      for (PositionAxial flippedPosn : flipped) {
+        replaced.put(flippedPosn, this.board.get(flippedPosn));
+      }
+
+      // new cells are put on the board because the given cells may be shared
+      for (PositionAxial changedPosn : replaced.keySet()) {
+        Cell cell = new GameCell(CellType.Player);
+        cell.setCellToPlayer(this.currentPlayer);
+        this.board.put(changedPosn, cell);
+      }
+    }
+
+    this.replacedCells.add(replaced);
+    this.currentPlayer = this.getNextTurn();
+  }
+
+  @Override
+  public void undoMove() {
+    if (this.replacedCells.isEmpty()) {
+      throw new IllegalStateException("No move to undo");
+    }
+
+    this.board.putAll(this.replacedCells.remove(this.replacedCells.size() - 1));
+    this.currentPlayer = this.getNextTurn();
+  }
+
+  @Override
+  public ReversiModel copy() {
+    HashMap<PositionAxial, Cell> boardCopy = new HashMap<>();
+    for (PositionAxial posn : this.board.keySet()) {
+      boardCopy.put(posn, this.getCellAt(posn));
+    }
+
+    PlayerType turn = PlayerType.BLACK;
+    if (this.currentPlayer.toString().equals("O")) {
+      turn = PlayerType.WHITE;
+    }
+
+    // the copy hands out the same ordinals, so moves found here can be made on it
+    BasicReversiModelMockTranscript copy =
+        new BasicReversiModelMockTranscript(this.width, boardCopy, new ComputerPlayer(turn));
+    copy.ordinalPositions = this.getOrdinalPositions();
+    return copy;
+  }
+
+  @Override
+  public long getPositionHash() {
+    // the mock does not keep its hash up to date, so the board is hashed each time
+    return BoardTopology.hexagonal(this.width).hashBoard(this.board,
+        this.currentPlayer.toString().equals("O"));
+  }
+
+  // the positions of the board in the order they are given ordinals, the order of the
+  // board's topology followed by any positions off it, found the first time they are
+  // needed since the mock never adds or removes positions
+  private List<GamePosition> getOrdinalPositions() {
+    if (this.ordinalPositions == null) {
+      BoardTopology topology = BoardTopology.hexagonal(this.width);
+      List<GamePosition> positions = new ArrayList<>();
+      for (int ordinal = 0; ordinal < topology.getCellCount(); ordinal += 1) {
+        positions.add(topology.getPosition(ordinal));
+      }
+      List<GamePosition> offBoard = new ArrayList<>();
+      for (GamePosition posn : this.getBoardCopy().keySet()) {
+        if (topology.getOrdinal(posn) < 0) {
+          offBoard.add(posn);
+        }
+      }
+      // row by row, like the positions on the board
+      offBoard.sort(Comparator.comparingInt(GamePosition::getR)
+          .thenComparingInt(GamePosition::getQ));
+      positions.addAll(offBoard);
+      this.ordinalPositions = positions;
+    }
+
+    return this.ordinalPositions;
+  }
+
   /**
    * Gets the log of the game.
    *
@@ -1,12 +1,12 @@
 package cs3500.reversi.model;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import cs3500.reversi.controller.ComputerPlayer;
 import cs3500.reversi.controller.Player;
 import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.metrics.ModelOperation;
 
 /**
  * Represents the model of a Reversi game. Manages the game board, players, and
@@ -82,7 +82,7 @@ public class BasicSquareReversiModel extends ABasicReversiModel {
     this.addStartingPieces();
 
     for (GamePosition posn : board.keySet()) {
-      this.board.put(posn, board.get(posn));
+      this.setCell(posn, board.get(posn));
     }
   }
 
@@ -100,25 +100,15 @@ public class BasicSquareReversiModel extends ABasicReversiModel {
 
   @Override
   public HashMap<GamePosition, Cell> getBoardCopy() {
-    HashMap<GamePosition, Cell> boardCopy = new HashMap<>();
+    long start = this.startTiming();
+    HashMap<GamePosition, Cell> boardCopy = new HashMap<>(this.board.size() * 2);
 
-    // iterate over the board and create a deep copy of each cell
-    for (GamePosition posn : this.board.keySet()) {
-      GamePosition posnCopy = new Position2D(posn.getQ(), posn.getR());
-      Cell cell = this.board.get(posn);
-      Cell cellCopy = new GameCell(cell.getCellType());
-
-      if (cell.sameCellType(CellType.Player)) {
-        if (cell.getCellOwner().equals("X")) {
-          cellCopy.setCellToPlayer(new ComputerPlayer(PlayerType.BLACK));
-        } else {
-          cellCopy.setCellToPlayer(new ComputerPlayer(PlayerType.WHITE));
-        }
-      }
-
-      boardCopy.put(posnCopy, cellCopy);
+    // positions and shared cells cannot be changed, so the copy shares them with the board
+    for (Map.Entry<GamePosition, Cell> entry : this.board.entrySet()) {
+      boardCopy.put(entry.getKey(), SharedCell.of(entry.getValue()));
     }
 
+    this.stopTiming(ModelOperation.GET_BOARD_COPY, start);
     return boardCopy;
   }
 
@@ -135,7 +125,7 @@ public class BasicSquareReversiModel extends ABasicReversiModel {
         GamePosition posn = new Position2D(x, y);
 
         // create an empty cell and add it to the board at the current poisiton
-        this.board.put(posn, new GameCell(CellType.Empty));
+        this.setCell(posn, SharedCell.EMPTY);
       }
     }
   }
@@ -145,12 +135,6 @@ public class BasicSquareReversiModel extends ABasicReversiModel {
    * positions.
    */
   private void addStartingPieces() {
-    Cell whiteCell = new GameCell(CellType.Player);
-    whiteCell.setCellToPlayer(new ComputerPlayer(PlayerType.WHITE));
-
-    Cell blackCell = new GameCell(CellType.Player);
-    blackCell.setCellToPlayer(new ComputerPlayer(PlayerType.BLACK));
-
     // setting initial player positions
     this.initializeCell(this.width / 2 - 1, this.width / 2 - 1, PlayerType.BLACK);
     this.initializeCell(this.width / 2, this.width / 2 - 1, PlayerType.WHITE);
@@ -160,12 +144,7 @@ public class BasicSquareReversiModel extends ABasicReversiModel {
 
   // helper for initializing a cell to be occupied by a player
   private void initializeCell(int x, int y, PlayerType type) {
-    this.board.put(new Position2D(x, y), new GameCell(CellType.Player));
-    if (type.equals(PlayerType.BLACK)) {
-      this.board.get(new Position2D(x, y)).setCellToPlayer(this.playerBlack);
-    } else if (type.equals(PlayerType.WHITE)) {
-      this.board.get(new Position2D(x, y)).setCellToPlayer(this.playerWhite);
-    }
+    this.setCell(new Position2D(x, y), SharedCell.of(type));
   }
 
   /**
@@ -180,125 +159,9 @@ public class BasicSquareReversiModel extends ABasicReversiModel {
    */
   protected List<GamePosition> checkValidLineMade(GamePosition givenPosn, GamePosition posn,
       Player playerTurn) {
-    ArrayList<GamePosition> cellsBetween = new ArrayList<>();
-
-    // If the given and ending positions share X coordinates, check for a valid line
-    if (givenPosn.getQ() == posn.getQ()) {
-      // Go along along the possible line
-      this.goDownLine(givenPosn.getR(), cellsBetween, "y", givenPosn.getQ(),
-              givenPosn.getR() <= posn.getR(), playerTurn);
-    }
-
-    // If the given and ending positions share Y coordinates, check for a valid line
-    if (givenPosn.getR() == posn.getR()) {
-      // Go along the possible line
-      this.goDownLine(givenPosn.getQ(), cellsBetween, "x", givenPosn.getR(),
-              givenPosn.getQ() <= posn.getQ(), playerTurn);
-    }
-
-    // Check for a valid line along the diagonal
-    if (Math.abs(givenPosn.getQ() - posn.getQ()) == 1
-            && Math.abs(givenPosn.getR() - posn.getR()) == 1) {
-      this.goDownLineDiagonal(givenPosn.getQ(), givenPosn.getR(),
-              givenPosn.getQ() <= posn.getQ(),
-              givenPosn.getR() <= posn.getR(), cellsBetween, playerTurn);
-    }
-
-    return cellsBetween;
-  }
-
-  private void goDownLineDiagonal(int startingXPosition, int startingYPosition,
-                                  boolean incrementX, boolean incrementY,
-      ArrayList<GamePosition> cellsBetween, Player playerTurn) {
-    while (true) {
-      if (incrementX) {
-        startingXPosition += 1;
-      } else {
-        startingXPosition -= 1;
-      }
-
-      if (incrementY) {
-        startingYPosition += 1;
-      } else {
-        startingYPosition -= 1;
-      }
-
-      GamePosition currentPosition = new Position2D(startingXPosition, startingYPosition);
-
-      // check if the position exists on the board
-      if (!this.board.containsKey(currentPosition)) {
-        cellsBetween.clear();
-        break;
-      }
-
-      // if cell is owned by player with next turn, add it to list
-      if (!this.getCellAt(currentPosition).getCellOwner()
-          .equals(playerTurn.getOppositePlayer().toString())) {
-        if (this.getCellAt(currentPosition).getCellOwner()
-            .equals(playerTurn.toString())) {
-          break;
-        } else {
-          cellsBetween.clear();
-          break;
-        }
-      } else {
-        cellsBetween.add(currentPosition);
-      }
-    }
-  }
-
-  // traverses positions on the game board based on the direction and row type
-  // and adds it to the list if it will be converted by the current player with
-  // a proper move
-  private void goDownLine(int incrementStartingPostion,
-      ArrayList<GamePosition> cellsBetween, String row, int constantPosition,
-      boolean forward, Player playerTurn) {
-    // iterate through the range of coordinates and check for valid positions.
-    while (true) {
-      if (forward) {
-        incrementStartingPostion += 1;
-      } else {
-        incrementStartingPostion -= 1;
-      }
-
-      // calculate current position based on direction
-      GamePosition currentPosition = this.calculateStartingPosition(row,
-          incrementStartingPostion, constantPosition);
-
-      // check if the position exists on the board
-      if (!this.board.containsKey(currentPosition)) {
-        cellsBetween.clear();
-        break;
-      }
-
-      // if cell is owned by player with next turn, add it to list
-      if (!this.getCellAt(currentPosition).getCellOwner()
-          .equals(playerTurn.getOppositePlayer().toString())) {
-        if (this.getCellAt(currentPosition).getCellOwner()
-            .equals(playerTurn.toString())) {
-          break;
-        } else {
-          cellsBetween.clear();
-          break;
-        }
-      } else {
-        cellsBetween.add(currentPosition);
-      }
-    }
-  }
-
-  // return the starting position for the line being made, depending on direction
-  // given
-  private GamePosition calculateStartingPosition(String row,
-      int incrementStartingPostion, int constantPosition) {
-    // calculate current position based on row
-    if (row.equalsIgnoreCase("x")) {
-      return new Position2D(incrementStartingPostion, constantPosition);
-    } else if (row.equalsIgnoreCase("y")) {
-      return new Position2D(constantPosition, incrementStartingPostion);
-    } else {
-      throw new IllegalArgumentException("Invalid row given");
-    }
+    // the two positions share a row, a column or a diagonal, so the line between
+    // them is one of the eight precomputed lines of the given position
+    return this.walkLine(givenPosn, posn, playerTurn);
   }
 
   @Override
@@ -308,4 +171,15 @@ public class BasicSquareReversiModel extends ABasicReversiModel {
       throw new IllegalArgumentException("Width must be even and positive.");
     }
   }
+
+  @Override
+  protected BoardTopology createTopology(int width) {
+    return BoardTopology.square(width);
+  }
+
+  @Override
+  protected ABasicReversiModel createCopy(HashMap<GamePosition, Cell> board,
+                                          Player currentPlayer) {
+    return new BasicSquareReversiModel(this.width, board, currentPlayer);
+  }
 }
@@ -1,6 +1,7 @@
 package cs3500.reversi.model;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 
@@ -16,6 +17,8 @@ import cs3500.reversi.controller.PlayerType;
 public class BasicSquareReversiModelMock extends ABasicReversiModel {
   // the log of the game
   final StringBuilder log;
+  // the positions of the board, indexed by the ordinals handed out by getLegalMoves
+  private List<GamePosition> ordinalPositions;
 
   /**
    * Constructs a new BasicSquareReversiModel with the specified width. The game
@@ -87,7 +90,7 @@ public class BasicSquareReversiModelMock extends ABasicReversiModel {
     this.addStartingPieces();
 
     for (GamePosition posn : board.keySet()) {
-      this.board.put(posn, board.get(posn));
+      this.setCell(posn, board.get(posn));
     }
   }
 
@@ -136,6 +139,11 @@ public class BasicSquareReversiModelMock extends ABasicReversiModel {
     }
   }
 
+  @Override
+  protected BoardTopology createTopology(int width) {
+    return BoardTopology.square(width);
+  }
+
   /**
    * Initializes the game board by creating empty cells for all positions on the
    * board.
@@ -149,7 +157,7 @@ public class BasicSquareReversiModelMock extends ABasicReversiModel {
         GamePosition posn = new Position2D(x, y);
 
         // create an empty cell and add it to the board at the current poisiton
-        this.board.put(posn, new GameCell(CellType.Empty));
+        this.setCell(posn, SharedCell.EMPTY);
       }
     }
   }
@@ -174,12 +182,7 @@ public class BasicSquareReversiModelMock extends ABasicReversiModel {
 
   // helper for initializing a cell to be occupied by a player
   private void initializeCell(int x, int y, PlayerType type) {
-    this.board.put(new Position2D(x, y), new GameCell(CellType.Player));
-    if (type.equals(PlayerType.BLACK)) {
-      this.board.get(new Position2D(x, y)).setCellToPlayer(this.playerBlack);
-    } else if (type.equals(PlayerType.WHITE)) {
-      this.board.get(new Position2D(x, y)).setCellToPlayer(this.playerWhite);
-    }
+    this.setCell(new Position2D(x, y), SharedCell.of(type));
   }
 
   /**
@@ -348,6 +351,64 @@ public class BasicSquareReversiModelMock extends ABasicReversiModel {
     return validTiles.size();
   }
 
+  /**
+   * Finds the legal moves the same way the strategies used to, by asking about every
+   * position in a copy of the board, so that the log still records each position that is
+   * scored. Ordinals are indices into the order the copy's positions are visited in.
+   */
+  @Override
+  public int getLegalMoves(PlayerType playerType, int[] moves, int[] flips) {
+    List<GamePosition> positions = this.getOrdinalPositions();
+    int count = 0;
+
+    for (int ordinal = 0; ordinal < positions.size(); ordinal += 1) {
+      GamePosition posn = positions.get(ordinal);
+      if (this.doesCurrentPlayerHaveValidMovesPosn(posn, new ComputerPlayer(playerType))) {
+        moves[count] = ordinal;
+        flips[count] = this.getScoreForMove(posn);
+        count += 1;
+      }
+    }
+
+    return count;
+  }
+
+  @Override
+  public GamePosition getPositionAt(int ordinal) {
+    List<GamePosition> positions = this.getOrdinalPositions();
+    if (ordinal < 0 || ordinal >= positions.size()) {
+      throw new IllegalArgumentException("Nonexistant position in this game");
+    }
+
+    return positions.get(ordinal);
+  }
+
+  // the positions of the board in the order they are given ordinals, the order of the
+  // board's topology followed by any positions off it, found the first time they are
+  // needed since the mock never adds or removes positions
+  private List<GamePosition> getOrdinalPositions() {
+    if (this.ordinalPositions == null) {
+      BoardTopology topology = this.topology;
+      List<GamePosition> positions = new ArrayList<>();
+      for (int ordinal = 0; ordinal < topology.getCellCount(); ordinal += 1) {
+        positions.add(topology.getPosition(ordinal));
+      }
+      List<GamePosition> offBoard = new ArrayList<>();
+      for (GamePosition posn : this.getBoardCopy().keySet()) {
+        if (topology.getOrdinal(posn) < 0) {
+          offBoard.add(posn);
+        }
+      }
+      // row by row, like the positions on the board
+      offBoard.sort(Comparator.comparingInt(GamePosition::getR)
+          .thenComparingInt(GamePosition::getQ));
+      positions.addAll(offBoard);
+      this.ordinalPositions = positions;
+    }
+
+    return this.ordinalPositions;
+  }
+
   /**
    * Gets the log of the game.
    *
@@ -356,4 +417,14 @@ public class BasicSquareReversiModelMock extends ABasicReversiModel {
   public String getLog() {
     return this.log.toString();
   }
+
+  @Override
+  protected ABasicReversiModel createCopy(HashMap<GamePosition, Cell> board,
+                                          Player currentPlayer) {
+    // the copy hands out the same ordinals, so moves found here can be made on it
+    BasicSquareReversiModelMock copy =
+        new BasicSquareReversiModelMock(this.width, board, currentPlayer);
+    copy.ordinalPositions = this.getOrdinalPositions();
+    return copy;
+  }
 }
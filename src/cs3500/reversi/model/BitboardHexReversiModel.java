@@ -0,0 +1,683 @@
+package cs3500.reversi.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import cs3500.reversi.controller.ComputerPlayer;
+import cs3500.reversi.controller.ModelStatusFeatures;
+import cs3500.reversi.controller.Player;
+import cs3500.reversi.controller.PlayerType;
+
+/**
+ * Represents the model of a hexagonal Reversi game whose board is stored as two packed
+ * bitsets, one for the black pieces and one for the white pieces. Every cell on the board
+ * is given a dense ordinal, counting row by row from the top of the board and from left to
+ * right within a row, and the bit at that ordinal says whether the player owns the cell.
+ * Plays exactly the same game as BasicReversiModel, so it can be used anywhere a
+ * ReversiModel is expected.
+ */
+public class BitboardHexReversiModel implements ReversiModel, ReadOnlyReversiModel {
+
+  // the width of the game board
+  // INVARIENT: Width must be odd and at least three. Enforced by isWidthCorrect at
+  // construction.
+  private final int width;
+  // the shape of the game board, which numbers the cells and holds their lines
+  private final BoardTopology topology;
+  // the number of cells on the board
+  private final int cellCount;
+  // the occupancy of each player, indexed by ordinal
+  // INVARIENT: no bit is set in both black and white, and no bit at or above cellCount is set.
+  private final long[] black;
+  private final long[] white;
+  // the cells that would be flipped by the move being made, reused between moves
+  private final long[] flipMask;
+  // the players in the game
+  private final Player playerBlack;
+  private final Player playerWhite;
+  // the turn of the current player
+  // INVARIENT: currentPlayer must be either playerBlack or playerWhite. Enforced by
+  // changeTurns(), which is the only method to change currentPlayer.
+  private Player currentPlayer;
+  // the number of consecutive passed turns.
+  // INVARIENT: consectivePassedTurns must be a non-negative integer.
+  private int consectivePassedTurns;
+  // whether or not the game has started
+  private boolean gameStarted;
+
+  private final List<ModelStatusFeatures> controllers;
+
+  // the moves made with applyMove that can still be taken back. Each move pushes the words
+  // of the mask of cells it flipped (none for a pass), the hash of the position before it,
+  // and then one entry holding the number of consecutive passed turns before it in the high
+  // half and its ordinal, -1 for a pass, in the low half.
+  private long[] undoStack;
+  // the number of entries in use at the bottom of the undo stack
+  private int undoSize;
+  // the Zobrist hash of the position, worked out once the board is set up and kept up to
+  // date with every move after that
+  private long positionHash;
+
+  /**
+   * Constructs a new BitboardHexReversiModel with the specified width. The game can
+   * only be played on a regular grid of cells, so the width needs to be an odd
+   * number. For a playable game, the width needs to be at least three.
+   *
+   * @param width The width of the game board.
+   * @throws IllegalArgumentException If the provided width is not an odd number
+   *                                  or is less than three.
+   */
+  public BitboardHexReversiModel(int width) {
+    this(width, new ComputerPlayer(PlayerType.BLACK), new ComputerPlayer(PlayerType.WHITE));
+  }
+
+  /**
+   * Constructs a new BitboardHexReversiModel with the specified width. The game can
+   * only be played on a regular grid of cells, so the width needs to be an odd
+   * number. For a playable game, the width needs to be at least three. Players
+   * are taken as parameters for testing purposes.
+   *
+   * @param width       The width of the game board.
+   * @param playerBlack The black player.
+   * @param playerWhite The white player.
+   * @throws IllegalArgumentException If the provided width is not an odd number
+   *                                  or is less than three.
+   */
+  public BitboardHexReversiModel(int width, Player playerBlack, Player playerWhite) {
+    this.isWidthCorrect(width);
+
+    this.width = width;
+    this.topology = BoardTopology.hexagonal(width);
+    this.cellCount = this.topology.getCellCount();
+    this.black = new long[(this.cellCount + 63) >>> 6];
+    this.white = new long[this.black.length];
+    this.flipMask = new long[this.black.length];
+    this.playerBlack = playerBlack;
+    this.playerWhite = playerWhite;
+    this.currentPlayer = this.playerBlack;
+    this.consectivePassedTurns = 0;
+    this.gameStarted = false;
+    this.controllers = new ArrayList<>();
+    this.undoStack = new long[0];
+    this.undoSize = 0;
+
+    this.addStartingPieces();
+    this.positionHash = this.hashPieces();
+  }
+
+  /**
+   * Constructs a new BitboardHexReversiModel with the specified width and a hashmap of
+   * posns to cells. The game can only be played on a regular grid of cells, so the width
+   * needs to be an odd number. For a playable game, the width needs to be at least three.
+   * The purpose of the hashmap is to allow for the model to be constructed with a board
+   * that is in the middle of a game.
+   *
+   * @param width         The width of the game board.
+   * @param board         The hashmap of posns to cells that represents the board.
+   * @param currentPlayer The player whose turn it is.
+   * @throws IllegalArgumentException If the provided width is not an odd number
+   *                                  or is less than three, or if the board contains a
+   *                                  position that does not exist in this game.
+   */
+  public BitboardHexReversiModel(int width, HashMap<GamePosition, Cell> board,
+                                 Player currentPlayer) {
+    this(width);
+    this.currentPlayer = currentPlayer;
+
+    for (GamePosition posn : board.keySet()) {
+      int ordinal = this.ordinalOf(posn);
+      if (ordinal < 0) {
+        throw new IllegalArgumentException("Nonexistant position in this game");
+      }
+
+      SharedCell cell = SharedCell.of(board.get(posn));
+      clearBit(this.black, ordinal);
+      clearBit(this.white, ordinal);
+      if (cell == SharedCell.BLACK) {
+        setBit(this.black, ordinal);
+      } else if (cell == SharedCell.WHITE) {
+        setBit(this.white, ordinal);
+      }
+    }
+    this.positionHash = this.hashPieces();
+  }
+
+  /**
+   * Constructs a copy of the given model with the same pieces, current player, count of
+   * passed turns and started state, but no listeners and nothing to undo.
+   *
+   * @param other The model to copy.
+   */
+  private BitboardHexReversiModel(BitboardHexReversiModel other) {
+    this.width = other.width;
+    this.topology = other.topology;
+    this.cellCount = other.cellCount;
+    this.black = other.black.clone();
+    this.white = other.white.clone();
+    this.flipMask = new long[other.flipMask.length];
+    this.playerBlack = new ComputerPlayer(PlayerType.BLACK);
+    this.playerWhite = new ComputerPlayer(PlayerType.WHITE);
+    this.currentPlayer = this.playerBlack;
+    if (other.currentPlayer.toString().equals("O")) {
+      this.currentPlayer = this.playerWhite;
+    }
+    this.consectivePassedTurns = other.consectivePassedTurns;
+    this.gameStarted = other.gameStarted;
+    this.controllers = new ArrayList<>();
+    this.undoStack = new long[0];
+    this.undoSize = 0;
+    this.positionHash = other.positionHash;
+  }
+
+  /**
+   * Constructs a new BitboardHexReversiModel with a default width of 11.
+   */
+  public BitboardHexReversiModel() {
+    this(11);
+  }
+
+  /**
+   * Adds the starting pieces to the game board, setting the initial player
+   * positions.
+   */
+  private void addStartingPieces() {
+    setBit(this.white, this.ordinalOf(new PositionAxial(-1, 0, 1)));
+    setBit(this.black, this.ordinalOf(new PositionAxial(0, -1, 1)));
+    setBit(this.white, this.ordinalOf(new PositionAxial(1, -1, 0)));
+    setBit(this.black, this.ordinalOf(new PositionAxial(1, 0, -1)));
+    setBit(this.white, this.ordinalOf(new PositionAxial(0, 1, -1)));
+    setBit(this.black, this.ordinalOf(new PositionAxial(-1, 1, 0)));
+  }
+
+  // the ordinal of the given position, or -1 if it is not on the board
+  private int ordinalOf(GamePosition posn) {
+    return this.topology.getOrdinal(posn);
+  }
+
+  private static boolean testBit(long[] bits, int ordinal) {
+    return (bits[ordinal >>> 6] & (1L << ordinal)) != 0;
+  }
+
+  private static void setBit(long[] bits, int ordinal) {
+    bits[ordinal >>> 6] |= 1L << ordinal;
+  }
+
+  private static void clearBit(long[] bits, int ordinal) {
+    bits[ordinal >>> 6] &= ~(1L << ordinal);
+  }
+
+  // helper for getting the ordinal of a position, throwing if it does not exist
+  private int doesPosnExist(GamePosition posn) {
+    int ordinal = this.ordinalOf(posn);
+    if (ordinal < 0) {
+      throw new IllegalArgumentException("Nonexistant position in this game");
+    }
+
+    return ordinal;
+  }
+
+  // helper for making sure it is the given player's turn
+  private void currentTurnCorrect(Player player) {
+    if (!player.equals(this.currentPlayer)) {
+      throw new IllegalStateException("Not current player's turn");
+    }
+  }
+
+  // helper for making sure game is started
+  private void gameStartedHelper() {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started yet");
+    }
+  }
+
+  // the occupancy of the given player, where "X" is the black player
+  private long[] piecesOf(String player) {
+    if (player.equals("X")) {
+      return this.black;
+    } else {
+      return this.white;
+    }
+  }
+
+  // the occupancy of the opponent of the given player, where "X" is the black player
+  private long[] opponentPiecesOf(String player) {
+    if (player.equals("X")) {
+      return this.white;
+    } else {
+      return this.black;
+    }
+  }
+
+  /**
+   * Counts how many pieces would be flipped if the owner of the given pieces played at the
+   * given ordinal. If a mask is given, the flipped cells are also added to it.
+   *
+   * @param ordinal  The ordinal of the move.
+   * @param own      The pieces of the player making the move.
+   * @param opponent The pieces of the other player.
+   * @param mask     The mask to add flipped cells to, or null if only the count is wanted.
+   * @return The number of pieces the move would flip, zero if the move is invalid.
+   */
+  private int flipsForMove(int ordinal, long[] own, long[] opponent, long[] mask) {
+    int flips = 0;
+
+    for (int direction = 0; direction < this.topology.getDirectionCount(); direction += 1) {
+      int[] ray = this.topology.getRay(ordinal, direction);
+      int length = 0;
+
+      // walk over the opponent's pieces until something else is found
+      while (length < ray.length && testBit(opponent, ray[length])) {
+        length += 1;
+      }
+
+      // the line only counts if it is closed off by one of the player's own pieces
+      if (length > 0 && length < ray.length && testBit(own, ray[length])) {
+        flips += length;
+        if (mask != null) {
+          for (int i = 0; i < length; i += 1) {
+            setBit(mask, ray[i]);
+          }
+        }
+      }
+    }
+
+    return flips;
+  }
+
+  // whether the cell at the given ordinal has no piece on it
+  private boolean isEmpty(int ordinal) {
+    return !testBit(this.black, ordinal) && !testBit(this.white, ordinal);
+  }
+
+  // whether either the black or white player has a valid move at an empty cell
+  private boolean anyValidMove(boolean checkBlack, boolean checkWhite) {
+    for (int word = 0; word < this.black.length; word += 1) {
+      long empty = ~(this.black[word] | this.white[word]);
+      if (word == this.black.length - 1 && (this.cellCount & 63) != 0) {
+        empty &= (1L << this.cellCount) - 1;
+      }
+
+      // visit every empty cell in this word, lowest ordinal first
+      while (empty != 0) {
+        int ordinal = (word << 6) + Long.numberOfTrailingZeros(empty);
+        empty &= empty - 1;
+
+        if ((checkBlack && this.flipsForMove(ordinal, this.black, this.white, null) > 0)
+                || (checkWhite && this.flipsForMove(ordinal, this.white, this.black, null) > 0)) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  public void addFeaturesListener(ModelStatusFeatures feature) {
+    this.controllers.add(feature);
+  }
+
+  @Override
+  public void startGame() {
+
+    if (gameStarted) {
+      throw new IllegalStateException("Game already started");
+    }
+
+    // set the game to has started
+    this.gameStarted = true;
+
+    // notify the controller to refresh the views
+    for (ModelStatusFeatures f : this.controllers) {
+      f.notifyToRefresh(this.currentPlayer.toString());
+    }
+  }
+
+  @Override
+  public HashMap<GamePosition, Cell> getBoardCopy() {
+    HashMap<GamePosition, Cell> boardCopy = new HashMap<>();
+
+    for (int ordinal = 0; ordinal < this.cellCount; ordinal += 1) {
+      GamePosition posn = this.topology.getPosition(ordinal);
+      boardCopy.put(new PositionAxial(posn.getQ(), posn.getR(), posn.getS()),
+              this.cellAt(ordinal));
+    }
+
+    return boardCopy;
+  }
+
+  @Override
+  public void addPieceToCoordinates(GamePosition posn, Player player) {
+
+    currentTurnCorrect(player);
+    gameStartedHelper();
+    int ordinal = doesPosnExist(posn);
+
+    long[] own = this.piecesOf(player.toString());
+    long[] opponent = this.opponentPiecesOf(player.toString());
+
+    Arrays.fill(this.flipMask, 0);
+    if (this.flipsForMove(ordinal, own, opponent, this.flipMask) == 0) {
+      throw new IllegalStateException("Move cannot be made");
+    }
+
+    // place the piece and flip every captured line a whole word at a time
+    this.hashFlips(this.flipMask);
+    this.positionHash ^= this.topology.getPieceKey(ordinal, player.toString().equals("O"));
+    setBit(this.flipMask, ordinal);
+    for (int word = 0; word < own.length; word += 1) {
+      own[word] |= this.flipMask[word];
+      opponent[word] &= ~this.flipMask[word];
+    }
+
+    // change the active player's turn and reset the consecutive passed turns
+    // counter.
+    this.changeTurns();
+    this.consectivePassedTurns = 0;
+
+    for (ModelStatusFeatures f : this.controllers) {
+      f.notifyToRefresh(this.currentPlayer.toString());
+    }
+  }
+
+  @Override
+  public void applyMove(int ordinal) {
+    long previousPasses = (long) this.consectivePassedTurns << 32;
+
+    // passing only changes whose turn it is
+    if (ordinal == this.cellCount) {
+      this.pushUndo(this.positionHash);
+      this.pushUndo(previousPasses | 0xFFFFFFFFL);
+      this.consectivePassedTurns += 1;
+      this.changeTurns();
+      return;
+    }
+
+    if (ordinal < 0 || ordinal >= this.cellCount) {
+      throw new IllegalArgumentException("Nonexistant position in this game");
+    }
+
+    long[] own = this.piecesOf(this.currentPlayer.toString());
+    long[] opponent = this.opponentPiecesOf(this.currentPlayer.toString());
+
+    Arrays.fill(this.flipMask, 0);
+    if (!this.isEmpty(ordinal) || this.flipsForMove(ordinal, own, opponent, this.flipMask) == 0) {
+      throw new IllegalStateException("Move cannot be made");
+    }
+
+    // remember the flipped cells, then flip them and place the piece
+    for (int word = 0; word < own.length; word += 1) {
+      this.pushUndo(this.flipMask[word]);
+      own[word] |= this.flipMask[word];
+      opponent[word] &= ~this.flipMask[word];
+    }
+    setBit(own, ordinal);
+    this.pushUndo(this.positionHash);
+    this.pushUndo(previousPasses | ordinal);
+    this.hashFlips(this.flipMask);
+    this.positionHash ^= this.topology.getPieceKey(ordinal, own == this.white);
+
+    this.consectivePassedTurns = 0;
+    this.changeTurns();
+  }
+
+  @Override
+  public void undoMove() {
+    if (this.undoSize == 0) {
+      throw new IllegalStateException("No move to undo");
+    }
+
+    long entry = this.undoStack[--this.undoSize];
+    int ordinal = (int) entry;
+    this.consectivePassedTurns = (int) (entry >>> 32);
+    this.changeTurns();
+    this.positionHash = this.undoStack[--this.undoSize];
+
+    if (ordinal >= 0) {
+      long[] own = this.piecesOf(this.currentPlayer.toString());
+      long[] opponent = this.opponentPiecesOf(this.currentPlayer.toString());
+
+      // take the piece off and give every flipped cell back to the opponent
+      clearBit(own, ordinal);
+      for (int word = own.length - 1; word >= 0; word -= 1) {
+        long mask = this.undoStack[--this.undoSize];
+        own[word] &= ~mask;
+        opponent[word] |= mask;
+      }
+    }
+  }
+
+  // pushes an entry onto the undo stack, growing it when it is full
+  private void pushUndo(long entry) {
+    if (this.undoSize == this.undoStack.length) {
+      this.undoStack = Arrays.copyOf(this.undoStack, Math.max(64, this.undoStack.length * 2));
+    }
+
+    this.undoStack[this.undoSize] = entry;
+    this.undoSize += 1;
+  }
+
+  private void changeTurns() {
+    // change the active player's turn. Enforces the invarient by
+    // only changing currentPlayer to playerBlack or playerWhite.
+    if (this.currentPlayer.equals(this.playerBlack)) {
+      this.currentPlayer = this.playerWhite;
+    } else {
+      this.currentPlayer = this.playerBlack;
+    }
+    this.positionHash ^= this.topology.getWhiteTurnKey();
+  }
+
+  // mixes the key of flipping every cell in the given mask into the hash
+  private void hashFlips(long[] mask) {
+    for (int word = 0; word < mask.length; word += 1) {
+      long bits = mask[word];
+      while (bits != 0) {
+        this.positionHash ^= this.topology.getFlipKey((word << 6)
+            + Long.numberOfTrailingZeros(bits));
+        bits &= bits - 1;
+      }
+    }
+  }
+
+  // hashes the pieces on the board and whose turn it is from scratch
+  private long hashPieces() {
+    long hash = 0;
+    if (this.currentPlayer.toString().equals("O")) {
+      hash = this.topology.getWhiteTurnKey();
+    }
+
+    for (int ordinal = 0; ordinal < this.cellCount; ordinal += 1) {
+      if (testBit(this.black, ordinal)) {
+        hash ^= this.topology.getPieceKey(ordinal, false);
+      } else if (testBit(this.white, ordinal)) {
+        hash ^= this.topology.getPieceKey(ordinal, true);
+      }
+    }
+
+    return hash;
+  }
+
+  @Override
+  public void passTurn(Player player) {
+
+    gameStartedHelper();
+    currentTurnCorrect(player);
+
+    this.consectivePassedTurns += 1;
+    this.changeTurns();
+
+    for (ModelStatusFeatures f : this.controllers) {
+      f.notifyToRefresh(this.currentPlayer.toString());
+    }
+  }
+
+  @Override
+  public boolean doesCurrentPlayerHaveValidMoves() {
+    return this.anyValidMove(this.currentPlayer.toString().equals("X"),
+            !this.currentPlayer.toString().equals("X"));
+  }
+
+  @Override
+  public boolean doesCurrentPlayerHaveValidMovesPosn(GamePosition posn, Player playerTurn) {
+    int ordinal = this.doesPosnExist(posn);
+
+    return this.isEmpty(ordinal)
+            && this.flipsForMove(ordinal, this.piecesOf(playerTurn.toString()),
+            this.opponentPiecesOf(playerTurn.toString()), null) > 0;
+  }
+
+  @Override
+  public int getBoardSize() {
+    return this.cellCount;
+  }
+
+  // the shared cell at the given ordinal
+  private Cell cellAt(int ordinal) {
+    if (testBit(this.black, ordinal)) {
+      return SharedCell.BLACK;
+    } else if (testBit(this.white, ordinal)) {
+      return SharedCell.WHITE;
+    } else {
+      return SharedCell.EMPTY;
+    }
+  }
+
+  @Override
+  public Cell getCellAt(GamePosition posn) {
+    return this.cellAt(this.doesPosnExist(posn));
+  }
+
+  @Override
+  public boolean isGameOver() {
+
+    // if two or more passes made, game should end
+    if (this.consectivePassedTurns >= 2) {
+      return true;
+    }
+
+    return !this.anyValidMove(true, true);
+  }
+
+  @Override
+  public int getCurrentScore(PlayerType playerType) {
+    long[] pieces;
+    if (playerType.equals(PlayerType.BLACK)) {
+      pieces = this.black;
+    } else {
+      pieces = this.white;
+    }
+
+    int score = 0;
+    for (long word : pieces) {
+      score += Long.bitCount(word);
+    }
+
+    return score;
+  }
+
+  @Override
+  public int getNumRows() {
+    return this.width;
+  }
+
+  @Override
+  public boolean hasGameStarted() {
+    return this.gameStarted;
+  }
+
+  @Override
+  public String getCurrentWinner() {
+    // returns the current winning player, tie if the scores are equal
+    int blackScore = this.getCurrentScore(PlayerType.BLACK);
+    int whiteScore = this.getCurrentScore(PlayerType.WHITE);
+
+    if (blackScore > whiteScore) {
+      return this.playerBlack.toString();
+    } else if (blackScore == whiteScore) {
+      return "Tie";
+    } else {
+      return this.playerWhite.toString();
+    }
+  }
+
+  @Override
+  public int getLegalMoves(PlayerType playerType, int[] moves, int[] flips) {
+    ABasicReversiModel.checkMoveBuffers(moves, flips, this.cellCount);
+
+    long[] own = this.black;
+    long[] opponent = this.white;
+    if (playerType.equals(PlayerType.WHITE)) {
+      own = this.white;
+      opponent = this.black;
+    }
+    int count = 0;
+
+    for (int word = 0; word < own.length; word += 1) {
+      long empty = ~(this.black[word] | this.white[word]);
+      if (word == own.length - 1 && (this.cellCount & 63) != 0) {
+        empty &= (1L << this.cellCount) - 1;
+      }
+
+      // visit every empty cell in this word, lowest ordinal first
+      while (empty != 0) {
+        int ordinal = (word << 6) + Long.numberOfTrailingZeros(empty);
+        empty &= empty - 1;
+
+        int flipped = this.flipsForMove(ordinal, own, opponent, null);
+        if (flipped > 0) {
+          moves[count] = ordinal;
+          flips[count] = flipped;
+          count += 1;
+        }
+      }
+    }
+
+    return count;
+  }
+
+  @Override
+  public GamePosition getPositionAt(int ordinal) {
+    if (ordinal < 0 || ordinal >= this.cellCount) {
+      throw new IllegalArgumentException("Nonexistant position in this game");
+    }
+
+    return this.topology.getPosition(ordinal);
+  }
+
+  @Override
+  public int getScoreForMove(GamePosition posn) {
+    return this.getScoreForMovePlayer(posn, this.currentPlayer.toString());
+  }
+
+  @Override
+  public int getScoreForMovePlayer(GamePosition posn, String player) {
+    int ordinal = this.ordinalOf(posn);
+
+    // a position off the board, such as the one used to represent passing, captures nothing
+    if (ordinal < 0) {
+      return 0;
+    }
+
+    return this.flipsForMove(ordinal, this.piecesOf(player), this.opponentPiecesOf(player), null);
+  }
+
+  // helper for making sure the width is correct
+  private void isWidthCorrect(int width) {
+    if (width < 3 || width % 2 == 0) {
+      throw new IllegalArgumentException("Width must be odd and at least three.");
+    }
+  }
+
+  @Override
+  public ReversiModel copy() {
+    return new BitboardHexReversiModel(this);
+  }
+
+  @Override
+  public long getPositionHash() {
+    return this.positionHash;
+  }
+}
@@ -0,0 +1,356 @@
+package cs3500.reversi.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents the shape of a Reversi board of a given width. Every cell on the board is given
+ * a dense ordinal, counting row by row from the top of the board and from left to right
+ * within a row. For each ordinal the topology holds the neighboring cells and the ordered
+ * line of cells walked in each direction, so models never have to search the board or build
+ * positions to find them. Hexagonal boards have six directions and square boards have eight.
+ * A topology never changes, so one instance is built for each shape and width and then shared.
+ *
+ * <p>The topology also holds the random Zobrist keys used to hash positions on the board.
+ * The hash of a position is the exclusive or of the key of every piece on it, together with
+ * the turn key when it is white's turn, so a move only has to mix in the keys of the cells
+ * it changes. The keys are generated from a fixed seed, so every model of the same shape
+ * and width hashes the same position to the same value.
+ */
+public final class BoardTopology {
+
+  // the axial directions on a hexagonal board, as (q, r) steps
+  private static final int[][] HEXAGONAL_DIRECTIONS =
+      {{1, 0}, {-1, 0}, {0, 1}, {0, -1}, {1, -1}, {-1, 1}};
+  // the directions on a square board, as (x, y) steps
+  private static final int[][] SQUARE_DIRECTIONS =
+      {{1, 0}, {-1, 0}, {0, 1}, {0, -1}, {1, 1}, {-1, -1}, {1, -1}, {-1, 1}};
+
+  // the topologies that have been built so far, keyed by width
+  private static final Map<Integer, BoardTopology> HEXAGONAL_TOPOLOGIES =
+      new ConcurrentHashMap<>();
+  private static final Map<Integer, BoardTopology> SQUARE_TOPOLOGIES = new ConcurrentHashMap<>();
+
+  // whether the board is made of hexagons rather than squares
+  private final boolean hexagonal;
+  // the width of the board
+  private final int width;
+  // the amount added to a q or x coordinate (and r or y) to make it a grid index
+  private final int offset;
+  // the ordinal of each (q, r) or (x, y) pair on a width by width grid, -1 if not on the board
+  private final int[] grid;
+  // the position represented by each ordinal
+  private final GamePosition[] positions;
+  // the (q, r) or (x, y) steps that make up each direction
+  private final int[][] directions;
+  // for each ordinal, the ordinals of the cells next to it
+  private final int[][] neighbors;
+  // for each ordinal and direction, the ordinals walked when going down that line
+  private final int[][][] rays;
+  // the Zobrist key of a black piece at each ordinal, followed by those of white pieces
+  private final long[] pieceKeys;
+  // the Zobrist key mixed into the hash when it is white's turn
+  private final long whiteTurnKey;
+
+  /**
+   * Builds the topology of a board with the given shape and width.
+   *
+   * @param hexagonal Whether the board is made of hexagons rather than squares.
+   * @param width     The width of the board.
+   */
+  private BoardTopology(boolean hexagonal, int width) {
+    this.hexagonal = hexagonal;
+    this.width = width;
+
+    List<GamePosition> cells = new ArrayList<>();
+    if (hexagonal) {
+      this.offset = (width - 1) / 2;
+      this.directions = HEXAGONAL_DIRECTIONS;
+      for (int r = -this.offset; r <= this.offset; r += 1) {
+        for (int q = Math.max(-this.offset, -this.offset - r);
+             q <= Math.min(this.offset, this.offset - r); q += 1) {
+          cells.add(new PositionAxial(q, r, -q - r));
+        }
+      }
+    } else {
+      this.offset = 0;
+      this.directions = SQUARE_DIRECTIONS;
+      for (int y = 0; y < width; y += 1) {
+        for (int x = 0; x < width; x += 1) {
+          cells.add(new Position2D(x, y));
+        }
+      }
+    }
+
+    this.positions = cells.toArray(new GamePosition[0]);
+    this.grid = new int[width * width];
+    Arrays.fill(this.grid, -1);
+    for (int ordinal = 0; ordinal < this.positions.length; ordinal += 1) {
+      this.grid[this.gridIndex(this.positions[ordinal].getQ(), this.positions[ordinal].getR())] =
+          ordinal;
+    }
+
+    this.neighbors = new int[this.positions.length][];
+    this.rays = new int[this.positions.length][this.directions.length][];
+    for (int ordinal = 0; ordinal < this.positions.length; ordinal += 1) {
+      List<Integer> adjacent = new ArrayList<>();
+
+      for (int direction = 0; direction < this.directions.length; direction += 1) {
+        List<Integer> line = new ArrayList<>();
+        int q = this.positions[ordinal].getQ() + this.directions[direction][0];
+        int r = this.positions[ordinal].getR() + this.directions[direction][1];
+
+        // keep stepping in the direction until the edge of the board is reached
+        while (this.ordinalOf(q, r) >= 0) {
+          line.add(this.ordinalOf(q, r));
+          q += this.directions[direction][0];
+          r += this.directions[direction][1];
+        }
+
+        if (!line.isEmpty()) {
+          adjacent.add(line.get(0));
+        }
+        this.rays[ordinal][direction] = line.stream().mapToInt(Integer::intValue).toArray();
+      }
+
+      this.neighbors[ordinal] = adjacent.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    SplittableRandom random = new SplittableRandom(hexagonal ? width : -width - 1);
+    this.pieceKeys = new long[2 * this.positions.length];
+    for (int key = 0; key < this.pieceKeys.length; key += 1) {
+      this.pieceKeys[key] = random.nextLong();
+    }
+    this.whiteTurnKey = random.nextLong();
+  }
+
+  /**
+   * Gets the topology of a hexagonal board with the given width.
+   *
+   * @param width The number of cells across the middle row of the board.
+   * @return The shared topology for hexagonal boards of that width.
+   * @throws IllegalArgumentException if the width is not odd and at least one.
+   */
+  public static BoardTopology hexagonal(int width) {
+    if (width < 1 || width % 2 == 0) {
+      throw new IllegalArgumentException("Width must be odd and positive.");
+    }
+
+    return HEXAGONAL_TOPOLOGIES.computeIfAbsent(width, w -> new BoardTopology(true, w));
+  }
+
+  /**
+   * Gets the topology of a square board with the given width.
+   *
+   * @param width The number of cells along one side of the board.
+   * @return The shared topology for square boards of that width.
+   * @throws IllegalArgumentException if the width is negative.
+   */
+  public static BoardTopology square(int width) {
+    if (width < 0) {
+      throw new IllegalArgumentException("Width must not be negative.");
+    }
+
+    return SQUARE_TOPOLOGIES.computeIfAbsent(width, w -> new BoardTopology(false, w));
+  }
+
+  // the index in the grid of the given coordinates, which must be in range
+  private int gridIndex(int q, int r) {
+    return (r + this.offset) * this.width + q + this.offset;
+  }
+
+  // the ordinal of the given coordinates, or -1 if they are not on the board
+  private int ordinalOf(int q, int r) {
+    if (q + this.offset < 0 || q + this.offset >= this.width
+        || r + this.offset < 0 || r + this.offset >= this.width) {
+      return -1;
+    }
+
+    return this.grid[this.gridIndex(q, r)];
+  }
+
+  /**
+   * Gets the width of the board.
+   *
+   * @return The width of the board.
+   */
+  public int getWidth() {
+    return this.width;
+  }
+
+  /**
+   * Gets the number of cells on the board, which is one more than the largest ordinal.
+   *
+   * @return The number of cells on the board.
+   */
+  public int getCellCount() {
+    return this.positions.length;
+  }
+
+  /**
+   * Gets the number of directions a line can be made in on the board.
+   *
+   * @return 6 for a hexagonal board and 8 for a square board.
+   */
+  public int getDirectionCount() {
+    return this.directions.length;
+  }
+
+  /**
+   * Gets the ordinal of the given position.
+   *
+   * @param posn The position to look up.
+   * @return The ordinal of the position, or -1 if the position is not on this board.
+   */
+  public int getOrdinal(GamePosition posn) {
+    if (this.hexagonal) {
+      if (!(posn instanceof PositionAxial) || posn.getQ() + posn.getR() + posn.getS() != 0) {
+        return -1;
+      }
+    } else if (!(posn instanceof Position2D)) {
+      return -1;
+    }
+
+    return this.ordinalOf(posn.getQ(), posn.getR());
+  }
+
+  /**
+   * Gets the position represented by the given ordinal. The same instance is returned every
+   * time, so it can be used as a key without allocating.
+   *
+   * @param ordinal The ordinal to look up.
+   * @return The position at that ordinal.
+   * @throws IndexOutOfBoundsException if the ordinal is not on this board.
+   */
+  public GamePosition getPosition(int ordinal) {
+    return this.positions[ordinal];
+  }
+
+  /**
+   * Gets the ordinals of the cells next to the given ordinal. The returned array is shared
+   * and must not be modified.
+   *
+   * @param ordinal The ordinal to find the neighbors of.
+   * @return The ordinals of the neighboring cells.
+   */
+  public int[] getNeighbors(int ordinal) {
+    return this.neighbors[ordinal];
+  }
+
+  /**
+   * Gets the ordinals walked when going down a line from the given ordinal, nearest first,
+   * not including the ordinal itself. The returned array is shared and must not be modified.
+   *
+   * @param ordinal   The ordinal the line starts from.
+   * @param direction The direction of the line, from 0 up to the direction count.
+   * @return The ordinals on the line, ending at the edge of the board.
+   */
+  public int[] getRay(int ordinal, int direction) {
+    return this.rays[ordinal][direction];
+  }
+
+  /**
+   * Gets the direction that leads from one cell to a cell next to it.
+   *
+   * @param from The ordinal of the starting cell.
+   * @param to   The ordinal of the neighboring cell.
+   * @return The direction from the first cell to the second, or -1 if they are not next to
+   *     each other.
+   */
+  public int getDirection(int from, int to) {
+    for (int direction = 0; direction < this.directions.length; direction += 1) {
+      int[] ray = this.rays[from][direction];
+      if (ray.length > 0 && ray[0] == to) {
+        return direction;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Gets the direction of the step between two positions next to each other. Unlike the
+   * ordinal version, the first position does not need to be on the board.
+   *
+   * @param from The starting position.
+   * @param to   The neighboring position.
+   * @return The direction from the first position to the second, or -1 if the positions are
+   *     not one step apart.
+   */
+  public int getDirection(GamePosition from, GamePosition to) {
+    int stepQ = to.getQ() - from.getQ();
+    int stepR = to.getR() - from.getR();
+
+    for (int direction = 0; direction < this.directions.length; direction += 1) {
+      if (this.directions[direction][0] == stepQ && this.directions[direction][1] == stepR) {
+        return direction;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Gets the Zobrist key of a piece at the given ordinal.
+   *
+   * @param ordinal The ordinal of the cell the piece is on.
+   * @param white   Whether the piece is white rather than black.
+   * @return The key of the piece.
+   */
+  public long getPieceKey(int ordinal, boolean white) {
+    if (white) {
+      return this.pieceKeys[this.positions.length + ordinal];
+    }
+
+    return this.pieceKeys[ordinal];
+  }
+
+  /**
+   * Gets the Zobrist key that changes a hash when the piece at the given ordinal is flipped,
+   * which is the key of the black piece there mixed with the key of the white piece.
+   *
+   * @param ordinal The ordinal of the cell being flipped.
+   * @return The key of flipping the piece.
+   */
+  public long getFlipKey(int ordinal) {
+    return this.pieceKeys[ordinal] ^ this.pieceKeys[this.positions.length + ordinal];
+  }
+
+  /**
+   * Gets the Zobrist key that is mixed into a hash when it is white's turn, and mixed in
+   * again to change whose turn it is.
+   *
+   * @return The key of white's turn.
+   */
+  public long getWhiteTurnKey() {
+    return this.whiteTurnKey;
+  }
+
+  /**
+   * Hashes the given board from scratch. Positions that are not on this board are left out
+   * of the hash.
+   *
+   * @param board     The cells of the board.
+   * @param whiteTurn Whether it is white's turn.
+   * @return The Zobrist hash of the board.
+   */
+  public long hashBoard(Map<? extends GamePosition, Cell> board, boolean whiteTurn) {
+    long hash = 0;
+    if (whiteTurn) {
+      hash = this.whiteTurnKey;
+    }
+
+    for (Map.Entry<? extends GamePosition, Cell> entry : board.entrySet()) {
+      int ordinal = this.getOrdinal(entry.getKey());
+      if (ordinal >= 0 && entry.getValue().sameCellType(CellType.Player)) {
+        hash ^= this.getPieceKey(ordinal, SharedCell.of(entry.getValue()) == SharedCell.WHITE);
+      }
+    }
+
+    return hash;
+  }
+}
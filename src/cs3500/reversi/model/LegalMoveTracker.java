@@ -0,0 +1,202 @@
+package cs3500.reversi.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Keeps the set of legal moves of both players on a board of a BoardTopology, so that the
+ * model does not have to check every empty cell again each time it is asked whether anyone
+ * can move. The model tells the tracker about every cell it changes, and the tracker only
+ * checks again the empty cells that can see a changed cell along one of their lines.
+ *
+ * <p>A cell can only change whether it is a legal move if one of the cells its lines walk
+ * over changes, and those lines end at the first empty cell. So from each changed cell the
+ * tracker walks out in every direction up to and including the first empty cell, and checks
+ * only the empty cells it finds. Changes are saved up and only worked through when the moves
+ * are asked for, so a move that flips many cells is looked at once.
+ */
+final class LegalMoveTracker {
+
+  // the shape of the board
+  private final BoardTopology topology;
+  // the owner of every cell, by ordinal, as the ordinal of its SharedCell
+  private final byte[] owners;
+  // the legal moves of each player, by the ordinal of the player's SharedCell
+  private final BitSet[] moves;
+  private final int[] moveCounts;
+  // whether the moves have been found since the tracker was made or gave up keeping them
+  private boolean built;
+  // the cells changed since the moves were last brought up to date
+  private int[] changed;
+  private int changedSize;
+  // marks the cells already checked while bringing the moves up to date, by the stamp
+  // of the update they were checked in
+  private final int[] checked;
+  private int stamp;
+
+  /**
+   * Constructs a LegalMoveTracker for an empty board of the given shape.
+   *
+   * @param topology the shape of the board
+   */
+  LegalMoveTracker(BoardTopology topology) {
+    this.topology = topology;
+    this.owners = new byte[topology.getCellCount()];
+    this.moves = new BitSet[] {null, new BitSet(this.owners.length),
+        new BitSet(this.owners.length)};
+    this.moveCounts = new int[3];
+    this.built = false;
+    this.changed = new int[16];
+    this.changedSize = 0;
+    this.checked = new int[this.owners.length];
+    this.stamp = 0;
+  }
+
+  /**
+   * Records that the cell with the given ordinal now holds the given cell.
+   *
+   * @param ordinal the ordinal of the cell
+   * @param cell    the shared cell it now holds
+   */
+  void setOwner(int ordinal, SharedCell cell) {
+    byte owner = (byte) cell.ordinal();
+    if (this.owners[ordinal] == owner) {
+      return;
+    }
+    this.owners[ordinal] = owner;
+
+    if (!this.built) {
+      return;
+    }
+
+    // a large change such as setting up a board is cheaper to find again from scratch
+    if (this.changedSize >= this.owners.length / 4) {
+      this.built = false;
+      this.changedSize = 0;
+      return;
+    }
+
+    if (this.changedSize == this.changed.length) {
+      this.changed = Arrays.copyOf(this.changed, this.changed.length * 2);
+    }
+    this.changed[this.changedSize] = ordinal;
+    this.changedSize += 1;
+  }
+
+  /**
+   * Gets whether the cell with the given ordinal is a legal move for the given player.
+   *
+   * @param ordinal the ordinal of the cell
+   * @param player  BLACK or WHITE
+   * @return true if the player can play there
+   */
+  boolean isLegal(int ordinal, SharedCell player) {
+    this.update();
+    return this.moves[player.ordinal()].get(ordinal);
+  }
+
+  /**
+   * Gets the number of legal moves of the given player.
+   *
+   * @param player BLACK or WHITE
+   * @return the number of legal moves
+   */
+  int getMoveCount(SharedCell player) {
+    this.update();
+    return this.moveCounts[player.ordinal()];
+  }
+
+  /**
+   * Gets the ordinals of the legal moves of the given player. The set belongs to the
+   * tracker and must not be changed.
+   *
+   * @param player BLACK or WHITE
+   * @return the legal moves of the player
+   */
+  BitSet getMoves(SharedCell player) {
+    this.update();
+    return this.moves[player.ordinal()];
+  }
+
+  // brings the moves up to date with the cells changed since they were last asked for
+  private void update() {
+    if (!this.built) {
+      this.moves[1].clear();
+      this.moves[2].clear();
+      this.moveCounts[1] = 0;
+      this.moveCounts[2] = 0;
+      for (int cell = 0; cell < this.owners.length; cell += 1) {
+        this.check(cell);
+      }
+      this.built = true;
+      return;
+    }
+
+    if (this.changedSize == 0) {
+      return;
+    }
+
+    this.stamp += 1;
+    for (int index = 0; index < this.changedSize; index += 1) {
+      int cell = this.changed[index];
+      this.checkOnce(cell);
+
+      // every cell up to the first empty one may see the changed cell along its line
+      for (int direction = 0; direction < this.topology.getDirectionCount();
+           direction += 1) {
+        for (int seen : this.topology.getRay(cell, direction)) {
+          if (this.owners[seen] == 0) {
+            this.checkOnce(seen);
+            break;
+          }
+        }
+      }
+    }
+    this.changedSize = 0;
+  }
+
+  // checks the given cell again unless it was already checked in this update
+  private void checkOnce(int cell) {
+    if (this.checked[cell] != this.stamp) {
+      this.checked[cell] = this.stamp;
+      this.check(cell);
+    }
+  }
+
+  // works out again whether the given cell is a legal move for each player
+  private void check(int cell) {
+    boolean empty = this.owners[cell] == 0;
+    this.setLegal(cell, 1, empty && this.flipsAny(cell, (byte) 1));
+    this.setLegal(cell, 2, empty && this.flipsAny(cell, (byte) 2));
+  }
+
+  // records whether the given cell is a legal move for the given player
+  private void setLegal(int cell, int player, boolean legal) {
+    if (this.moves[player].get(cell) != legal) {
+      this.moves[player].set(cell, legal);
+      this.moveCounts[player] += legal ? 1 : -1;
+    }
+  }
+
+  // whether the given player playing at the given cell would flip at least one piece
+  private boolean flipsAny(int cell, byte player) {
+    byte opponent = (byte) (3 - player);
+
+    for (int direction = 0; direction < this.topology.getDirectionCount(); direction += 1) {
+      int[] ray = this.topology.getRay(cell, direction);
+      int length = 0;
+
+      // walk over the opponent's pieces until something else is found
+      while (length < ray.length && this.owners[ray[length]] == opponent) {
+        length += 1;
+      }
+
+      // the line only counts if it is closed off by one of the player's own pieces
+      if (length > 0 && length < ray.length && this.owners[ray[length]] == player) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
@@ -41,14 +41,14 @@ public final class Position2D implements GamePosition {
   }
 
   /**
-   * Returns a unique hashcode for every unique non-equal instance of a
-   * Position2D.
+   * Returns a hashcode for this Position2D, mixing both coordinates so that the positions
+   * of a board are spread evenly across the buckets of a hash table.
    *
-   * @return the unique hashcode of this object as an int.
+   * @return the hashcode of this object as an int.
    */
   @Override
   public int hashCode() {
-    return Integer.parseInt(Integer.toString(this.x * this.y - this.x - this.y));
+    return 31 * this.x + this.y;
   }
 
   /**
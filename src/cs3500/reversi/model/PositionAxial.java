@@ -1,5 +1,7 @@
 package cs3500.reversi.model;
 
+import java.util.Objects;
+
 /**
  * This class represents a 2D position using axial coordinates.
  * A position is defined by the values of 'q,' 'r,' and 's.'
@@ -45,14 +47,14 @@ public final class PositionAxial implements GamePosition {
   }
 
   /**
-   * Returns a unique hashcode for every unique non-equal instance of a
-   * PositionAxial.
+   * Returns a hashcode for this PositionAxial, mixing all three coordinates so that the
+   * positions of a board are spread evenly across the buckets of a hash table.
    *
-   * @return the unique hashcode of this object as an int.
+   * @return the hashcode of this object as an int.
    */
   @Override
   public int hashCode() {
-    return Integer.valueOf(Integer.toString(this.q * this.r * this.s - this.q - this.r - this.s));
+    return Objects.hash(this.q, this.r, this.s);
   }
 
   /**
@@ -23,7 +23,8 @@ public interface ReadOnlyReversiModel {
    * GamePosition.
    *
    * @param posn The GamePosition to get the cell at
-   * @return The cell at the specified coordinates.
+   * @return The cell at the specified coordinates, which may be a shared cell that cannot
+   *     be changed.
    * @throws IllegalArgumentException if the position does not exist in this game.
    */
   Cell getCellAt(GamePosition posn);
@@ -99,4 +100,39 @@ public interface ReadOnlyReversiModel {
    * @return The score for the given move if it was played.
    */
   int getScoreForMovePlayer(GamePosition posn, String player);
+
+  /**
+   * Finds every legal move for the given player in a single pass over the board. The
+   * ordinal of each move is written to the moves array and the number of pieces it would
+   * flip to the same index of the flips array, so no positions or collections are created.
+   * Ordinals can be turned back into positions with getPositionAt.
+   *
+   * @param playerType The player to find the legal moves for.
+   * @param moves      The array to fill with move ordinals, with room for getBoardSize() moves.
+   * @param flips      The array to fill with flip counts, with room for getBoardSize() moves.
+   * @return The number of legal moves written to the arrays.
+   * @throws IllegalArgumentException if either array is shorter than getBoardSize().
+   */
+  int getLegalMoves(PlayerType playerType, int[] moves, int[] flips);
+
+  /**
+   * Gets the position with the given ordinal, as written by getLegalMoves. Every position
+   * on the board has an ordinal from 0 up to, but not including, getBoardSize().
+   *
+   * @param ordinal The ordinal of the position.
+   * @return The position with the given ordinal.
+   * @throws IllegalArgumentException if no position on the board has the given ordinal.
+   */
+  GamePosition getPositionAt(int ordinal);
+
+  /**
+   * Gets a 64-bit Zobrist hash of the pieces on the board and whose turn it is. Two
+   * positions with the same pieces and the same player to move always have the same hash,
+   * and different positions almost never do, so the hash can stand in for the position in
+   * tables of positions that have already been searched. The hash is kept up to date as
+   * moves are made rather than worked out again each time.
+   *
+   * @return The hash of the current position.
+   */
+  long getPositionHash();
 }
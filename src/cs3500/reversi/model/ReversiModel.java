@@ -29,7 +29,8 @@ public interface ReversiModel extends ReadOnlyReversiModel {
   void startGame();
 
   /**
-   * Creates a deep copy of the board of this Reversi game.
+   * Creates a deep copy of the board of this Reversi game. Changing the copy never changes
+   * the game. The cells in the copy may be shared cells, which cannot be changed.
    *
    * @return a deep copy of the board of this Reversi game.
    */
@@ -59,6 +60,36 @@ public interface ReversiModel extends ReadOnlyReversiModel {
    */
   void passTurn(Player player);
 
+  /**
+   * Plays the move with the given ordinal for the current player in place, and remembers
+   * how to take it back with undoMove. Ordinals are the ones written by getLegalMoves, and
+   * the ordinal getBoardSize() passes the turn. Unlike addPieceToCoordinates, listeners are
+   * not notified, so strategies can look ahead by changing one model and then restoring it.
+   *
+   * @param ordinal The ordinal of the move to make, or getBoardSize() to pass.
+   * @throws IllegalArgumentException if the ordinal is not a position on the board.
+   * @throws IllegalStateException    if the current player cannot move there.
+   */
+  void applyMove(int ordinal);
+
+  /**
+   * Takes back the last move made with applyMove that has not been taken back yet,
+   * restoring the board, the current player and the count of passed turns.
+   *
+   * @throws IllegalStateException if there is no move to take back.
+   */
+  void undoMove();
+
+  /**
+   * Makes an independent copy of this model with the same board, current player, count of
+   * passed turns and started state, so a search can change the copy on another thread
+   * without touching this model. Listeners and the moves that could be taken back with
+   * undoMove are not copied, and both players of the copy are computer players.
+   *
+   * @return A copy of this model.
+   */
+  ReversiModel copy();
+
   /**
    * Checks if the current player has any valid moves.
    *
@@ -87,7 +118,8 @@ public interface ReversiModel extends ReadOnlyReversiModel {
    * GamePosition.
    *
    * @param posn The GamePosition to get the cell at
-   * @return The cell at the specified coordinates.
+   * @return The cell at the specified coordinates, which may be a shared cell that cannot
+   *     be changed.
    * @throws IllegalArgumentException if the position does not exist in this game.
    */
   Cell getCellAt(GamePosition posn);
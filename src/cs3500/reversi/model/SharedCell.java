@@ -0,0 +1,161 @@
+package cs3500.reversi.model;
+
+import java.util.Objects;
+
+import cs3500.reversi.controller.Player;
+import cs3500.reversi.controller.PlayerType;
+
+/**
+ * A cell that cannot be changed, so one instance of each kind of cell can be shared by every
+ * position of every board. The models store these cells on their boards and give them out
+ * from getCellAt and getBoardCopy without making new ones. A move changes a position by
+ * putting a different shared cell there instead of changing the cell that is there.
+ *
+ * <p>Since there is exactly one cell per owner, the models tell owners apart by comparing
+ * the cells themselves. The owner Strings of getCellOwner and toString are only for the
+ * views and other code written against Cell.
+ */
+public enum SharedCell implements Cell {
+
+  /**
+   * The cell nobody owns.
+   */
+  EMPTY(CellType.Empty, "", "_"),
+  /**
+   * The cell owned by the black player.
+   */
+  BLACK(CellType.Player, "X", "X"),
+  /**
+   * The cell owned by the white player.
+   */
+  WHITE(CellType.Player, "O", "O");
+
+  // The type of the cell, which can be Empty or Player.
+  private final CellType type;
+  // The owner of the cell as a String, "" if it is empty.
+  private final String owner;
+  // The string representation of the cell.
+  private final String mark;
+
+  SharedCell(CellType type, String owner, String mark) {
+    this.type = type;
+    this.owner = owner;
+    this.mark = mark;
+  }
+
+  /**
+   * Gets the shared cell owned by the given player type.
+   *
+   * @param type the type of the player that owns the cell
+   * @return BLACK or WHITE
+   */
+  public static SharedCell of(PlayerType type) {
+    if (Objects.requireNonNull(type).equals(PlayerType.BLACK)) {
+      return BLACK;
+    } else {
+      return WHITE;
+    }
+  }
+
+  /**
+   * Gets the shared cell owned by the given player, found by the player's String.
+   *
+   * @param player the player that owns the cell
+   * @return BLACK or WHITE
+   */
+  public static SharedCell of(Player player) {
+    if (player.toString().equals("X")) {
+      return BLACK;
+    } else {
+      return WHITE;
+    }
+  }
+
+  /**
+   * Gets the shared cell with the same type and owner as the given cell, which is the cell
+   * itself if it is already shared.
+   *
+   * @param cell the cell to match
+   * @return EMPTY, BLACK or WHITE
+   */
+  public static SharedCell of(Cell cell) {
+    if (cell instanceof SharedCell) {
+      return (SharedCell) cell;
+    } else if (!cell.sameCellType(CellType.Player)) {
+      return EMPTY;
+    } else if (cell.getCellOwner().equals("X")) {
+      return BLACK;
+    } else {
+      return WHITE;
+    }
+  }
+
+  /**
+   * Gets the cell owned by the other player, or EMPTY for the empty cell.
+   *
+   * @return the cell of the other player
+   */
+  public SharedCell opponent() {
+    if (this == BLACK) {
+      return WHITE;
+    } else if (this == WHITE) {
+      return BLACK;
+    } else {
+      return EMPTY;
+    }
+  }
+
+  /**
+   * Get the owner of the cell.
+   *
+   * @return The player that owns the cell, or "" if the cell is empty as a
+   *     String.
+   */
+  @Override
+  public String getCellOwner() {
+    return this.owner;
+  }
+
+  /**
+   * Shared cells cannot be changed. Put a different shared cell at the position instead.
+   *
+   * @param player The player to set as the owner of the cell.
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public void setCellToPlayer(Player player) {
+    throw new UnsupportedOperationException("Shared cells cannot be changed");
+  }
+
+  /**
+   * Get the type of the cell.
+   *
+   * @return The type of the cell.
+   */
+  @Override
+  public CellType getCellType() {
+    return this.type;
+  }
+
+  /**
+   * Check if the cell has the same type as the given CellType.
+   *
+   * @param otherType The CellType to compare with.
+   * @return true if the cell has the same type as the given CellType, false
+   *      otherwise.
+   */
+  @Override
+  public boolean sameCellType(CellType otherType) {
+    return this.type.equals(otherType);
+  }
+
+  /**
+   * The string representation of the cell. If the cell is empty, it returns "_"
+   *
+   * @return The string representation of the cell, which is either "_", "X" or "O"
+   */
+  @Override
+  public String toString() {
+    return this.mark;
+  }
+}
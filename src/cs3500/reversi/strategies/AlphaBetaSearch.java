@@ -0,0 +1,143 @@
+package cs3500.reversi.strategies;
+
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.PositionAxial;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * Represents a strategy that looks ahead several moves with an alpha-beta search. The search
+ * deepens one move at a time until it runs out of time, and the best move of the deepest
+ * search that finished is played. Positions at the bottom of the search are scored with a
+ * PositionEvaluator, and positions where the game is over are scored by who won. Positions
+ * that have already been searched are remembered in a TranspositionTable, so a position
+ * reached again by a different order of moves is not searched again, and the best move
+ * found for a position the last time it was searched is tried first.
+ */
+public class AlphaBetaSearch implements ReversiStrategy {
+
+  // the number of entries in the transposition table made when none is given
+  private static final int DEFAULT_TABLE_ENTRIES = 1 << 16;
+
+  // how long the search may take for one move, in milliseconds
+  private final long timeBudgetMillis;
+  // the deepest the search will go, in moves
+  private final int maxDepth;
+  // searches the positions after each move
+  private final SearchWorker worker;
+
+  // the legal moves and flips of the position the search starts from
+  private int[] rootMoves;
+  private int[] rootFlips;
+
+  /**
+   * Constructs an AlphaBetaSearch that takes half a second per move and scores positions
+   * with a CornerEvaluator.
+   */
+  public AlphaBetaSearch() {
+    this(500);
+  }
+
+  /**
+   * Constructs an AlphaBetaSearch that takes the given time per move and scores positions
+   * with a CornerEvaluator.
+   *
+   * @param timeBudgetMillis how long the search may take for one move, in milliseconds
+   * @throws IllegalArgumentException if the time budget is not positive
+   */
+  public AlphaBetaSearch(long timeBudgetMillis) {
+    this(timeBudgetMillis, 64, new CornerEvaluator());
+  }
+
+  /**
+   * Constructs an AlphaBetaSearch with the given time budget, depth limit and evaluator.
+   * The search always finishes looking one move ahead, even if that takes longer than the
+   * time budget.
+   *
+   * @param timeBudgetMillis how long the search may take for one move, in milliseconds
+   * @param maxDepth         the deepest the search will go, in moves
+   * @param evaluator        scores positions at the bottom of the search
+   * @throws IllegalArgumentException if the time budget or depth is not positive, or the
+   *                                  evaluator is null
+   */
+  public AlphaBetaSearch(long timeBudgetMillis, int maxDepth, PositionEvaluator evaluator) {
+    this(timeBudgetMillis, maxDepth, evaluator, new TranspositionTable(DEFAULT_TABLE_ENTRIES));
+  }
+
+  /**
+   * Constructs an AlphaBetaSearch with the given time budget, depth limit, evaluator and
+   * transposition table. The table may be shared with other searches that use the same
+   * evaluator, so they can make use of each other's results.
+   *
+   * @param timeBudgetMillis how long the search may take for one move, in milliseconds
+   * @param maxDepth         the deepest the search will go, in moves
+   * @param evaluator        scores positions at the bottom of the search
+   * @param table            remembers the positions that have already been searched
+   * @throws IllegalArgumentException if the time budget or depth is not positive, or the
+   *                                  evaluator or table is null
+   */
+  public AlphaBetaSearch(long timeBudgetMillis, int maxDepth, PositionEvaluator evaluator,
+                         TranspositionTable table) {
+    if (timeBudgetMillis <= 0) {
+      throw new IllegalArgumentException("Time budget must be positive");
+    }
+    if (maxDepth <= 0) {
+      throw new IllegalArgumentException("Max depth must be positive");
+    }
+    if (evaluator == null) {
+      throw new IllegalArgumentException("Evaluator cannot be null");
+    }
+    if (table == null) {
+      throw new IllegalArgumentException("Table cannot be null");
+    }
+
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.maxDepth = maxDepth;
+    this.worker = new SearchWorker(evaluator, table);
+    this.rootMoves = new int[0];
+    this.rootFlips = new int[0];
+  }
+
+  /**
+   * Chooses the move the search thinks is best. Each move looked at is played on the given
+   * model and taken back, so the model is left as it was given.
+   *
+   * @param model      the model to choose a move from
+   * @param playerTurn the player whose turn it is
+   * @return the position of the move to make, or an off board position to pass
+   */
+  @Override
+  public GamePosition chooseMove(ReversiModel model, PlayerType playerTurn) {
+    long deadline = System.nanoTime() + this.timeBudgetMillis * 1_000_000L;
+    if (this.rootMoves.length < model.getBoardSize()) {
+      this.rootMoves = new int[model.getBoardSize()];
+      this.rootFlips = new int[model.getBoardSize()];
+    }
+
+    int moveCount = model.getLegalMoves(playerTurn, this.rootMoves, this.rootFlips);
+    if (moveCount == 0) {
+      return new PositionAxial(model.getBoardSize(), model.getBoardSize(),
+          model.getBoardSize());
+    }
+
+    int bestMove = this.rootMoves[0];
+    for (int depth = 1; depth <= this.maxDepth; depth += 1) {
+      // the first iteration is never cut short, so there is always a searched move
+      this.worker.startRound(deadline, depth > 1);
+
+      // The best move of the last iteration is kept at the front, so it is searched first
+      // and the rest are cut off sooner. A move that beat it before time ran out is still
+      // better than it.
+      int iterationBest = this.worker.searchRoot(model, playerTurn, this.rootMoves, moveCount,
+          depth);
+      if (iterationBest != -1) {
+        bestMove = iterationBest;
+      }
+      if (this.worker.isAborted() || !this.worker.hitDepthLimit()) {
+        break;
+      }
+    }
+
+    return model.getPositionAt(bestMove);
+  }
+}
@@ -1,10 +1,6 @@
 package cs3500.reversi.strategies;
 
-import java.util.HashMap;
-
-import cs3500.reversi.controller.ComputerPlayer;
 import cs3500.reversi.controller.PlayerType;
-import cs3500.reversi.model.Cell;
 import cs3500.reversi.model.GamePosition;
 import cs3500.reversi.model.PositionAxial;
 import cs3500.reversi.model.ReversiModel;
@@ -16,6 +12,13 @@ import cs3500.reversi.model.ReversiModel;
  */
 public class AvoidCellsNextToCorner implements ReversiStrategy {
 
+  // keeps the moves that are not next to a corner
+  private static final LegalMoveBuffer.MoveFilter NOT_NEXT_TO_CORNER =
+      (model, posn) -> !posn.checkNextToCorner(model.getNumRows());
+
+  // the legal moves found on the last turn, reused so choosing a move does not allocate
+  private final LegalMoveBuffer legalMoves = new LegalMoveBuffer();
+
   /**
    * Chooses the move that will capture the most pieces while avoiding the cells
    * next to a corner.
@@ -27,40 +30,21 @@ public class AvoidCellsNextToCorner implements ReversiStrategy {
   @Override
   public GamePosition chooseMove(ReversiModel model, PlayerType playerTurn) {
 
-    HashMap<GamePosition, Cell> board = model.getBoardCopy(); // Get the board
-    HashMap<GamePosition, Integer> scores = new HashMap<>();
-
     // Get the scores for each move
-    for (GamePosition posn : board.keySet()) {
-      if (model.doesCurrentPlayerHaveValidMovesPosn(posn, new ComputerPlayer(playerTurn))) {
-        scores.put(posn, model.getScoreForMove(posn));
-      }
-    }
+    this.legalMoves.fill(model, playerTurn);
 
     // getting rid of moves next to corners
-    HashMap<GamePosition, Integer> scoresNoNextToCorners = new HashMap<>();
-
-    for (GamePosition posn : scores.keySet()) {
-      if (!this.isNextToCorner(model, posn)) {
-        scoresNoNextToCorners.put(posn, scores.get(posn));
-      }
-    }
+    this.legalMoves.retain(model, NOT_NEXT_TO_CORNER);
 
     // Passing is represented by returning the boardsize for each coordinate
     GamePosition bestPosn = new PositionAxial(model.getBoardSize(),
         model.getBoardSize(), model.getBoardSize());
 
     // choose the best move of those not next to the corner
-    if (!scoresNoNextToCorners.isEmpty()) {
-      bestPosn = new CaptureMostPieces().getHighestScorePosn(scoresNoNextToCorners);
+    if (this.legalMoves.size() > 0) {
+      bestPosn = this.legalMoves.getHighestScorePosn(model);
     }
 
     return bestPosn;
   }
-
-  // Returns true if the given position is next to a corner position
-  private boolean isNextToCorner(ReversiModel model, GamePosition posn) {
-
-    return posn.checkNextToCorner(model.getNumRows());
-  }
 }
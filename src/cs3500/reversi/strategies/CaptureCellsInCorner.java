@@ -1,10 +1,6 @@
 package cs3500.reversi.strategies;
 
-import java.util.HashMap;
-
-import cs3500.reversi.controller.ComputerPlayer;
 import cs3500.reversi.controller.PlayerType;
-import cs3500.reversi.model.Cell;
 import cs3500.reversi.model.GamePosition;
 import cs3500.reversi.model.PositionAxial;
 import cs3500.reversi.model.ReversiModel;
@@ -16,6 +12,13 @@ import cs3500.reversi.model.ReversiModel;
  */
 public class CaptureCellsInCorner implements ReversiStrategy {
 
+  // keeps the moves that are in a corner
+  private static final LegalMoveBuffer.MoveFilter IN_CORNER =
+      (model, posn) -> posn.checkCorner(model.getNumRows());
+
+  // the legal moves found on the last turn, reused so choosing a move does not allocate
+  private final LegalMoveBuffer legalMoves = new LegalMoveBuffer();
+
   /**
    * Chooses the move that will capture the most pieces while capturing the
    * corner.
@@ -26,24 +29,12 @@ public class CaptureCellsInCorner implements ReversiStrategy {
    */
   @Override
   public GamePosition chooseMove(ReversiModel model, PlayerType playerTurn) {
-    HashMap<GamePosition, Cell> board = model.getBoardCopy();
-    HashMap<GamePosition, Integer> scores = new HashMap<GamePosition, Integer>();
 
     // Get the scores for each move
-    for (GamePosition posn : board.keySet()) {
-      if (model.doesCurrentPlayerHaveValidMovesPosn(posn, new ComputerPlayer(playerTurn))) {
-        scores.put(posn, model.getScoreForMove(posn));
-      }
-    }
+    this.legalMoves.fill(model, playerTurn);
 
     // finding moves in corners
-    HashMap<GamePosition, Integer> scoresCorners = new HashMap<GamePosition, Integer>();
-
-    for (GamePosition posn : scores.keySet()) {
-      if (this.isCorner(model, posn)) {
-        scoresCorners.put(posn, scores.get(posn));
-      }
-    }
+    this.legalMoves.retain(model, IN_CORNER);
 
     // if there are no moves in the corner, return the boardsize for each coordinate
     // as a pass
@@ -51,15 +42,10 @@ public class CaptureCellsInCorner implements ReversiStrategy {
         model.getBoardSize());
 
     // choose the best move of those in the corner
-    if (!scoresCorners.isEmpty()) {
-      bestPosn = new CaptureMostPieces().getHighestScorePosn(scoresCorners);
+    if (this.legalMoves.size() > 0) {
+      bestPosn = this.legalMoves.getHighestScorePosn(model);
     }
 
     return bestPosn;
   }
-
-  // Returns true if the given position is a corner position
-  private boolean isCorner(ReversiModel model, GamePosition posn) {
-    return posn.checkCorner(model.getNumRows());
-  }
 }
@@ -0,0 +1,108 @@
+package cs3500.reversi.strategies;
+
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.ReadOnlyReversiModel;
+import cs3500.reversi.model.SharedCell;
+
+/**
+ * A position evaluator built on the same ideas as CaptureCellsInCorner and
+ * AvoidCellsNextToCorner. Every piece a player owns is worth one point, pieces in a corner
+ * are worth more because they can never be flipped, and pieces next to a corner are worth
+ * less because they tend to give the corner away. The opponent's pieces count against the
+ * player in the same way.
+ */
+public class CornerEvaluator implements PositionEvaluator {
+
+  // the value of a piece in a corner
+  private final int cornerWeight;
+  // the value of a piece next to a corner
+  private final int nextToCornerWeight;
+  // the weight of every cell of the last kind of board that was evaluated
+  private volatile Weights weights;
+
+  /**
+   * Constructs a CornerEvaluator with the default weights, where a corner is worth ten
+   * ordinary pieces and a cell next to a corner costs as much as three are worth.
+   */
+  public CornerEvaluator() {
+    this(10, -3);
+  }
+
+  /**
+   * Constructs a CornerEvaluator with the given weights. An ordinary piece is worth one.
+   *
+   * @param cornerWeight       the value of a piece in a corner
+   * @param nextToCornerWeight the value of a piece next to a corner
+   */
+  public CornerEvaluator(int cornerWeight, int nextToCornerWeight) {
+    this.cornerWeight = cornerWeight;
+    this.nextToCornerWeight = nextToCornerWeight;
+  }
+
+  @Override
+  public int evaluate(ReadOnlyReversiModel model, PlayerType player) {
+    int[] cellWeights = this.getWeights(model);
+    SharedCell own = SharedCell.of(player);
+
+    int score = 0;
+    for (int ordinal = 0; ordinal < cellWeights.length; ordinal += 1) {
+      SharedCell owner = SharedCell.of(model.getCellAt(model.getPositionAt(ordinal)));
+      if (owner == own) {
+        score += cellWeights[ordinal];
+      } else if (owner != SharedCell.EMPTY) {
+        score -= cellWeights[ordinal];
+      }
+    }
+
+    return score;
+  }
+
+  // gets the weight of every cell of the given board, working them out again only when a
+  // different kind of board is evaluated. Every model of one kind and width gives its cells
+  // the same ordinals, so the copies a search makes of a model all share its weights.
+  private int[] getWeights(ReadOnlyReversiModel model) {
+    Weights current = this.weights;
+    if (current != null && current.isFor(model)) {
+      return current.cellWeights;
+    }
+
+    int[] cellWeights = new int[model.getBoardSize()];
+    for (int ordinal = 0; ordinal < cellWeights.length; ordinal += 1) {
+      GamePosition posn = model.getPositionAt(ordinal);
+      if (posn.checkCorner(model.getNumRows())) {
+        cellWeights[ordinal] = this.cornerWeight;
+      } else if (posn.checkNextToCorner(model.getNumRows())) {
+        cellWeights[ordinal] = this.nextToCornerWeight;
+      } else {
+        cellWeights[ordinal] = 1;
+      }
+    }
+
+    this.weights = new Weights(model.getClass(), model.getNumRows(), cellWeights);
+    return cellWeights;
+  }
+
+  /**
+   * The weights of the cells of one kind of board, kept together with the kind and width of
+   * board so that an evaluator shared between threads never mixes up the weights of two
+   * boards.
+   */
+  private static final class Weights {
+    private final Class<?> kind;
+    private final int rows;
+    private final int[] cellWeights;
+
+    private Weights(Class<?> kind, int rows, int[] cellWeights) {
+      this.kind = kind;
+      this.rows = rows;
+      this.cellWeights = cellWeights;
+    }
+
+    // whether these are the weights of the cells of the given board
+    private boolean isFor(ReadOnlyReversiModel model) {
+      return this.kind == model.getClass() && this.rows == model.getNumRows()
+          && this.cellWeights.length == model.getBoardSize();
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package cs3500.reversi.strategies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.PositionAxial;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * Represents a strategy that searches with several threads at once in the lazy SMP style.
+ * Every thread runs its own iterative deepening alpha-beta search of the whole position on
+ * its own copy of the model, and all of them share one TranspositionTable. The threads do
+ * not divide the work between them. Instead they help each other through the table: a
+ * position one thread has searched is settled for the others. Half of the helper threads
+ * start one move deeper than the main thread and each helper searches the legal moves in a
+ * different order, so they tend to fill the table ahead of the main thread.
+ *
+ * <p>When time runs out, the best move of the deepest finished iteration of any thread is
+ * played, preferring the main thread when two threads reached the same depth. The number
+ * of positions searched, the nodes per second and the effective branching factor of the
+ * last move are kept so the scaling over different numbers of threads can be measured.
+ *
+ * <p>Every search with the same number of threads runs on the same pool of threads, so
+ * making a search for every game or every thread does not leave threads running.
+ */
+public class LazySmpSearch implements ReversiStrategy {
+
+  // the number of entries in the transposition table made when none is given
+  private static final int DEFAULT_TABLE_ENTRIES = 1 << 20;
+
+  // how long the search may take for one move, in milliseconds
+  private final long timeBudgetMillis;
+  // the deepest the search will go, in moves
+  private final int maxDepth;
+  // one worker for each thread, used only by that thread's search
+  private final SearchWorker[] workers;
+  // the threads the searches are run on, shared with every search of the same number of
+  // threads
+  private final ExecutorService executor;
+
+  // the statistics of the last move chosen
+  private long lastNodes;
+  private long lastNanos;
+  private int lastDepth;
+
+  /**
+   * Constructs a LazySmpSearch that takes half a second per move on the given number of
+   * threads and scores positions with a CornerEvaluator.
+   *
+   * @param threads the number of threads to search on
+   * @throws IllegalArgumentException if the number of threads is not positive
+   */
+  public LazySmpSearch(int threads) {
+    this(500, threads, 64, new CornerEvaluator(),
+        new TranspositionTable(DEFAULT_TABLE_ENTRIES));
+  }
+
+  /**
+   * Constructs a LazySmpSearch with the given time budget, number of threads, depth limit,
+   * evaluator and shared transposition table. The main thread always finishes looking one
+   * move ahead, even if that takes longer than the time budget.
+   *
+   * @param timeBudgetMillis how long the search may take for one move, in milliseconds
+   * @param threads          the number of threads to search on
+   * @param maxDepth         the deepest the search will go, in moves
+   * @param evaluator        scores positions at the bottom of the search
+   * @param table            the table of searched positions shared by every thread
+   * @throws IllegalArgumentException if the time budget, number of threads or depth is not
+   *                                  positive, or the evaluator or table is null
+   */
+  public LazySmpSearch(long timeBudgetMillis, int threads, int maxDepth,
+                       PositionEvaluator evaluator, TranspositionTable table) {
+    if (timeBudgetMillis <= 0) {
+      throw new IllegalArgumentException("Time budget must be positive");
+    }
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Threads must be positive");
+    }
+    if (maxDepth <= 0) {
+      throw new IllegalArgumentException("Max depth must be positive");
+    }
+    if (evaluator == null) {
+      throw new IllegalArgumentException("Evaluator cannot be null");
+    }
+    if (table == null) {
+      throw new IllegalArgumentException("Table cannot be null");
+    }
+
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.maxDepth = maxDepth;
+    this.workers = new SearchWorker[threads];
+    for (int thread = 0; thread < threads; thread += 1) {
+      this.workers[thread] = new SearchWorker(evaluator, table);
+    }
+    this.executor = SearchPools.get("lazy-smp-search", threads);
+  }
+
+  /**
+   * Chooses the best move found by any of the threads. Only copies of the given model are
+   * changed, so it is left as it was given.
+   *
+   * @param model      the model to choose a move from
+   * @param playerTurn the player whose turn it is
+   * @return the position of the move to make, or an off board position to pass
+   * @throws IllegalStateException if the search is interrupted or one of its threads fails
+   */
+  @Override
+  public GamePosition chooseMove(ReversiModel model, PlayerType playerTurn) {
+    long start = System.nanoTime();
+    long deadline = start + this.timeBudgetMillis * 1_000_000L;
+
+    int[] moves = new int[model.getBoardSize()];
+    int[] flips = new int[model.getBoardSize()];
+    int moveCount = model.getLegalMoves(playerTurn, moves, flips);
+    if (moveCount == 0) {
+      return new PositionAxial(model.getBoardSize(), model.getBoardSize(),
+          model.getBoardSize());
+    }
+
+    long nodesBefore = 0;
+    for (SearchWorker worker : this.workers) {
+      nodesBefore += worker.getNodes();
+    }
+
+    // Every thread searches its own copy, made here so the given model is only read by
+    // this thread
+    AtomicBoolean stop = new AtomicBoolean(false);
+    List<Callable<Long>> searches = new ArrayList<>();
+    for (int thread = 0; thread < this.workers.length; thread += 1) {
+      int[] rootMoves = new int[moveCount];
+      for (int index = 0; index < moveCount; index += 1) {
+        // each helper starts from a different move, so the threads search different lines
+        rootMoves[index] = moves[(index + thread) % moveCount];
+      }
+      searches.add(new ThreadSearch(this.workers[thread], model.copy(), playerTurn,
+          rootMoves, thread, deadline, stop));
+    }
+
+    long best;
+    try {
+      List<Future<Long>> results = this.executor.invokeAll(searches);
+      best = results.get(0).get();
+      for (Future<Long> result : results) {
+        // the depth is in the high half, so a deeper result is always larger
+        if ((result.get() >>> 32) > (best >>> 32)) {
+          best = result.get();
+        }
+      }
+    } catch (InterruptedException e) {
+      stop.set(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Search was interrupted");
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Search failed", e.getCause());
+    }
+
+    long nodesAfter = 0;
+    for (SearchWorker worker : this.workers) {
+      nodesAfter += worker.getNodes();
+    }
+    this.lastNodes = nodesAfter - nodesBefore;
+    this.lastNanos = System.nanoTime() - start;
+    this.lastDepth = (int) (best >>> 32);
+
+    return model.getPositionAt((int) best);
+  }
+
+  /**
+   * Gets the number of positions searched by all of the threads while choosing the last
+   * move.
+   *
+   * @return the number of positions searched for the last move
+   */
+  public long getLastNodes() {
+    return this.lastNodes;
+  }
+
+  /**
+   * Gets how many positions all of the threads searched each second while choosing the
+   * last move.
+   *
+   * @return the nodes per second of the last move, or 0 if no move has been searched
+   */
+  public double getLastNodesPerSecond() {
+    if (this.lastNanos == 0) {
+      return 0;
+    }
+
+    return this.lastNodes * 1_000_000_000.0 / this.lastNanos;
+  }
+
+  /**
+   * Gets the deepest iteration any thread finished while choosing the last move.
+   *
+   * @return the depth of the last move's search, or 0 if no move has been searched
+   */
+  public int getLastDepth() {
+    return this.lastDepth;
+  }
+
+  /**
+   * Gets the effective branching factor of the last move's search, the number of moves that
+   * would have to be searched from every position to search as many positions as were
+   * searched in reaching the depth that was reached. Lower is better, and a search that
+   * scales well keeps it from growing as threads are added.
+   *
+   * @return the effective branching factor of the last move, or 0 if no move has been
+   *     searched
+   */
+  public double getLastEffectiveBranchingFactor() {
+    if (this.lastDepth == 0) {
+      return 0;
+    }
+
+    return Math.pow(this.lastNodes, 1.0 / this.lastDepth);
+  }
+
+  /**
+   * The iterative deepening search run by one thread. Gives back the depth of its deepest
+   * finished iteration in the high half of a long and that iteration's best move in the low
+   * half.
+   */
+  private final class ThreadSearch implements Callable<Long> {
+
+    private final SearchWorker worker;
+    private final ReversiModel model;
+    private final PlayerType playerTurn;
+    private final int[] rootMoves;
+    private final int thread;
+    private final long deadline;
+    // set once any thread has searched the whole game, since no deeper search can help
+    private final AtomicBoolean stop;
+
+    private ThreadSearch(SearchWorker worker, ReversiModel model, PlayerType playerTurn,
+                         int[] rootMoves, int thread, long deadline, AtomicBoolean stop) {
+      this.worker = worker;
+      this.model = model;
+      this.playerTurn = playerTurn;
+      this.rootMoves = rootMoves;
+      this.thread = thread;
+      this.deadline = deadline;
+      this.stop = stop;
+    }
+
+    @Override
+    public Long call() {
+      int bestMove = this.rootMoves[0];
+      int bestDepth = 0;
+
+      // half of the helpers start a move deeper than the main thread
+      for (int depth = 1 + this.thread % 2; depth <= LazySmpSearch.this.maxDepth;
+           depth += 1) {
+        // the main thread's first iteration is never cut short, so there is always a move
+        this.worker.startRound(this.deadline, this.thread != 0 || depth > 1, this.stop);
+
+        int iterationBest = this.worker.searchRoot(this.model, this.playerTurn, this.rootMoves,
+            this.rootMoves.length, depth);
+        if (this.worker.isAborted()) {
+          break;
+        }
+
+        bestMove = iterationBest;
+        bestDepth = depth;
+        if (!this.worker.hitDepthLimit()) {
+          this.stop.set(true);
+          break;
+        }
+      }
+
+      return ((long) bestDepth << 32) | bestMove;
+    }
+  }
+}
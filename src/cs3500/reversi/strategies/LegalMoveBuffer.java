@@ -0,0 +1,142 @@
+package cs3500.reversi.strategies;
+
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.ReadOnlyReversiModel;
+
+/**
+ * Holds the legal moves a strategy is choosing between. The arrays handed to the model are
+ * kept from one turn to the next and only grow when a bigger board is seen, so finding the
+ * legal moves does not allocate anything once the buffer is warm.
+ */
+class LegalMoveBuffer {
+
+  // the ordinals of the legal moves
+  private int[] moves;
+  // the number of pieces each legal move would flip, at the same index as its ordinal
+  private int[] flips;
+  // the number of legal moves currently held
+  private int size;
+
+  /**
+   * Constructs an empty LegalMoveBuffer.
+   */
+  LegalMoveBuffer() {
+    this.moves = new int[0];
+    this.flips = new int[0];
+    this.size = 0;
+  }
+
+  /**
+   * Replaces the held moves with the legal moves of the given player on the given model.
+   *
+   * @param model      the model to find the moves on
+   * @param playerTurn the player whose moves are found
+   */
+  void fill(ReadOnlyReversiModel model, PlayerType playerTurn) {
+    if (this.moves.length < model.getBoardSize()) {
+      this.moves = new int[model.getBoardSize()];
+      this.flips = new int[model.getBoardSize()];
+    }
+
+    this.size = model.getLegalMoves(playerTurn, this.moves, this.flips);
+  }
+
+  /**
+   * Gets the number of moves held.
+   *
+   * @return the number of moves held
+   */
+  int size() {
+    return this.size;
+  }
+
+  /**
+   * Gets the ordinal of the move at the given index.
+   *
+   * @param index the index of the move
+   * @return the ordinal of the move
+   */
+  int getMove(int index) {
+    return this.moves[index];
+  }
+
+  /**
+   * Gets the number of pieces the move at the given index would flip.
+   *
+   * @param index the index of the move
+   * @return the number of pieces the move would flip
+   */
+  int getFlips(int index) {
+    return this.flips[index];
+  }
+
+  /**
+   * Keeps only the moves for which the given filter answers true, in their original order.
+   *
+   * @param model  the model the moves were found on
+   * @param filter the test each kept move must pass
+   */
+  void retain(ReadOnlyReversiModel model, MoveFilter filter) {
+    int kept = 0;
+
+    for (int index = 0; index < this.size; index += 1) {
+      if (filter.test(model, model.getPositionAt(this.moves[index]))) {
+        this.moves[kept] = this.moves[index];
+        this.flips[kept] = this.flips[index];
+        kept += 1;
+      }
+    }
+
+    this.size = kept;
+  }
+
+  /**
+   * Gets the position of the held move that flips the most pieces. Ties are broken by
+   * choosing the uppermost-leftmost move.
+   *
+   * @param model the model the moves were found on
+   * @return the position of the best move
+   * @throws IllegalStateException if no moves are held
+   */
+  GamePosition getHighestScorePosn(ReadOnlyReversiModel model) {
+    if (this.size == 0) {
+      throw new IllegalStateException("No moves to choose from");
+    }
+
+    // Get the highest score
+    int bestScore = this.flips[0];
+    for (int index = 1; index < this.size; index += 1) {
+      bestScore = Math.max(bestScore, this.flips[index]);
+    }
+
+    // Find the left uppermost of the positions with the highest score
+    GamePosition leftUpperMost = null;
+    for (int index = 0; index < this.size; index += 1) {
+      if (this.flips[index] == bestScore) {
+        GamePosition posn = model.getPositionAt(this.moves[index]);
+        if (leftUpperMost == null) {
+          leftUpperMost = posn;
+        }
+        leftUpperMost = posn.checkLeftUpperMost(leftUpperMost);
+      }
+    }
+
+    return leftUpperMost;
+  }
+
+  /**
+   * A test deciding whether a legal move should be kept.
+   */
+  interface MoveFilter {
+
+    /**
+     * Decides whether the move at the given position should be kept.
+     *
+     * @param model the model the move was found on
+     * @param posn  the position of the move
+     * @return true if the move should be kept
+     */
+    boolean test(ReadOnlyReversiModel model, GamePosition posn);
+  }
+}
@@ -1,13 +1,6 @@
 package cs3500.reversi.strategies;
 
-import java.util.HashMap;
-
-import cs3500.reversi.controller.ComputerPlayer;
 import cs3500.reversi.controller.PlayerType;
-import cs3500.reversi.model.BasicReversiModel;
-import cs3500.reversi.model.Cell;
-import cs3500.reversi.model.CellType;
-import cs3500.reversi.model.GameCell;
 import cs3500.reversi.model.GamePosition;
 import cs3500.reversi.model.PositionAxial;
 import cs3500.reversi.model.ReversiModel;
@@ -19,8 +12,17 @@ import cs3500.reversi.model.ReversiModel;
  */
 public class MinimizeNextOpponentMove implements ReversiStrategy {
 
+  // the legal moves found on the last turn, reused so choosing a move does not allocate
+  private final LegalMoveBuffer legalMoves = new LegalMoveBuffer();
+  // the strategy the opponent is assumed to play with
+  private final ReversiStrategy opponentStrategy = new TryTwoStrategies(
+      new CaptureCellsInCorner(),
+      new TryTwoStrategies(new AvoidCellsNextToCorner(), new CaptureMostPieces()));
+
   /**
-   * Chooses the move that will minimize the next opponent's move.
+   * Chooses the move that will minimize the next opponent's move. Each move is played
+   * on a copy of the given model and taken back once the opponent's reply has been found,
+   * so the given model is left as it was given.
    *
    * @param model      the model to choose a move from
    * @param playerTurn the player whose turn it is
@@ -28,17 +30,8 @@ public class MinimizeNextOpponentMove implements ReversiStrategy {
    */
   @Override
   public GamePosition chooseMove(ReversiModel model, PlayerType playerTurn) {
-    // Create a copy of the board
-    HashMap<GamePosition, Cell> board = model.getBoardCopy();
-    // Create a hashmap of the scores for each move
-    HashMap<GamePosition, Integer> scores = new HashMap<GamePosition, Integer>();
-
-    // For every position on the board, see if it is a valid move and, if so, add it
-    for (GamePosition posn : board.keySet()) {
-      if (model.doesCurrentPlayerHaveValidMovesPosn(posn, new ComputerPlayer(playerTurn))) {
-        scores.put(posn, model.getScoreForMove(posn));
-      }
-    }
+    // Find every valid move and how many pieces it captures
+    this.legalMoves.fill(model, playerTurn);
 
     // Represents the best possible move to minimize the opponents next move.
     // Defualts to pass turn if there are no valid moves.
@@ -46,39 +39,41 @@ public class MinimizeNextOpponentMove implements ReversiStrategy {
         model.getBoardSize());
     // The lowest possible score for the opponents next move.
     int lowestScore = Integer.MAX_VALUE;
+    if (this.legalMoves.size() == 0) {
+      return bestPosn;
+    }
 
-    // For every possible move, create a copy of the board and add the move to the
-    // copied board
-    for (GamePosition posn : scores.keySet()) {
-      HashMap<GamePosition, Cell> futureBoard = model.getBoardCopy();
-
-      Cell cellToAdd = new GameCell(CellType.Player);
-
-      cellToAdd.setCellToPlayer(new ComputerPlayer(playerTurn));
-
-      futureBoard.put(posn, cellToAdd);
+    // The model every move is played on, so the given one is never changed
+    ReversiModel futureModel = model.copy();
 
-      // The model one move in the future
-      ReversiModel futureModel = new BasicReversiModel(model.getNumRows(), futureBoard,
-          new ComputerPlayer(playerTurn).getOppositePlayer());
+    // For every possible move, play it and find the opponent's best reply
+    for (int index = 0; index < this.legalMoves.size(); index += 1) {
+      int move = this.legalMoves.getMove(index);
 
-      // Get the best move for the opponent for the model in the future
-      GamePosition bestNextTurn = new TryTwoStrategies(new CaptureCellsInCorner(),
-          new TryTwoStrategies(new AvoidCellsNextToCorner(), new CaptureMostPieces()))
-          .chooseMove(futureModel, this.getOppositePlayerType(playerTurn));
+      GamePosition bestNextTurn;
+      int replyScore;
+      futureModel.applyMove(move);
+      try {
+        bestNextTurn = this.opponentStrategy.chooseMove(futureModel,
+            this.getOppositePlayerType(playerTurn));
+        replyScore = bestNextTurn.containsCoordinate(futureModel.getBoardSize())
+            ? 0 : futureModel.getScoreForMove(bestNextTurn);
+      } finally {
+        futureModel.undoMove();
+      }
 
       // If the best move for the opponent is off the board, then the best move for
       // them is to pass, which is the best possible case for the player
       if (bestNextTurn.containsCoordinate(model.getBoardSize())) {
         // If the move is worse for the opponent then the current worst move, update
         // bestPosn and lowest score
-        if (futureModel.getScoreForMove(bestNextTurn) < lowestScore) {
-          lowestScore = futureModel.getScoreForMove(bestNextTurn);
-          bestPosn = posn;
+        if (replyScore < lowestScore) {
+          lowestScore = replyScore;
+          bestPosn = model.getPositionAt(move);
         }
       } else {
         lowestScore = 0;
-        bestPosn = posn;
+        bestPosn = model.getPositionAt(move);
       }
     }
 
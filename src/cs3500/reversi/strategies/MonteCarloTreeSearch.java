@@ -0,0 +1,320 @@
+package cs3500.reversi.strategies;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.PositionAxial;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * Represents a strategy that chooses moves with Monte Carlo Tree Search. Each playout walks
+ * down a tree of the moves seen so far, choosing moves by the UCT formula, adds one new move
+ * to the tree and then finishes the game with random moves. The move from the start that
+ * was played out the most is chosen. Playouts are run on a PlayoutBoard rather than on the
+ * model, so they are cheap enough to run many thousands of times a move.
+ *
+ * <p>The search stops when its time budget or its number of playouts runs out, whichever
+ * comes first. The part of the tree below the chosen move is kept, and if the opponent's
+ * reply is a move in it, the next search carries on from there instead of starting over.
+ */
+public class MonteCarloTreeSearch implements ReversiStrategy {
+
+  // how much UCT favors moves that have been played out less
+  private static final double EXPLORATION = Math.sqrt(2);
+
+  // how long the search may take for one move, in milliseconds
+  private final long timeBudgetMillis;
+  // the most playouts the search will run for one move
+  private final int maxPlayouts;
+  // the source of the random moves
+  private final Random random;
+
+  // the tree below the last move chosen, and the board after that move, null if none
+  private Node lastTree;
+  private PlayoutBoard lastBoard;
+
+  // the statistics of the last move chosen
+  private int lastPlayouts;
+  private long lastNanos;
+  private int lastReusedPlayouts;
+
+  /**
+   * Constructs a MonteCarloTreeSearch that takes a second per move.
+   */
+  public MonteCarloTreeSearch() {
+    this(1000, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Constructs a MonteCarloTreeSearch that stops after the given time or number of playouts,
+   * whichever comes first.
+   *
+   * @param timeBudgetMillis how long the search may take for one move, in milliseconds
+   * @param maxPlayouts      the most playouts to run for one move
+   * @throws IllegalArgumentException if the time budget or number of playouts is not
+   *                                  positive
+   */
+  public MonteCarloTreeSearch(long timeBudgetMillis, int maxPlayouts) {
+    this(timeBudgetMillis, maxPlayouts, new Random());
+  }
+
+  /**
+   * Constructs a MonteCarloTreeSearch that stops after the given time or number of playouts,
+   * and draws its random moves from the given source. With a seeded source and a time budget
+   * that is never reached, the same moves are chosen every time.
+   *
+   * @param timeBudgetMillis how long the search may take for one move, in milliseconds
+   * @param maxPlayouts      the most playouts to run for one move
+   * @param random           the source of the random moves
+   * @throws IllegalArgumentException if the time budget or number of playouts is not
+   *                                  positive, or the source is null
+   */
+  public MonteCarloTreeSearch(long timeBudgetMillis, int maxPlayouts, Random random) {
+    if (timeBudgetMillis <= 0) {
+      throw new IllegalArgumentException("Time budget must be positive");
+    }
+    if (maxPlayouts <= 0) {
+      throw new IllegalArgumentException("Max playouts must be positive");
+    }
+    if (random == null) {
+      throw new IllegalArgumentException("Random cannot be null");
+    }
+
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.maxPlayouts = maxPlayouts;
+    this.random = random;
+  }
+
+  /**
+   * Chooses the move that was played out the most. The model is only read.
+   *
+   * @param model      the model to choose a move from
+   * @param playerTurn the player whose turn it is
+   * @return the position of the move to make, or an off board position to pass
+   */
+  @Override
+  public GamePosition chooseMove(ReversiModel model, PlayerType playerTurn) {
+    long start = System.nanoTime();
+    long deadline = start + this.timeBudgetMillis * 1_000_000L;
+
+    PlayoutBoard board = new PlayoutBoard(model, playerTurn);
+    int[] moves = new int[board.getCellCount()];
+    Node root = this.findReusableTree(board);
+
+    // With no moves to make there is nothing to search
+    if (board.getLegalMoves(moves) == 0) {
+      this.lastPlayouts = 0;
+      this.lastNanos = System.nanoTime() - start;
+      this.lastReusedPlayouts = 0;
+      return new PositionAxial(model.getBoardSize(), model.getBoardSize(),
+          model.getBoardSize());
+    }
+
+    if (root == null) {
+      root = new Node(null, PlayoutBoard.PASS, opponentOf(board.getToMove()), board, moves);
+    }
+    this.lastReusedPlayouts = root.visits;
+
+    // At least one playout is run, so there is a move to choose even if the time is up
+    PlayoutBoard scratch = new PlayoutBoard(board);
+    int playouts = 0;
+    do {
+      scratch.copyFrom(board);
+      this.playOut(root, scratch, moves);
+      playouts += 1;
+    } while (playouts < this.maxPlayouts && System.nanoTime() - deadline < 0);
+
+    Node best = root.children[0];
+    for (int index = 1; index < root.childCount; index += 1) {
+      if (root.children[index].visits > best.visits) {
+        best = root.children[index];
+      }
+    }
+
+    // Keep the tree below the chosen move for the next turn
+    this.lastTree = best;
+    this.lastBoard = new PlayoutBoard(board);
+    this.lastBoard.play(best.move);
+    this.lastPlayouts = playouts;
+    this.lastNanos = System.nanoTime() - start;
+
+    return board.getPosition(best.move);
+  }
+
+  /**
+   * Gets the number of playouts run while choosing the last move.
+   *
+   * @return the number of playouts of the last move
+   */
+  public int getLastPlayouts() {
+    return this.lastPlayouts;
+  }
+
+  /**
+   * Gets how many playouts were run each second while choosing the last move.
+   *
+   * @return the playouts per second of the last move, or 0 if no move has been searched
+   */
+  public double getLastPlayoutsPerSecond() {
+    if (this.lastNanos == 0) {
+      return 0;
+    }
+
+    return this.lastPlayouts * 1_000_000_000.0 / this.lastNanos;
+  }
+
+  /**
+   * Gets the number of playouts the last move started with because they were kept from the
+   * turn before.
+   *
+   * @return the playouts kept for the last move, 0 if the tree was not reused
+   */
+  public int getLastReusedPlayouts() {
+    return this.lastReusedPlayouts;
+  }
+
+  // Finds the part of the kept tree that starts from the given board, which is there if the
+  // opponent's move since the last search was one the tree had already tried
+  private Node findReusableTree(PlayoutBoard board) {
+    Node tree = this.lastTree;
+    PlayoutBoard treeBoard = this.lastBoard;
+    this.lastTree = null;
+    this.lastBoard = null;
+
+    if (tree == null || treeBoard.getCellCount() != board.getCellCount()) {
+      return null;
+    }
+
+    PlayoutBoard reply = new PlayoutBoard(treeBoard);
+    for (int index = 0; index < tree.childCount; index += 1) {
+      reply.copyFrom(treeBoard);
+      reply.play(tree.children[index].move);
+      if (reply.samePosition(board)) {
+        Node root = tree.children[index];
+        root.parent = null;
+        return root;
+      }
+    }
+
+    return null;
+  }
+
+  // Runs one playout from the given node, whose position is on the given board, and counts
+  // its result in every node it passed through
+  private void playOut(Node root, PlayoutBoard board, int[] moves) {
+    Node node = root;
+
+    // Walk down the tree while every move of the node has been tried
+    while (node.untriedCount == 0 && node.childCount > 0) {
+      node = node.selectChild();
+      board.play(node.move);
+    }
+
+    // Try one new move, unless the game is over
+    if (node.untriedCount > 0) {
+      int index = this.random.nextInt(node.untriedCount);
+      int move = node.untried[index];
+      node.untriedCount -= 1;
+      node.untried[index] = node.untried[node.untriedCount];
+
+      byte mover = board.getToMove();
+      board.play(move);
+      node = node.addChild(new Node(node, move, mover, board, moves));
+    }
+
+    board.playOut(this.random, moves);
+    byte winner = board.getWinner();
+
+    for (; node != null; node = node.parent) {
+      node.visits += 1;
+      if (winner == node.mover) {
+        node.wins += 1;
+      } else if (winner == PlayoutBoard.EMPTY) {
+        node.wins += 0.5;
+      }
+    }
+  }
+
+  // the other player of the given PlayoutBoard player
+  private static byte opponentOf(byte player) {
+    return (byte) (PlayoutBoard.BLACK + PlayoutBoard.WHITE - player);
+  }
+
+  /**
+   * A position in the tree, reached by playing a move from its parent's position.
+   */
+  private static final class Node {
+    // the move that leads to this position, and the player who made it
+    private final int move;
+    private final byte mover;
+    // the position this one was reached from, null for the root of the tree
+    private Node parent;
+    // the positions reached by the moves tried so far
+    private Node[] children;
+    private int childCount;
+    // the legal moves from this position that have not been tried yet
+    private final int[] untried;
+    private int untriedCount;
+    // the number of playouts through this position, and how many the mover won
+    private int visits;
+    private double wins;
+
+    /**
+     * Constructs a Node for the position on the given board.
+     *
+     * @param parent the position this one was reached from, or null
+     * @param move   the move that leads to this position
+     * @param mover  the player who made the move
+     * @param board  the board in this position
+     * @param moves  an array with room for every cell of the board, used to find moves
+     */
+    private Node(Node parent, int move, byte mover, PlayoutBoard board, int[] moves) {
+      this.parent = parent;
+      this.move = move;
+      this.mover = mover;
+
+      int count = 0;
+      if (!board.isOver()) {
+        count = board.getLegalMoves(moves);
+        if (count == 0) {
+          // the only move without a legal move is to pass
+          moves[0] = PlayoutBoard.PASS;
+          count = 1;
+        }
+      }
+
+      this.untried = Arrays.copyOf(moves, count);
+      this.untriedCount = count;
+      this.children = new Node[count];
+      this.childCount = 0;
+    }
+
+    // adds the given node as a child of this one and gets it back
+    private Node addChild(Node child) {
+      this.children[this.childCount] = child;
+      this.childCount += 1;
+      return child;
+    }
+
+    // gets the child with the highest UCT value, favoring the first one in a tie
+    private Node selectChild() {
+      double logVisits = Math.log(this.visits);
+      Node best = this.children[0];
+      double bestValue = Double.NEGATIVE_INFINITY;
+
+      for (int index = 0; index < this.childCount; index += 1) {
+        Node child = this.children[index];
+        double value = child.wins / child.visits
+            + EXPLORATION * Math.sqrt(logVisits / child.visits);
+        if (value > bestValue) {
+          bestValue = value;
+          best = child;
+        }
+      }
+
+      return best;
+    }
+  }
+}
@@ -0,0 +1,353 @@
+package cs3500.reversi.strategies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.PositionAxial;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * Represents a strategy that runs Monte Carlo Tree Search on several threads at once, all
+ * growing the same tree. Each thread runs its own playouts on its own PlayoutBoard, and the
+ * counts in the tree are atomic, so the threads never lock each other out.
+ *
+ * <p>A thread counts a playout through a position as soon as it passes through it, before
+ * the playout has a result, which counts as a loss until the result comes in. This virtual
+ * loss makes the position look worse to the other threads for a moment, so they spread out
+ * over different moves instead of all following the same line.
+ *
+ * <p>The search stops when its time budget or its number of playouts runs out, whichever
+ * comes first, and the move from the start that was played out the most is chosen.
+ *
+ * <p>Every search with the same number of threads runs on the same pool of threads, so
+ * making a search for every game or every thread does not leave threads running.
+ */
+public class ParallelMonteCarloTreeSearch implements ReversiStrategy {
+
+  // how much UCT favors moves that have been played out less
+  private static final double EXPLORATION = Math.sqrt(2);
+
+  // how long the search may take for one move, in milliseconds
+  private final long timeBudgetMillis;
+  // the most playouts the search will run for one move, over all of the threads
+  private final int maxPlayouts;
+  // the source of the random moves of each thread, used only by that thread
+  private final Random[] randoms;
+  // the threads the playouts are run on, shared with every search of the same number of
+  // threads
+  private final ExecutorService executor;
+
+  // the statistics of the last move chosen
+  private int lastPlayouts;
+  private long lastNanos;
+
+  /**
+   * Constructs a ParallelMonteCarloTreeSearch that takes a second per move on every
+   * processor.
+   */
+  public ParallelMonteCarloTreeSearch() {
+    this(1000, Integer.MAX_VALUE, Runtime.getRuntime().availableProcessors(),
+        new Random().nextLong());
+  }
+
+  /**
+   * Constructs a ParallelMonteCarloTreeSearch that stops after the given time or number of
+   * playouts, whichever comes first, and runs on the given number of threads. Each thread
+   * draws its random moves from its own source, seeded from the given seed.
+   *
+   * @param timeBudgetMillis how long the search may take for one move, in milliseconds
+   * @param maxPlayouts      the most playouts to run for one move, over all of the threads
+   * @param threads          the number of threads to run playouts on
+   * @param seed             the seed of the threads' random moves
+   * @throws IllegalArgumentException if the time budget, number of playouts or number of
+   *                                  threads is not positive
+   */
+  public ParallelMonteCarloTreeSearch(long timeBudgetMillis, int maxPlayouts, int threads,
+                                      long seed) {
+    if (timeBudgetMillis <= 0) {
+      throw new IllegalArgumentException("Time budget must be positive");
+    }
+    if (maxPlayouts <= 0) {
+      throw new IllegalArgumentException("Max playouts must be positive");
+    }
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Threads must be positive");
+    }
+
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.maxPlayouts = maxPlayouts;
+    this.randoms = new Random[threads];
+    for (int thread = 0; thread < threads; thread += 1) {
+      this.randoms[thread] = new Random(seed + thread);
+    }
+    this.executor = SearchPools.get("parallel-mcts", threads);
+  }
+
+  /**
+   * Chooses the move that was played out the most by all of the threads. The model is only
+   * read.
+   *
+   * @param model      the model to choose a move from
+   * @param playerTurn the player whose turn it is
+   * @return the position of the move to make, or an off board position to pass
+   * @throws IllegalStateException if the search is interrupted or one of its threads fails
+   */
+  @Override
+  public GamePosition chooseMove(ReversiModel model, PlayerType playerTurn) {
+    long start = System.nanoTime();
+    long deadline = start + this.timeBudgetMillis * 1_000_000L;
+
+    PlayoutBoard board = new PlayoutBoard(model, playerTurn);
+    int[] moves = new int[board.getCellCount()];
+
+    // With no moves to make there is nothing to search
+    if (board.getLegalMoves(moves) == 0) {
+      this.lastPlayouts = 0;
+      this.lastNanos = System.nanoTime() - start;
+      return new PositionAxial(model.getBoardSize(), model.getBoardSize(),
+          model.getBoardSize());
+    }
+
+    Node root = new Node(PlayoutBoard.PASS, (byte) (PlayoutBoard.BLACK + PlayoutBoard.WHITE
+        - board.getToMove()), board, moves, this.randoms[0]);
+    AtomicInteger claimed = new AtomicInteger(0);
+
+    List<Callable<Integer>> searches = new ArrayList<>();
+    for (Random random : this.randoms) {
+      searches.add(new ThreadSearch(root, board, random, deadline, claimed));
+    }
+
+    int playouts = 0;
+    try {
+      for (Future<Integer> result : this.executor.invokeAll(searches)) {
+        playouts += result.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Search was interrupted");
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Search failed", e.getCause());
+    }
+
+    // a move is still chosen if the time ran out before any playout
+    int bestMove = root.untried[0];
+    int bestVisits = 0;
+    for (int index = 0; index < root.getChildCount(); index += 1) {
+      Node child = root.children.get(index);
+      if (child != null && child.visits.get() > bestVisits) {
+        bestMove = child.move;
+        bestVisits = child.visits.get();
+      }
+    }
+
+    this.lastPlayouts = playouts;
+    this.lastNanos = System.nanoTime() - start;
+
+    return board.getPosition(bestMove);
+  }
+
+  /**
+   * Gets the number of playouts run by all of the threads while choosing the last move.
+   *
+   * @return the number of playouts of the last move
+   */
+  public int getLastPlayouts() {
+    return this.lastPlayouts;
+  }
+
+  /**
+   * Gets how many playouts all of the threads ran each second while choosing the last move.
+   *
+   * @return the playouts per second of the last move, or 0 if no move has been searched
+   */
+  public double getLastPlayoutsPerSecond() {
+    if (this.lastNanos == 0) {
+      return 0;
+    }
+
+    return this.lastPlayouts * 1_000_000_000.0 / this.lastNanos;
+  }
+
+  /**
+   * The playouts run by one thread. Gives back the number of playouts it finished.
+   */
+  private final class ThreadSearch implements Callable<Integer> {
+
+    private final Node root;
+    private final PlayoutBoard rootBoard;
+    private final Random random;
+    private final long deadline;
+    // the number of playouts any thread has started, so the threads stop at the maximum
+    private final AtomicInteger claimed;
+
+    private ThreadSearch(Node root, PlayoutBoard rootBoard, Random random, long deadline,
+                         AtomicInteger claimed) {
+      this.root = root;
+      this.rootBoard = rootBoard;
+      this.random = random;
+      this.deadline = deadline;
+      this.claimed = claimed;
+    }
+
+    @Override
+    public Integer call() {
+      PlayoutBoard board = new PlayoutBoard(this.rootBoard);
+      int[] moves = new int[board.getCellCount()];
+      // the nodes the current playout passed through, so its result can be counted in them
+      Node[] path = new Node[board.getCellCount() * 2 + 2];
+      int playouts = 0;
+
+      while (System.nanoTime() - this.deadline < 0
+          && this.claimed.getAndIncrement() < ParallelMonteCarloTreeSearch.this.maxPlayouts) {
+        board.copyFrom(this.rootBoard);
+        int length = this.descend(board, moves, path);
+
+        board.playOut(this.random, moves);
+        byte winner = board.getWinner();
+
+        // the visits were counted on the way down, so only the wins are left to count
+        for (int index = 0; index < length; index += 1) {
+          if (winner == path[index].mover) {
+            path[index].wins.addAndGet(2);
+          } else if (winner == PlayoutBoard.EMPTY) {
+            path[index].wins.addAndGet(1);
+          }
+        }
+        playouts += 1;
+      }
+
+      return playouts;
+    }
+
+    // Walks down the tree from the root, playing its moves on the given board and adding
+    // one new move when it reaches a position with moves left to try. Counts a visit in
+    // every node on the way and gets the number of nodes written to the path.
+    private int descend(PlayoutBoard board, int[] moves, Node[] path) {
+      Node node = this.root;
+      node.visits.incrementAndGet();
+      path[0] = node;
+      int length = 1;
+
+      while (true) {
+        int next = node.claimed.get() < node.untried.length
+            ? node.claimed.getAndIncrement() : node.untried.length;
+
+        if (next < node.untried.length) {
+          // this thread is the only one trying this move, so it makes the child
+          byte mover = board.getToMove();
+          board.play(node.untried[next]);
+          Node child = new Node(node.untried[next], mover, board, moves, this.random);
+          child.visits.incrementAndGet();
+          node.children.set(next, child);
+          path[length] = child;
+          return length + 1;
+        }
+
+        Node child = node.selectChild();
+        if (child == null) {
+          // the game is over here, or every child is still being made by other threads
+          return length;
+        }
+        child.visits.incrementAndGet();
+        board.play(child.move);
+        path[length] = child;
+        length += 1;
+        node = child;
+      }
+    }
+  }
+
+  /**
+   * A position in the shared tree, reached by playing a move from its parent's position.
+   * Its counts are changed by every thread without locks.
+   */
+  private static final class Node {
+    // the move that leads to this position, and the player who made it
+    private final int move;
+    private final byte mover;
+    // the legal moves from this position, in a random order
+    private final int[] untried;
+    // the number of legal moves a thread has started trying
+    private final AtomicInteger claimed;
+    // the position reached by each legal move, null until it has been tried
+    private final AtomicReferenceArray<Node> children;
+    // the number of playouts through this position, including ones without a result yet
+    private final AtomicInteger visits;
+    // twice the number of playouts the mover won, so that a tie counts as one
+    private final AtomicLong wins;
+
+    /**
+     * Constructs a Node for the position on the given board.
+     *
+     * @param move   the move that leads to this position
+     * @param mover  the player who made the move
+     * @param board  the board in this position
+     * @param moves  an array with room for every cell of the board, used to find moves
+     * @param random the source used to put the legal moves in a random order
+     */
+    private Node(int move, byte mover, PlayoutBoard board, int[] moves, Random random) {
+      this.move = move;
+      this.mover = mover;
+
+      int count = 0;
+      if (!board.isOver()) {
+        count = board.getLegalMoves(moves);
+        if (count == 0) {
+          // the only move without a legal move is to pass
+          moves[0] = PlayoutBoard.PASS;
+          count = 1;
+        }
+      }
+
+      this.untried = new int[count];
+      for (int index = 0; index < count; index += 1) {
+        int swap = random.nextInt(index + 1);
+        this.untried[index] = this.untried[swap];
+        this.untried[swap] = moves[index];
+      }
+      this.claimed = new AtomicInteger(0);
+      this.children = new AtomicReferenceArray<>(count);
+      this.visits = new AtomicInteger(0);
+      this.wins = new AtomicLong(0);
+    }
+
+    // the number of children that have been or are being made
+    private int getChildCount() {
+      return Math.min(this.claimed.get(), this.untried.length);
+    }
+
+    // gets the made child with the highest UCT value, or null if there is none
+    private Node selectChild() {
+      double logVisits = Math.log(this.visits.get());
+      Node best = null;
+      double bestValue = Double.NEGATIVE_INFINITY;
+
+      for (int index = 0; index < this.getChildCount(); index += 1) {
+        Node child = this.children.get(index);
+        if (child == null) {
+          continue;
+        }
+
+        int childVisits = child.visits.get();
+        double value = child.wins.get() / (2.0 * childVisits)
+            + EXPLORATION * Math.sqrt(logVisits / childVisits);
+        if (value > bestValue) {
+          bestValue = value;
+          best = child;
+        }
+      }
+
+      return best;
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package cs3500.reversi.strategies;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.PositionAxial;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * Represents a strategy that looks a fixed number of moves ahead with an alpha-beta search,
+ * splitting the legal moves across the threads of a ForkJoinPool. Every move is searched on
+ * its own copy of the model, and idle threads steal moves from busy ones.
+ *
+ * <p>The threads share the best score found so far, so a move that cannot beat it is cut off
+ * sooner. The bar is kept one below the best score, so every move that ties with the best
+ * is still scored exactly. This makes the chosen move the same however the moves are
+ * scheduled: it is the move with the highest score, and ties are broken by choosing the
+ * uppermost-leftmost move, the same way CaptureMostPieces does.
+ *
+ * <p>Every search with the same number of threads runs on the same pool, so making a search
+ * for every game or every thread does not start threads that are never shut down. The
+ * threads of a pool stop on their own once it has been idle for a while.
+ */
+public class ParallelRootSearch implements ReversiStrategy {
+
+  // the pool for each number of threads, shared by every search
+  private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+  // how many moves ahead the search looks
+  private final int depth;
+  // scores positions at the bottom of the search
+  private final PositionEvaluator evaluator;
+  // the threads the moves are searched on, shared with every search of the same parallelism
+  private final ForkJoinPool pool;
+
+  /**
+   * Constructs a ParallelRootSearch that looks the given number of moves ahead, using every
+   * processor and scoring positions with a CornerEvaluator.
+   *
+   * @param depth how many moves ahead to look
+   * @throws IllegalArgumentException if the depth is not positive
+   */
+  public ParallelRootSearch(int depth) {
+    this(depth, Runtime.getRuntime().availableProcessors(), new CornerEvaluator());
+  }
+
+  /**
+   * Constructs a ParallelRootSearch with the given depth, number of threads and evaluator.
+   *
+   * @param depth       how many moves ahead to look
+   * @param parallelism the number of threads to search on
+   * @param evaluator   scores positions at the bottom of the search
+   * @throws IllegalArgumentException if the depth or parallelism is not positive, or the
+   *                                  evaluator is null
+   */
+  public ParallelRootSearch(int depth, int parallelism, PositionEvaluator evaluator) {
+    if (depth <= 0) {
+      throw new IllegalArgumentException("Depth must be positive");
+    }
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Parallelism must be positive");
+    }
+    if (evaluator == null) {
+      throw new IllegalArgumentException("Evaluator cannot be null");
+    }
+
+    this.depth = depth;
+    this.evaluator = evaluator;
+    this.pool = POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+  }
+
+  /**
+   * Chooses the move with the best score after looking ahead. Only copies of the given model
+   * are changed, so it is left as it was given.
+   *
+   * @param model      the model to choose a move from
+   * @param playerTurn the player whose turn it is
+   * @return the position of the move to make, or an off board position to pass
+   */
+  @Override
+  public GamePosition chooseMove(ReversiModel model, PlayerType playerTurn) {
+    int[] moves = new int[model.getBoardSize()];
+    int[] flips = new int[model.getBoardSize()];
+    int moveCount = model.getLegalMoves(playerTurn, moves, flips);
+    if (moveCount == 0) {
+      return new PositionAxial(model.getBoardSize(), model.getBoardSize(),
+          model.getBoardSize());
+    }
+
+    // Every move gets its own copy, made here so the given model is only read by this thread
+    ReversiModel[] copies = new ReversiModel[moveCount];
+    for (int index = 0; index < moveCount; index += 1) {
+      copies[index] = model.copy();
+    }
+
+    int[] scores = new int[moveCount];
+    this.pool.invoke(new SearchMoves(copies, playerTurn, moves, scores, 0, moveCount,
+        new AtomicInteger(-SearchWorker.INF)));
+
+    int bestScore = scores[0];
+    for (int index = 1; index < moveCount; index += 1) {
+      bestScore = Math.max(bestScore, scores[index]);
+    }
+
+    // Find the left uppermost of the moves with the best score
+    GamePosition leftUpperMost = null;
+    for (int index = 0; index < moveCount; index += 1) {
+      if (scores[index] == bestScore) {
+        GamePosition posn = model.getPositionAt(moves[index]);
+        if (leftUpperMost == null) {
+          leftUpperMost = posn;
+        }
+        leftUpperMost = posn.checkLeftUpperMost(leftUpperMost);
+      }
+    }
+
+    return leftUpperMost;
+  }
+
+  /**
+   * Searches a range of the legal moves, splitting it in half until each task has one move
+   * so that idle threads can steal the rest.
+   */
+  private final class SearchMoves extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ReversiModel[] copies;
+    private final PlayerType playerTurn;
+    private final int[] moves;
+    private final int[] scores;
+    private final int from;
+    private final int to;
+    // the best score any move has been found to have so far
+    private final AtomicInteger bestScore;
+
+    private SearchMoves(ReversiModel[] copies, PlayerType playerTurn, int[] moves,
+                        int[] scores, int from, int to, AtomicInteger bestScore) {
+      this.copies = copies;
+      this.playerTurn = playerTurn;
+      this.moves = moves;
+      this.scores = scores;
+      this.from = from;
+      this.to = to;
+      this.bestScore = bestScore;
+    }
+
+    @Override
+    protected void compute() {
+      if (this.to - this.from > 1) {
+        int middle = (this.from + this.to) >>> 1;
+        invokeAll(
+            new SearchMoves(this.copies, this.playerTurn, this.moves, this.scores, this.from,
+                middle, this.bestScore),
+            new SearchMoves(this.copies, this.playerTurn, this.moves, this.scores, middle,
+                this.to, this.bestScore));
+        return;
+      }
+
+      ReversiModel copy = this.copies[this.from];
+      SearchWorker worker = new SearchWorker(ParallelRootSearch.this.evaluator, null);
+      worker.startRound(0, false);
+
+      // A score one below the best can still tie it, so it is scored exactly
+      int bar = this.bestScore.get() - 1;
+      copy.applyMove(this.moves[this.from]);
+      int score = -worker.search(copy, SearchWorker.getOppositePlayerType(this.playerTurn),
+          ParallelRootSearch.this.depth - 1, -SearchWorker.INF, -bar);
+      copy.undoMove();
+
+      this.scores[this.from] = score;
+      this.bestScore.accumulateAndGet(score, Math::max);
+    }
+  }
+}
@@ -0,0 +1,254 @@
+package cs3500.reversi.strategies;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.BoardTopology;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.Position2D;
+import cs3500.reversi.model.ReadOnlyReversiModel;
+import cs3500.reversi.model.SharedCell;
+
+/**
+ * A small, fast copy of a Reversi board for playing out many random games. Each cell is one
+ * byte indexed by its ordinal in a BoardTopology, so playing a move only walks the shared
+ * rays of the topology and never creates positions, cells or collections. Positions that a
+ * custom starting board placed off the regular board are left out.
+ */
+final class PlayoutBoard {
+
+  /**
+   * The value of an empty cell, and the player of a board where nobody is to move.
+   */
+  static final byte EMPTY = 0;
+  /**
+   * The value of a cell owned by black, and of black as the player to move.
+   */
+  static final byte BLACK = 1;
+  /**
+   * The value of a cell owned by white, and of white as the player to move.
+   */
+  static final byte WHITE = 2;
+  /**
+   * The move that passes the turn.
+   */
+  static final int PASS = -1;
+
+  // the shape of the board
+  private final BoardTopology topology;
+  // the owner of every cell, by ordinal
+  private final byte[] cells;
+  // the player whose turn it is
+  private byte toMove;
+  // the number of turns passed in a row
+  private int passes;
+
+  /**
+   * Constructs a PlayoutBoard holding the pieces of the given model, with the given player
+   * to move.
+   *
+   * @param model      the model to copy the pieces of
+   * @param playerTurn the player whose turn it is
+   */
+  PlayoutBoard(ReadOnlyReversiModel model, PlayerType playerTurn) {
+    GamePosition first = model.getPositionAt(0);
+    if (first instanceof Position2D) {
+      this.topology = BoardTopology.square(model.getNumRows());
+    } else {
+      this.topology = BoardTopology.hexagonal(model.getNumRows());
+    }
+
+    this.cells = new byte[this.topology.getCellCount()];
+    for (int ordinal = 0; ordinal < model.getBoardSize(); ordinal += 1) {
+      GamePosition posn = model.getPositionAt(ordinal);
+      int cell = this.topology.getOrdinal(posn);
+      if (cell >= 0) {
+        SharedCell owner = SharedCell.of(model.getCellAt(posn));
+        if (owner == SharedCell.BLACK) {
+          this.cells[cell] = BLACK;
+        } else if (owner == SharedCell.WHITE) {
+          this.cells[cell] = WHITE;
+        }
+      }
+    }
+
+    this.toMove = playerTurn.equals(PlayerType.BLACK) ? BLACK : WHITE;
+    this.passes = 0;
+  }
+
+  /**
+   * Constructs a copy of the given board.
+   *
+   * @param other the board to copy
+   */
+  PlayoutBoard(PlayoutBoard other) {
+    this.topology = other.topology;
+    this.cells = other.cells.clone();
+    this.toMove = other.toMove;
+    this.passes = other.passes;
+  }
+
+  /**
+   * Makes this board the same as the given board of the same shape, without allocating.
+   *
+   * @param other the board to copy
+   */
+  void copyFrom(PlayoutBoard other) {
+    System.arraycopy(other.cells, 0, this.cells, 0, this.cells.length);
+    this.toMove = other.toMove;
+    this.passes = other.passes;
+  }
+
+  /**
+   * Gets the number of cells on the board, which is also the room a move array needs.
+   *
+   * @return the number of cells
+   */
+  int getCellCount() {
+    return this.cells.length;
+  }
+
+  /**
+   * Gets the player whose turn it is.
+   *
+   * @return BLACK or WHITE
+   */
+  byte getToMove() {
+    return this.toMove;
+  }
+
+  /**
+   * Gets whether both players have passed in a row, which ends the game.
+   *
+   * @return true if the game is over
+   */
+  boolean isOver() {
+    return this.passes >= 2;
+  }
+
+  /**
+   * Gets the position of the cell with the given ordinal.
+   *
+   * @param cell the ordinal of the cell
+   * @return the position of the cell
+   */
+  GamePosition getPosition(int cell) {
+    return this.topology.getPosition(cell);
+  }
+
+  /**
+   * Writes the ordinal of every legal move of the player to move into the given array.
+   *
+   * @param moves the array to fill, with room for getCellCount() moves
+   * @return the number of legal moves
+   */
+  int getLegalMoves(int[] moves) {
+    int count = 0;
+    for (int cell = 0; cell < this.cells.length; cell += 1) {
+      if (this.cells[cell] == EMPTY && this.flips(cell, false) > 0) {
+        moves[count] = cell;
+        count += 1;
+      }
+    }
+
+    return count;
+  }
+
+  /**
+   * Plays the given move for the player to move, which must be legal, or passes.
+   *
+   * @param move the ordinal of the cell to play, or PASS
+   */
+  void play(int move) {
+    if (move == PASS) {
+      this.passes += 1;
+    } else {
+      this.flips(move, true);
+      this.cells[move] = this.toMove;
+      this.passes = 0;
+    }
+    this.toMove = (byte) (BLACK + WHITE - this.toMove);
+  }
+
+  /**
+   * Plays random legal moves until the game is over.
+   *
+   * @param random the source of the random moves
+   * @param moves  an array with room for getCellCount() moves to use while playing
+   */
+  void playOut(Random random, int[] moves) {
+    while (this.passes < 2) {
+      int count = this.getLegalMoves(moves);
+      if (count == 0) {
+        this.play(PASS);
+      } else {
+        this.play(moves[random.nextInt(count)]);
+      }
+    }
+  }
+
+  /**
+   * Gets the winner of the board as it stands, by who owns more cells.
+   *
+   * @return BLACK or WHITE, or EMPTY for a tie
+   */
+  byte getWinner() {
+    int difference = 0;
+    for (byte cell : this.cells) {
+      if (cell == BLACK) {
+        difference += 1;
+      } else if (cell == WHITE) {
+        difference -= 1;
+      }
+    }
+
+    if (difference > 0) {
+      return BLACK;
+    } else if (difference < 0) {
+      return WHITE;
+    }
+    return EMPTY;
+  }
+
+  /**
+   * Gets whether this board has the same pieces and player to move as the given board.
+   *
+   * @param other the board to compare with
+   * @return true if the boards are the same
+   */
+  boolean samePosition(PlayoutBoard other) {
+    return this.toMove == other.toMove && Arrays.equals(this.cells, other.cells);
+  }
+
+  // counts the pieces the player to move would flip by playing at the given cell and flips
+  // them if asked to. Without flipping, it stops at the first line that would be flipped,
+  // since the count is then only used to tell whether the move is legal.
+  private int flips(int cell, boolean flip) {
+    byte opponent = (byte) (BLACK + WHITE - this.toMove);
+    int total = 0;
+
+    for (int direction = 0; direction < this.topology.getDirectionCount(); direction += 1) {
+      int[] ray = this.topology.getRay(cell, direction);
+      int length = 0;
+
+      // walk over the opponent's pieces until something else is found
+      while (length < ray.length && this.cells[ray[length]] == opponent) {
+        length += 1;
+      }
+
+      // the line only counts if it is closed off by one of the player's own pieces
+      if (length > 0 && length < ray.length && this.cells[ray[length]] == this.toMove) {
+        total += length;
+        if (!flip) {
+          return total;
+        }
+        for (int i = 0; i < length; i += 1) {
+          this.cells[ray[i]] = this.toMove;
+        }
+      }
+    }
+
+    return total;
+  }
+}
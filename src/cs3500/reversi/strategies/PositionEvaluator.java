@@ -0,0 +1,23 @@
+package cs3500.reversi.strategies;
+
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.ReadOnlyReversiModel;
+
+/**
+ * Represents a way of scoring a Reversi position that a search cannot follow to the end of
+ * the game. Used by the search based strategies to compare the positions at the bottom of
+ * their search.
+ */
+public interface PositionEvaluator {
+
+  /**
+   * Scores the given position from the point of view of the given player. Higher scores are
+   * better for the player, and the score of a position for one player should be the
+   * negative of its score for the other player.
+   *
+   * @param model  the position to score
+   * @param player the player the score is for
+   * @return the score of the position for the player
+   */
+  int evaluate(ReadOnlyReversiModel model, PlayerType player);
+}
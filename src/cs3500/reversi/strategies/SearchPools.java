@@ -0,0 +1,49 @@
+package cs3500.reversi.strategies;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The pools of threads the multi-threaded strategies search on. Every strategy of one kind
+ * with the same number of threads runs on the same pool, so making a strategy for every game
+ * or every thread, as a tournament does, does not start threads that are never shut down.
+ * The threads of a pool stop on their own once it has been idle for a while, and are
+ * started again when it is next used.
+ */
+final class SearchPools {
+
+  // how long a thread of a pool waits for work before it stops, in seconds
+  private static final long KEEP_ALIVE_SECONDS = 30;
+  // the pool for each name and number of threads
+  private static final Map<List<Object>, ExecutorService> POOLS = new ConcurrentHashMap<>();
+
+  private SearchPools() {
+  }
+
+  /**
+   * Gets the shared pool with the given name and number of threads, making it the first time
+   * it is asked for.
+   *
+   * @param name    the name of the pool's threads
+   * @param threads the number of threads in the pool
+   * @return the pool
+   */
+  static ExecutorService get(String name, int threads) {
+    return POOLS.computeIfAbsent(Arrays.asList(name, threads), key -> {
+      ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS,
+          TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+          });
+      pool.allowCoreThreadTimeOut(true);
+      return pool;
+    });
+  }
+}
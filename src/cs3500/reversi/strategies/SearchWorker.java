@@ -0,0 +1,350 @@
+package cs3500.reversi.strategies;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * Runs the alpha-beta searches of the search based strategies on one model at a time. The
+ * worker plays each move it looks at on the model and takes it back, and keeps the arrays of
+ * legal moves for every depth from one search to the next, so searching does not allocate.
+ * A worker is only ever used by one thread, so strategies that search on several threads
+ * give each thread its own worker and its own model.
+ */
+final class SearchWorker {
+
+  /**
+   * A score larger than any position can have.
+   */
+  static final int INF = 1_000_000_000;
+
+  // the score of a won game, before the difference in pieces is added to it
+  private static final int WIN = 1_000_000;
+  // how many positions are searched between looks at the clock
+  private static final int NODES_PER_CLOCK_CHECK = 256;
+
+  // scores positions at the bottom of the search
+  private final PositionEvaluator evaluator;
+  // the positions that have already been searched, null if none are remembered
+  private final TranspositionTable table;
+
+  // the legal moves and flips at every depth of the current search
+  private int[][] moves;
+  private int[][] flips;
+  // when the current search has to stop, in nanoseconds
+  private long deadline;
+  // whether the current search has to stop at the deadline
+  private boolean timed;
+  // set by another thread when the current search has to stop, null if it never does
+  private AtomicBoolean stop;
+  // the number of positions searched since the clock was last looked at
+  private int nodesSinceClockCheck;
+  // the number of positions searched since the worker was made
+  private long nodes;
+  // whether the current search ran out of time
+  private boolean aborted;
+  // whether the current search stopped anywhere because of its depth
+  private boolean hitDepthLimit;
+
+  /**
+   * Constructs a SearchWorker.
+   *
+   * @param evaluator scores positions at the bottom of the search
+   * @param table     remembers the positions that have already been searched, or null to
+   *                  search every position from scratch
+   */
+  SearchWorker(PositionEvaluator evaluator, TranspositionTable table) {
+    this.evaluator = evaluator;
+    this.table = table;
+    this.moves = new int[0][0];
+    this.flips = new int[0][0];
+  }
+
+  /**
+   * Starts a new round of searches, clearing whether the last round ran out of time or hit
+   * its depth limit.
+   *
+   * @param deadline when the searches have to stop, as a System.nanoTime value
+   * @param timed    whether the searches have to stop at the deadline at all
+   */
+  void startRound(long deadline, boolean timed) {
+    this.startRound(deadline, timed, null);
+  }
+
+  /**
+   * Starts a new round of searches that also stops as soon as the given flag is set, so
+   * searches on several threads can be stopped together.
+   *
+   * @param deadline when the searches have to stop, as a System.nanoTime value
+   * @param timed    whether the searches have to stop at the deadline at all
+   * @param stop     the flag that stops the searches when set, or null if there is none
+   */
+  void startRound(long deadline, boolean timed, AtomicBoolean stop) {
+    this.deadline = deadline;
+    this.timed = timed;
+    this.stop = stop;
+    this.nodesSinceClockCheck = 0;
+    this.aborted = false;
+    this.hitDepthLimit = false;
+  }
+
+  /**
+   * Scores the position on the given model for the given player, looking the given number
+   * of moves ahead. The model is left as it was given.
+   *
+   * @param model  the position to score
+   * @param player the player whose turn it is
+   * @param depth  how many moves ahead to look
+   * @param alpha  the score the player is already sure of
+   * @param beta   the score the opponent is already sure of
+   * @return the score of the position, or 0 if the round ran out of time
+   */
+  int search(ReversiModel model, PlayerType player, int depth, int alpha, int beta) {
+    this.ensureBuffers(model.getBoardSize(), depth);
+    return this.negamax(model, player, depth, 0, alpha, beta);
+  }
+
+  /**
+   * Searches each of the given moves from the position on the given model to the given
+   * depth, in the order they are given, and moves the best one to the front. Moves are only
+   * kept as the best if they score strictly higher than every move before them, so earlier
+   * moves win ties. The model is left as it was given.
+   *
+   * @param model     the position to search from
+   * @param player    the player whose turn it is
+   * @param rootMoves the legal moves of the player, which are reordered
+   * @param moveCount the number of legal moves
+   * @param depth     how many moves ahead to look, at least 1
+   * @return the best move, or -1 if the round ran out of time before any move was fully
+   *     searched
+   */
+  int searchRoot(ReversiModel model, PlayerType player, int[] rootMoves, int moveCount,
+                 int depth) {
+    PlayerType opponent = getOppositePlayerType(player);
+    int alpha = -INF;
+    int best = -1;
+
+    for (int index = 0; index < moveCount; index += 1) {
+      model.applyMove(rootMoves[index]);
+      int score = -this.search(model, opponent, depth - 1, -INF, -alpha);
+      model.undoMove();
+
+      if (this.aborted) {
+        break;
+      }
+      if (score > alpha) {
+        alpha = score;
+        best = rootMoves[index];
+      }
+    }
+
+    if (best != -1) {
+      moveToFront(rootMoves, moveCount, best);
+    }
+    return best;
+  }
+
+  /**
+   * Gets whether the current round ran out of time. Scores returned after it did are not
+   * to be trusted.
+   *
+   * @return true if the round ran out of time
+   */
+  boolean isAborted() {
+    return this.aborted;
+  }
+
+  /**
+   * Gets whether any search of the current round stopped because of its depth rather than
+   * because the game was over, in which case searching deeper could change the result.
+   *
+   * @return true if a search stopped because of its depth
+   */
+  boolean hitDepthLimit() {
+    return this.hitDepthLimit;
+  }
+
+  /**
+   * Gets the number of positions the worker has searched since it was made.
+   *
+   * @return the number of positions searched
+   */
+  long getNodes() {
+    return this.nodes;
+  }
+
+  // Scores the position on the given model for the given player, looking the given number
+  // of moves further ahead. Returns 0 if the search ran out of time, which the caller
+  // ignores.
+  private int negamax(ReversiModel model, PlayerType player, int depth, int ply, int alpha,
+                      int beta) {
+    this.nodes += 1;
+    this.nodesSinceClockCheck += 1;
+    if (this.nodesSinceClockCheck >= NODES_PER_CLOCK_CHECK) {
+      this.nodesSinceClockCheck = 0;
+      if ((this.timed && System.nanoTime() - this.deadline > 0)
+          || (this.stop != null && this.stop.get())) {
+        this.aborted = true;
+        return 0;
+      }
+    }
+
+    if (depth == 0) {
+      this.hitDepthLimit = true;
+      return this.evaluator.evaluate(model, player);
+    }
+
+    // A position searched at least as deeply before may already settle this one
+    long hash = 0;
+    int tableMove = -1;
+    if (this.table != null) {
+      hash = model.getPositionHash();
+      long entry = this.table.probe(hash);
+      if (entry != 0) {
+        tableMove = TranspositionTable.moveOf(entry);
+        int tableScore = TranspositionTable.scoreOf(entry);
+        int bound = TranspositionTable.boundOf(entry);
+        if (TranspositionTable.depthOf(entry) >= depth
+            && (bound == TranspositionTable.EXACT
+            || (bound == TranspositionTable.LOWER_BOUND && tableScore >= beta)
+            || (bound == TranspositionTable.UPPER_BOUND && tableScore <= alpha))) {
+          // unless the stored search reached the end of every line, a deeper one could differ
+          if (TranspositionTable.depthOf(entry) < TranspositionTable.MAX_DEPTH) {
+            this.hitDepthLimit = true;
+          }
+          return tableScore;
+        }
+      }
+    }
+
+    int[] plyMoves = this.moves[ply];
+    int moveCount = model.getLegalMoves(player, plyMoves, this.flips[ply]);
+    PlayerType opponent = getOppositePlayerType(player);
+
+    // With no moves the player passes, and if the opponent cannot move either the game is
+    // over
+    if (moveCount == 0) {
+      if (model.getLegalMoves(opponent, this.moves[ply + 1], this.flips[ply + 1]) == 0) {
+        return scoreFinalPosition(model, player);
+      }
+
+      model.applyMove(model.getBoardSize());
+      int score = -this.negamax(model, opponent, depth - 1, ply + 1, -beta, -alpha);
+      model.undoMove();
+      return score;
+    }
+
+    // Try the best move from the last search of this position first
+    if (tableMove != -1) {
+      moveToFront(plyMoves, moveCount, tableMove);
+    }
+
+    // whether this position's own moves stop at their depth is tracked apart from the rest
+    // of the search, so a position searched to the end of the game can be stored as such
+    boolean hitDepthLimitBefore = this.hitDepthLimit;
+    this.hitDepthLimit = false;
+    int originalAlpha = alpha;
+    int best = -INF;
+    int bestMove = -1;
+    for (int index = 0; index < moveCount; index += 1) {
+      model.applyMove(plyMoves[index]);
+      int score = -this.negamax(model, opponent, depth - 1, ply + 1, -beta, -alpha);
+      model.undoMove();
+
+      if (this.aborted) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestMove = plyMoves[index];
+        if (score > alpha) {
+          alpha = score;
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+
+    boolean searchedToEnd = !this.hitDepthLimit;
+    this.hitDepthLimit |= hitDepthLimitBefore;
+
+    if (this.table != null) {
+      int bound = TranspositionTable.EXACT;
+      if (best <= originalAlpha) {
+        bound = TranspositionTable.UPPER_BOUND;
+      } else if (best >= beta) {
+        bound = TranspositionTable.LOWER_BOUND;
+      }
+      int storedDepth = depth;
+      if (searchedToEnd) {
+        storedDepth = TranspositionTable.MAX_DEPTH;
+      }
+      this.table.store(hash, storedDepth, best, bound, bestMove);
+    }
+
+    return best;
+  }
+
+  // Makes sure there is a move buffer for every depth a search of the given depth can reach
+  // on a board with the given number of cells. A game cannot last longer than a move and a
+  // pass for every cell, so no more buffers than that are needed however deep it goes.
+  private void ensureBuffers(int boardSize, int depth) {
+    int depths = Math.min(depth, 2 * boardSize) + 2;
+    if (this.moves.length < depths || this.moves[0].length < boardSize) {
+      depths = Math.max(depths, this.moves.length);
+      this.moves = new int[depths][boardSize];
+      this.flips = new int[depths][boardSize];
+    }
+  }
+
+  // Scores a finished game for the given player, preferring bigger wins and smaller losses
+  private static int scoreFinalPosition(ReversiModel model, PlayerType player) {
+    int difference = model.getCurrentScore(player)
+        - model.getCurrentScore(getOppositePlayerType(player));
+
+    if (difference > 0) {
+      return WIN + difference;
+    } else if (difference < 0) {
+      return -WIN + difference;
+    }
+    return 0;
+  }
+
+  /**
+   * Moves the given move to the front of the first moveCount moves, keeping the order of
+   * the rest. Nothing is changed if the move is not one of them.
+   *
+   * @param moveList  the moves to reorder
+   * @param moveCount the number of moves in use
+   * @param move      the move to put first
+   */
+  static void moveToFront(int[] moveList, int moveCount, int move) {
+    int index = 0;
+    while (index < moveCount && moveList[index] != move) {
+      index += 1;
+    }
+    if (index == moveCount) {
+      return;
+    }
+    for (; index > 0; index -= 1) {
+      moveList[index] = moveList[index - 1];
+    }
+    moveList[0] = move;
+  }
+
+  /**
+   * Gets the opposite player type of the given player type.
+   *
+   * @param playerTurn the player type to get the opposite of
+   * @return the other player type
+   */
+  static PlayerType getOppositePlayerType(PlayerType playerTurn) {
+    if (playerTurn.equals(PlayerType.BLACK)) {
+      return PlayerType.WHITE;
+    } else {
+      return PlayerType.BLACK;
+    }
+  }
+}
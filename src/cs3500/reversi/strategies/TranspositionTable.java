@@ -0,0 +1,221 @@
+package cs3500.reversi.strategies;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed size table of positions that a search has already scored, keyed by the Zobrist
+ * hash from ReadOnlyReversiModel.getPositionHash. Search based strategies store the result
+ * of searching a position and look it up when the same position is reached again through a
+ * different order of moves.
+ *
+ * <p>Each position hashes to one slot. When two positions want the same slot, the one that
+ * was searched at least as deeply replaces the other, since deeper results save more work.
+ * The table takes no locks, so one table can be shared by searches on several threads. Each
+ * slot holds the entry and the entry mixed with the hash, so a slot that is read while
+ * another thread is writing it never matches and is treated as a miss.
+ *
+ * <p>Entries are packed into a single long, which is returned by probe and read with the
+ * static scoreOf, depthOf, boundOf and moveOf methods, so looking up a position never
+ * allocates. A probe that misses returns 0, which is never a stored entry.
+ */
+public final class TranspositionTable {
+
+  /**
+   * The bound of an entry whose score is the exact score of the position.
+   */
+  public static final int EXACT = 1;
+  /**
+   * The bound of an entry whose score is at most the score of the position, because the
+   * search of it was cut off.
+   */
+  public static final int LOWER_BOUND = 2;
+  /**
+   * The bound of an entry whose score is at least the score of the position, because no
+   * move reached the score the search was looking for.
+   */
+  public static final int UPPER_BOUND = 3;
+
+  /**
+   * The largest depth an entry can record. Searches store a position at this depth once
+   * they have followed every line from it to the end of the game, since searching it any
+   * deeper could not change its score.
+   */
+  public static final int MAX_DEPTH = 0x3FF;
+
+  // the largest move ordinal an entry can record
+  private static final int MAX_MOVE = 0xFFFFE;
+
+  // two longs per slot, the hash mixed with the entry and then the entry
+  private final AtomicLongArray slots;
+  // the number of slots minus one, used to find the slot of a hash
+  private final int mask;
+  // the number of probes that found their position, and that did not
+  private final LongAdder hits;
+  private final LongAdder misses;
+
+  /**
+   * Constructs a TranspositionTable with room for at least the given number of entries,
+   * rounded up to a power of two. Each entry takes 16 bytes.
+   *
+   * @param entries the number of entries the table should hold
+   * @throws IllegalArgumentException if the number of entries is not positive or is more
+   *                                  than 2^30
+   */
+  public TranspositionTable(int entries) {
+    if (entries <= 0 || entries > 1 << 30) {
+      throw new IllegalArgumentException("Entries must be between 1 and 2^30");
+    }
+
+    int capacity = Integer.highestOneBit(entries);
+    if (capacity < entries) {
+      capacity <<= 1;
+    }
+
+    this.slots = new AtomicLongArray(2 * capacity);
+    this.mask = capacity - 1;
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+  }
+
+  /**
+   * Looks up the entry of the position with the given hash.
+   *
+   * @param hash the Zobrist hash of the position
+   * @return the packed entry of the position, or 0 if it is not in the table
+   */
+  public long probe(long hash) {
+    int slot = this.slotOf(hash);
+    long entry = this.slots.get(slot + 1);
+    if (entry != 0 && (this.slots.get(slot) ^ entry) == hash) {
+      this.hits.increment();
+      return entry;
+    }
+
+    this.misses.increment();
+    return 0;
+  }
+
+  /**
+   * Stores the result of searching the position with the given hash, unless its slot holds
+   * a position that was searched more deeply.
+   *
+   * @param hash     the Zobrist hash of the position
+   * @param depth    how many moves ahead the position was searched, at least 0
+   * @param score    the score the search found
+   * @param bound    EXACT, LOWER_BOUND or UPPER_BOUND
+   * @param bestMove the ordinal of the best move found, or -1 if there is none
+   * @throws IllegalArgumentException if the depth is negative, the bound is not one of the
+   *                                  three bounds, or the move is not a possible ordinal
+   */
+  public void store(long hash, int depth, int score, int bound, int bestMove) {
+    if (depth < 0) {
+      throw new IllegalArgumentException("Depth cannot be negative");
+    }
+    if (bound < EXACT || bound > UPPER_BOUND) {
+      throw new IllegalArgumentException("Invalid bound");
+    }
+    if (bestMove < -1 || bestMove > MAX_MOVE) {
+      throw new IllegalArgumentException("Invalid move");
+    }
+
+    int slot = this.slotOf(hash);
+    long current = this.slots.get(slot + 1);
+    if (current != 0 && depthOf(current) > depth) {
+      return;
+    }
+
+    long entry = ((long) score << 32)
+        | ((long) (bestMove + 1) << 12)
+        | ((long) Math.min(depth, MAX_DEPTH) << 2)
+        | bound;
+    this.slots.set(slot + 1, entry);
+    this.slots.set(slot, hash ^ entry);
+  }
+
+  /**
+   * Removes every entry from the table and resets the hit and miss counters.
+   */
+  public void clear() {
+    for (int slot = 0; slot < this.slots.length(); slot += 1) {
+      this.slots.set(slot, 0);
+    }
+    this.hits.reset();
+    this.misses.reset();
+  }
+
+  /**
+   * Gets the number of entries the table can hold.
+   *
+   * @return the number of entries the table can hold
+   */
+  public int getCapacity() {
+    return this.mask + 1;
+  }
+
+  /**
+   * Gets the number of probes that found their position since the table was made or last
+   * cleared.
+   *
+   * @return the number of probes that hit
+   */
+  public long getHits() {
+    return this.hits.sum();
+  }
+
+  /**
+   * Gets the number of probes that did not find their position since the table was made
+   * or last cleared.
+   *
+   * @return the number of probes that missed
+   */
+  public long getMisses() {
+    return this.misses.sum();
+  }
+
+  /**
+   * Gets the score of the given entry.
+   *
+   * @param entry an entry returned by probe
+   * @return the score that was stored
+   */
+  public static int scoreOf(long entry) {
+    return (int) (entry >> 32);
+  }
+
+  /**
+   * Gets the depth of the given entry. Depths larger than the table can record are stored
+   * as the largest depth it can.
+   *
+   * @param entry an entry returned by probe
+   * @return the depth that was stored
+   */
+  public static int depthOf(long entry) {
+    return (int) (entry >>> 2) & MAX_DEPTH;
+  }
+
+  /**
+   * Gets the bound of the given entry.
+   *
+   * @param entry an entry returned by probe
+   * @return EXACT, LOWER_BOUND or UPPER_BOUND
+   */
+  public static int boundOf(long entry) {
+    return (int) entry & 3;
+  }
+
+  /**
+   * Gets the best move of the given entry.
+   *
+   * @param entry an entry returned by probe
+   * @return the ordinal of the best move that was stored, or -1 if there was none
+   */
+  public static int moveOf(long entry) {
+    return ((int) (entry >>> 12) & 0xFFFFF) - 1;
+  }
+
+  // the index of the first long of the slot the given hash belongs in
+  private int slotOf(long hash) {
+    return ((int) (hash ^ (hash >>> 32)) & this.mask) << 1;
+  }
+}
@@ -0,0 +1,108 @@
+package cs3500.reversi.tournament;
+
+import java.util.Arrays;
+
+import cs3500.reversi.controller.PlayerType;
+
+/**
+ * The record of one tournament game: which entrants played black and white, the final score
+ * and how long each side took to choose each of its moves.
+ */
+final class GameRecord {
+
+  // the entrants who played black and white
+  private final int black;
+  private final int white;
+  // the number of pieces each side had when the game ended
+  private int blackScore;
+  private int whiteScore;
+  // how long each move of each side took to choose, in nanoseconds
+  private long[] blackLatencies;
+  private int blackMoves;
+  private long[] whiteLatencies;
+  private int whiteMoves;
+
+  /**
+   * Constructs a GameRecord of a game between the given entrants, with no moves yet.
+   *
+   * @param black the entrant playing black
+   * @param white the entrant playing white
+   */
+  GameRecord(int black, int white) {
+    this.black = black;
+    this.white = white;
+    this.blackLatencies = new long[16];
+    this.whiteLatencies = new long[16];
+  }
+
+  /**
+   * Records how long a move of the given side took to choose.
+   *
+   * @param side    the side that moved
+   * @param latency how long the move took to choose, in nanoseconds
+   */
+  void addMoveLatency(PlayerType side, long latency) {
+    if (side.equals(PlayerType.BLACK)) {
+      if (this.blackMoves == this.blackLatencies.length) {
+        this.blackLatencies = Arrays.copyOf(this.blackLatencies, this.blackMoves * 2);
+      }
+      this.blackLatencies[this.blackMoves] = latency;
+      this.blackMoves += 1;
+    } else {
+      if (this.whiteMoves == this.whiteLatencies.length) {
+        this.whiteLatencies = Arrays.copyOf(this.whiteLatencies, this.whiteMoves * 2);
+      }
+      this.whiteLatencies[this.whiteMoves] = latency;
+      this.whiteMoves += 1;
+    }
+  }
+
+  /**
+   * Records the final score of the game.
+   *
+   * @param blackScore the number of pieces black had
+   * @param whiteScore the number of pieces white had
+   */
+  void setScores(int blackScore, int whiteScore) {
+    this.blackScore = blackScore;
+    this.whiteScore = whiteScore;
+  }
+
+  /**
+   * Gets the entrant who played the given side.
+   *
+   * @param side the side to check
+   * @return the index of the entrant
+   */
+  int getEntrant(PlayerType side) {
+    return side.equals(PlayerType.BLACK) ? this.black : this.white;
+  }
+
+  /**
+   * Gets the entrant who won the game.
+   *
+   * @return the index of the winning entrant, or -1 if the game was a tie
+   */
+  int getWinner() {
+    if (this.blackScore > this.whiteScore) {
+      return this.black;
+    } else if (this.whiteScore > this.blackScore) {
+      return this.white;
+    }
+    return -1;
+  }
+
+  /**
+   * Gets how long each move of the given side took to choose.
+   *
+   * @param side the side to get the latencies of
+   * @return the latencies of the side's moves in nanoseconds, in the order they were made
+   */
+  long[] getMoveLatencies(PlayerType side) {
+    if (side.equals(PlayerType.BLACK)) {
+      return Arrays.copyOf(this.blackLatencies, this.blackMoves);
+    } else {
+      return Arrays.copyOf(this.whiteLatencies, this.whiteMoves);
+    }
+  }
+}
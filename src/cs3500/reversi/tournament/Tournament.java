@@ -0,0 +1,181 @@
+package cs3500.reversi.tournament;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import cs3500.reversi.controller.ComputerPlayer;
+import cs3500.reversi.controller.GameLoop;
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.BasicReversiModel;
+import cs3500.reversi.model.BasicSquareReversiModel;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.strategies.ReversiStrategy;
+
+/**
+ * Plays strategies against each other without any view or controller, so thousands of games
+ * can be played to compare them. Every entrant plays every other entrant the same number of
+ * times, taking black in half of the games. Each game is played by a GameLoop, the games are
+ * played at the same time on a pool of threads, and the result reports each entrant's wins
+ * and how long it took to choose its moves.
+ *
+ * <p>Strategies keep state between moves and are not safe to share between threads, so each
+ * entrant is given as a way to make its strategy. Every thread of the pool makes its own
+ * strategy for each entrant the first time it needs one, and uses it for the rest of the
+ * tournament.
+ */
+public class Tournament {
+
+  // the shape and width of the board every game is played on
+  private final boolean square;
+  private final int width;
+  // the number of games to play at the same time
+  private final int threads;
+  // the names of the entrants, and how to make each one's strategy
+  private final List<String> names;
+  private final List<Supplier<ReversiStrategy>> factories;
+
+  /**
+   * Constructs a Tournament with no entrants, played on boards of the given shape and width.
+   *
+   * @param square  true to play on square boards, false to play on hexagonal boards
+   * @param width   the width of the board, even for square boards and odd for hexagonal ones
+   * @param threads the number of games to play at the same time
+   * @throws IllegalArgumentException if the width does not fit the shape, or the number of
+   *                                  threads is not positive
+   */
+  public Tournament(boolean square, int width, int threads) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Threads must be positive");
+    }
+
+    // making a board checks the width the same way every game will
+    this.makeModel(square, width);
+    this.square = square;
+    this.width = width;
+    this.threads = threads;
+    this.names = new ArrayList<>();
+    this.factories = new ArrayList<>();
+  }
+
+  /**
+   * Adds an entrant to the tournament.
+   *
+   * @param name     the name the entrant is reported under
+   * @param strategy makes a new strategy for the entrant each time it is called
+   * @throws IllegalArgumentException if the name or strategy is null, or an entrant already
+   *                                  has the name
+   */
+  public void addEntrant(String name, Supplier<ReversiStrategy> strategy) {
+    if (name == null || strategy == null) {
+      throw new IllegalArgumentException("Name and strategy cannot be null");
+    }
+    if (this.names.contains(name)) {
+      throw new IllegalArgumentException("An entrant is already named " + name);
+    }
+
+    this.names.add(name);
+    this.factories.add(strategy);
+  }
+
+  /**
+   * Plays the given number of games between every two entrants and reports the results.
+   *
+   * @param gamesPerPairing the number of games every two entrants play against each other
+   * @return the results of the tournament
+   * @throws IllegalArgumentException if the number of games is not positive
+   * @throws IllegalStateException    if there are fewer than two entrants, a strategy makes
+   *                                  an illegal move, or the tournament is interrupted
+   */
+  public TournamentResult run(int gamesPerPairing) {
+    if (gamesPerPairing <= 0) {
+      throw new IllegalArgumentException("Games per pairing must be positive");
+    }
+    if (this.names.size() < 2) {
+      throw new IllegalStateException("A tournament needs at least two entrants");
+    }
+
+    // each thread keeps its own strategy for every entrant
+    ThreadLocal<ReversiStrategy[]> strategies =
+        ThreadLocal.withInitial(() -> new ReversiStrategy[this.factories.size()]);
+    List<Callable<GameRecord>> games = new ArrayList<>();
+    for (int first = 0; first < this.names.size(); first += 1) {
+      for (int second = first + 1; second < this.names.size(); second += 1) {
+        for (int game = 0; game < gamesPerPairing; game += 1) {
+          // the entrants take turns playing black
+          int black = game % 2 == 0 ? first : second;
+          int white = game % 2 == 0 ? second : first;
+          games.add(() -> this.playGame(strategies.get(), black, white));
+        }
+      }
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(this.threads, runnable -> {
+      Thread thread = new Thread(runnable, "tournament");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long start = System.nanoTime();
+    List<GameRecord> records = new ArrayList<>();
+    try {
+      for (Future<GameRecord> result : executor.invokeAll(games)) {
+        records.add(result.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Tournament was interrupted");
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Game failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    return new TournamentResult(this.names, records, System.nanoTime() - start);
+  }
+
+  // Plays one game between the given entrants with the calling thread's strategies, and
+  // records who won and how long every move took to choose
+  private GameRecord playGame(ReversiStrategy[] strategies, int black, int white) {
+    ReversiModel model = this.makeModel(this.square, this.width);
+    GameRecord record = new GameRecord(black, white);
+    GameLoop loop = new GameLoop(model,
+        new ComputerPlayer(PlayerType.BLACK, this.timed(strategies, black, record)),
+        new ComputerPlayer(PlayerType.WHITE, this.timed(strategies, white, record)));
+    loop.play();
+
+    record.setScores(model.getCurrentScore(PlayerType.BLACK),
+        model.getCurrentScore(PlayerType.WHITE));
+    return record;
+  }
+
+  // the given entrant's strategy from the calling thread's strategies, made if the thread
+  // does not have it yet, which records how long every move it chooses takes
+  private ReversiStrategy timed(ReversiStrategy[] strategies, int entrant, GameRecord record) {
+    if (strategies[entrant] == null) {
+      strategies[entrant] = this.factories.get(entrant).get();
+    }
+
+    ReversiStrategy strategy = strategies[entrant];
+    return (model, turn) -> {
+      long moveStart = System.nanoTime();
+      GamePosition posn = strategy.chooseMove(model, turn);
+      record.addMoveLatency(turn, System.nanoTime() - moveStart);
+      return posn;
+    };
+  }
+
+  // makes an unstarted model of the given shape and width
+  private ReversiModel makeModel(boolean square, int width) {
+    if (square) {
+      return new BasicSquareReversiModel(width);
+    } else {
+      return new BasicReversiModel(width);
+    }
+  }
+}
@@ -0,0 +1,230 @@
+package cs3500.reversi.tournament;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import cs3500.reversi.controller.PlayerType;
+
+/**
+ * The results of a tournament: how many games each entrant won, lost and tied, how long it
+ * took to choose its moves, and how quickly the games were played.
+ */
+public class TournamentResult {
+
+  // the names of the entrants
+  private final List<String> names;
+  // the games, wins, losses and ties of each entrant
+  private final int[] games;
+  private final int[] wins;
+  private final int[] losses;
+  private final int[] ties;
+  // how long each move of each entrant took to choose, in nanoseconds, from fastest to slowest
+  private final long[][] latencies;
+  // the number of games played and how long they took in total
+  private final int totalGames;
+  private final long elapsedNanos;
+
+  /**
+   * Constructs a TournamentResult from the records of the games played.
+   *
+   * @param names        the names of the entrants
+   * @param records      the records of every game played
+   * @param elapsedNanos how long the games took to play, in nanoseconds
+   */
+  TournamentResult(List<String> names, List<GameRecord> records, long elapsedNanos) {
+    this.names = new ArrayList<>(names);
+    this.games = new int[names.size()];
+    this.wins = new int[names.size()];
+    this.losses = new int[names.size()];
+    this.ties = new int[names.size()];
+    this.latencies = new long[names.size()][];
+    this.totalGames = records.size();
+    this.elapsedNanos = elapsedNanos;
+
+    List<List<long[]>> moveLatencies = new ArrayList<>();
+    for (int entrant = 0; entrant < names.size(); entrant += 1) {
+      moveLatencies.add(new ArrayList<>());
+    }
+
+    for (GameRecord record : records) {
+      int winner = record.getWinner();
+      for (PlayerType side : PlayerType.values()) {
+        int entrant = record.getEntrant(side);
+        this.games[entrant] += 1;
+        if (winner == -1) {
+          this.ties[entrant] += 1;
+        } else if (winner == entrant) {
+          this.wins[entrant] += 1;
+        } else {
+          this.losses[entrant] += 1;
+        }
+        moveLatencies.get(entrant).add(record.getMoveLatencies(side));
+      }
+    }
+
+    for (int entrant = 0; entrant < names.size(); entrant += 1) {
+      int count = 0;
+      for (long[] game : moveLatencies.get(entrant)) {
+        count += game.length;
+      }
+      long[] all = new long[count];
+      int index = 0;
+      for (long[] game : moveLatencies.get(entrant)) {
+        System.arraycopy(game, 0, all, index, game.length);
+        index += game.length;
+      }
+      Arrays.sort(all);
+      this.latencies[entrant] = all;
+    }
+  }
+
+  /**
+   * Gets the number of games played in the tournament.
+   *
+   * @return the number of games played
+   */
+  public int getTotalGames() {
+    return this.totalGames;
+  }
+
+  /**
+   * Gets how many games were played each second.
+   *
+   * @return the games per second of the tournament
+   */
+  public double getGamesPerSecond() {
+    return this.totalGames * 1_000_000_000.0 / Math.max(1, this.elapsedNanos);
+  }
+
+  /**
+   * Gets the number of games the given entrant played.
+   *
+   * @param name the name of the entrant
+   * @return the number of games the entrant played
+   * @throws IllegalArgumentException if no entrant has the name
+   */
+  public int getGames(String name) {
+    return this.games[this.indexOf(name)];
+  }
+
+  /**
+   * Gets the number of games the given entrant won.
+   *
+   * @param name the name of the entrant
+   * @return the number of games the entrant won
+   * @throws IllegalArgumentException if no entrant has the name
+   */
+  public int getWins(String name) {
+    return this.wins[this.indexOf(name)];
+  }
+
+  /**
+   * Gets the number of games the given entrant lost.
+   *
+   * @param name the name of the entrant
+   * @return the number of games the entrant lost
+   * @throws IllegalArgumentException if no entrant has the name
+   */
+  public int getLosses(String name) {
+    return this.losses[this.indexOf(name)];
+  }
+
+  /**
+   * Gets the number of games the given entrant tied.
+   *
+   * @param name the name of the entrant
+   * @return the number of games the entrant tied
+   * @throws IllegalArgumentException if no entrant has the name
+   */
+  public int getTies(String name) {
+    return this.ties[this.indexOf(name)];
+  }
+
+  /**
+   * Gets the share of its games the given entrant won, counting a tie as half a win.
+   *
+   * @param name the name of the entrant
+   * @return the win rate of the entrant, from 0 to 1
+   * @throws IllegalArgumentException if no entrant has the name
+   */
+  public double getWinRate(String name) {
+    int entrant = this.indexOf(name);
+    return (this.wins[entrant] + this.ties[entrant] / 2.0) / this.games[entrant];
+  }
+
+  /**
+   * Gets how long the given entrant took to choose a move on average.
+   *
+   * @param name the name of the entrant
+   * @return the average move latency of the entrant in nanoseconds, or 0 if it never moved
+   * @throws IllegalArgumentException if no entrant has the name
+   */
+  public double getAverageMoveLatencyNanos(String name) {
+    long[] moves = this.latencies[this.indexOf(name)];
+    if (moves.length == 0) {
+      return 0;
+    }
+
+    long total = 0;
+    for (long latency : moves) {
+      total += latency;
+    }
+    return (double) total / moves.length;
+  }
+
+  /**
+   * Gets the time within which the given entrant chose the given percent of its moves.
+   *
+   * @param name    the name of the entrant
+   * @param percent the percent of moves, above 0 and at most 100, such as 50 or 99
+   * @return the move latency at the percentile in nanoseconds, or 0 if it never moved
+   * @throws IllegalArgumentException if no entrant has the name, or the percent is not above
+   *                                  0 and at most 100
+   */
+  public long getMoveLatencyPercentileNanos(String name, double percent) {
+    if (percent <= 0 || percent > 100) {
+      throw new IllegalArgumentException("Percent must be above 0 and at most 100");
+    }
+
+    long[] moves = this.latencies[this.indexOf(name)];
+    if (moves.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percent / 100 * moves.length);
+    return moves[Math.max(rank, 1) - 1];
+  }
+
+  /**
+   * Gets a report of the tournament with one line for each entrant.
+   *
+   * @return the report of the tournament
+   */
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("%d games, %.1f games/sec%n", this.totalGames,
+        this.getGamesPerSecond()));
+    report.append(String.format("%-24s %6s %6s %6s %6s %8s %10s %10s %10s%n", "entrant",
+        "games", "wins", "losses", "ties", "win rate", "avg ms", "p50 ms", "p99 ms"));
+
+    for (String name : this.names) {
+      report.append(String.format("%-24s %6d %6d %6d %6d %8.3f %10.3f %10.3f %10.3f%n", name,
+          this.getGames(name), this.getWins(name), this.getLosses(name), this.getTies(name),
+          this.getWinRate(name), this.getAverageMoveLatencyNanos(name) / 1_000_000.0,
+          this.getMoveLatencyPercentileNanos(name, 50) / 1_000_000.0,
+          this.getMoveLatencyPercentileNanos(name, 99) / 1_000_000.0));
+    }
+
+    return report.toString();
+  }
+
+  // the index of the entrant with the given name
+  private int indexOf(String name) {
+    int entrant = this.names.indexOf(name);
+    if (entrant == -1) {
+      throw new IllegalArgumentException("No entrant is named " + name);
+    }
+    return entrant;
+  }
+}
@@ -2,9 +2,12 @@ package cs3500.reversi.visualview;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Path2D;
 
 import cs3500.reversi.model.Cell;
+import cs3500.reversi.model.SharedCell;
 
 /**
  * Represents a space on the board.
@@ -15,7 +18,9 @@ public abstract class ASpace extends Path2D.Double implements ISpace {
   private final double currentX;
   private final double currentY;
   private boolean isHighlighted;
-  private final Cell representingCell;
+  private Cell representingCell;
+  // the area the space is drawn in, found the first time it is asked for
+  private Rectangle paintBounds;
 
   /**
    * Constructs a space on the board.
@@ -33,6 +38,26 @@ public abstract class ASpace extends Path2D.Double implements ISpace {
     this.representingCell = representingCell;
   }
 
+  /**
+   * Constructs a space on the board whose outline is a copy of the given outline, moved from
+   * the origin to the position of the space.
+   *
+   * @param outline          The outline of the space, drawn from the origin.
+   * @param size             The size of the space.
+   * @param currentX         The current x position of the space.
+   * @param currentY         The current y position of the space.
+   * @param representingCell The cell that this space represents.
+   */
+  protected ASpace(Path2D outline, double size, double currentX, double currentY,
+                   Cell representingCell) {
+    super(outline, AffineTransform.getTranslateInstance(currentX, currentY));
+    this.size = size;
+    this.currentX = currentX;
+    this.currentY = currentY;
+    this.isHighlighted = false;
+    this.representingCell = representingCell;
+  }
+
   /**
    * Get the size of the square space.
    *
@@ -88,6 +113,34 @@ public abstract class ASpace extends Path2D.Double implements ISpace {
     return this.representingCell;
   }
 
+  /**
+   * Changes the cell this space shows, if the given cell looks different to it.
+   *
+   * @param cell The cell the space should show.
+   * @return true if the space now looks different and needs to be painted again.
+   */
+  public boolean updateCell(Cell cell) {
+    if (SharedCell.of(cell) == SharedCell.of(this.representingCell)) {
+      return false;
+    }
+    this.representingCell = cell;
+    return true;
+  }
+
+  /**
+   * Gets the area this space is drawn in, including its outline.
+   *
+   * @return The smallest rectangle that holds all of the space, which must not be changed.
+   */
+  public Rectangle getPaintBounds() {
+    if (this.paintBounds == null) {
+      // the outline is drawn half outside the shape, and the rounding may cost another pixel
+      this.paintBounds = this.getBounds();
+      this.paintBounds.grow(2, 2);
+    }
+    return this.paintBounds;
+  }
+
   protected double getSize() {
     return this.size;
   }
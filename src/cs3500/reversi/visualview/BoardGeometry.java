@@ -0,0 +1,266 @@
+package cs3500.reversi.visualview;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import cs3500.reversi.model.Cell;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.Position2D;
+import cs3500.reversi.model.PositionAxial;
+import cs3500.reversi.model.SharedCell;
+
+/**
+ * The layout of the spaces of a board of one width in a panel of one size, with a picture of
+ * a space in each of the ways it can look. Layouts are kept for the most recently used board
+ * widths and panel sizes and shared by every panel, so the two windows of a game, or a window
+ * resized back to a size it had before, do not work out the layout again.
+ *
+ * <p>Every space of a layout has the same shape, so a space is painted by copying the picture
+ * of how it looks, drawn once, rather than by filling and outlining its shape and its piece.
+ * For the same reason the outline of a space is worked out once for each layout, and every
+ * space is made by copying it to where the space is drawn from.
+ */
+final class BoardGeometry {
+
+  // the number of layouts kept
+  private static final int CACHE_SIZE = 16;
+  // the layouts kept, by shape, board width and panel size, least recently used first
+  private static final Map<List<Integer>, BoardGeometry> CACHE = Collections.synchronizedMap(
+      new LinkedHashMap<List<Integer>, BoardGeometry>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Integer>, BoardGeometry> eldest) {
+          return this.size() > CACHE_SIZE;
+        }
+      });
+
+  private final boolean square;
+  // the size of every space
+  private final double size;
+  // the outline of every space, drawn from the origin
+  private final Path2D outline;
+  // the position and the point each space is drawn from, in the order they were laid out
+  private final List<GamePosition> positions;
+  private final double[] xs;
+  private final double[] ys;
+  // how each space looks, by the ordinal of its SharedCell times two plus one if it is
+  // highlighted, drawn the first time it is needed
+  private final BufferedImage[] sprites;
+  // where a picture is drawn from, relative to the point its space is drawn from
+  private double spriteX;
+  private double spriteY;
+
+  private BoardGeometry(boolean square, double size, List<GamePosition> positions,
+                        double[] xs, double[] ys) {
+    this.square = square;
+    this.size = size;
+    this.outline = makeOutline(square, size);
+    this.positions = positions;
+    this.xs = xs;
+    this.ys = ys;
+    this.sprites = new BufferedImage[SharedCell.values().length * 2];
+  }
+
+  /**
+   * Gets the layout of a hexagonal board with the given number of rows in a panel of the
+   * given size.
+   *
+   * @param rows   the number of rows of the board
+   * @param width  the width of the panel
+   * @param height the height of the panel
+   * @return the layout
+   */
+  static BoardGeometry hexagonal(int rows, int width, int height) {
+    return CACHE.computeIfAbsent(Arrays.asList(0, rows, width, height),
+        key -> layOutHexagons(rows, width, height));
+  }
+
+  /**
+   * Gets the layout of a square board with the given number of rows in a panel of the given
+   * size.
+   *
+   * @param rows   the number of rows of the board
+   * @param width  the width of the panel
+   * @param height the height of the panel
+   * @return the layout
+   */
+  static BoardGeometry square(int rows, int width, int height) {
+    return CACHE.computeIfAbsent(Arrays.asList(1, rows, width, height),
+        key -> layOutSquares(rows, width, height));
+  }
+
+  // lays out the rows of hexagons, each row starting half a hexagon further in than the
+  // last until the middle row and half a hexagon further out after it
+  private static BoardGeometry layOutHexagons(int rows, int width, int height) {
+    int distance = Math.min(width, height) / rows;
+    double buttonSize = (distance / Math.sqrt(3));
+
+    // Total grid width and height
+    double totalGridWidth = rows * buttonSize * Math.sqrt(3);
+    double totalGridHeight = (rows * 1.5 + 0.5) * buttonSize;
+
+    // Calculate offsets to center the grid
+    double offsetX = (width - totalGridWidth) / 2;
+    double offsetY = (height - totalGridHeight) / 2;
+
+    List<GamePosition> positions = new ArrayList<>();
+    List<double[]> points = new ArrayList<>();
+    int middleY = (rows - 1) / 2;
+    int currentRowStartingQ = 0;
+    int currentRowStartingS = middleY;
+    int currentR = -middleY;
+
+    for (int rowsMade = 0; rowsMade < rows; rowsMade += 1) {
+      int currentQ = currentRowStartingQ;
+
+      double startingX = offsetX + (((buttonSize * Math.sqrt(3)) / 2) * Math.abs(currentR))
+          + (((buttonSize * Math.sqrt(3))) / 2);
+      double startingY = offsetY + ((buttonSize * 3) / 2) * (rowsMade + 1);
+
+      for (int currentS = currentRowStartingS; currentS >= currentRowStartingQ; currentS -= 1) {
+        positions.add(new PositionAxial(currentQ, currentR, currentS));
+        points.add(new double[] {startingX, startingY});
+        startingX += Math.sqrt(3) * buttonSize;
+        currentQ += 1;
+      }
+
+      if (rowsMade < middleY) {
+        currentRowStartingQ -= 1;
+      } else {
+        currentRowStartingS -= 1;
+      }
+      currentR += 1;
+    }
+
+    return make(false, buttonSize, positions, points);
+  }
+
+  // lays out the rows of squares from the top left corner of the centered grid
+  private static BoardGeometry layOutSquares(int rows, int width, int height) {
+    int buttonSize = Math.min(width, height) / rows;
+
+    // Calculate offset to center the grid
+    double totalGridWidth = rows * buttonSize;
+    double offsetX = (width - totalGridWidth) / 2;
+    double offsetY = (height - totalGridWidth) / 2;
+
+    List<GamePosition> positions = new ArrayList<>();
+    List<double[]> points = new ArrayList<>();
+    for (int y = 0; y < rows; y += 1) {
+      for (int x = 0; x < rows; x += 1) {
+        positions.add(new Position2D(x, y));
+        points.add(new double[] {offsetX + x * buttonSize, offsetY + y * buttonSize});
+      }
+    }
+
+    return make(true, buttonSize, positions, points);
+  }
+
+  // works out the outline of a space of the given shape and size drawn from the origin,
+  // ending where the space is drawn from
+  private static Path2D makeOutline(boolean square, double size) {
+    Path2D outline;
+    if (square) {
+      outline = new SquareSpace(size, 0, 0, null);
+    } else {
+      outline = new HexagonSpace(size, 0, 0, null);
+    }
+    outline.moveTo(0, 0);
+    return outline;
+  }
+
+  // makes a layout of the given positions, drawn from the given points
+  private static BoardGeometry make(boolean square, double size, List<GamePosition> positions,
+                                    List<double[]> points) {
+    double[] xs = new double[points.size()];
+    double[] ys = new double[points.size()];
+    for (int index = 0; index < points.size(); index += 1) {
+      xs[index] = points.get(index)[0];
+      ys[index] = points.get(index)[1];
+    }
+    return new BoardGeometry(square, size, Collections.unmodifiableList(positions), xs, ys);
+  }
+
+  /**
+   * Gets the number of spaces in the layout.
+   *
+   * @return the number of spaces
+   */
+  int getSpaceCount() {
+    return this.positions.size();
+  }
+
+  /**
+   * Gets the position of the space with the given index in the layout.
+   *
+   * @param index the index of the space
+   * @return the position of the space
+   */
+  GamePosition getPosition(int index) {
+    return this.positions.get(index);
+  }
+
+  /**
+   * Makes the space with the given index in the layout, showing the given cell.
+   *
+   * @param index the index of the space
+   * @param cell  the cell the space shows
+   * @return the space
+   */
+  ASpace makeSpace(int index, Cell cell) {
+    return this.makeSpace(this.xs[index], this.ys[index], cell);
+  }
+
+  // makes a space drawn from the given point by copying the layout's outline to it
+  private ASpace makeSpace(double x, double y, Cell cell) {
+    if (this.square) {
+      return new SquareSpace(this.outline, this.size, x, y, cell);
+    } else {
+      return new HexagonSpace(this.outline, this.size, x, y, cell);
+    }
+  }
+
+  /**
+   * Paints the given space of this layout by copying the picture of how it looks.
+   *
+   * @param g2d        the graphics to paint on
+   * @param space      the space to paint
+   * @param showsOwner whether to draw the piece on the space, if it has one
+   */
+  void draw(Graphics2D g2d, ASpace space, boolean showsOwner) {
+    SharedCell cell = showsOwner ? SharedCell.of(space.getRepresentingCell()) : SharedCell.EMPTY;
+    BufferedImage sprite = this.getSprite(cell, space.getState());
+    g2d.drawImage(sprite, (int) Math.round(space.getCurrentX() + this.spriteX),
+        (int) Math.round(space.getCurrentY() + this.spriteY), null);
+  }
+
+  // the picture of a space showing the given cell, drawn the first time it is asked for
+  private BufferedImage getSprite(SharedCell cell, boolean highlighted) {
+    int index = cell.ordinal() * 2 + (highlighted ? 1 : 0);
+    if (this.sprites[index] == null) {
+      // a space drawn at the origin, to be drawn into the picture
+      ASpace template = this.makeSpace(0, 0, cell);
+      template.setState(highlighted);
+      Rectangle bounds = template.getPaintBounds();
+      this.spriteX = bounds.x;
+      this.spriteY = bounds.y;
+
+      BufferedImage sprite = new BufferedImage(bounds.width, bounds.height,
+          BufferedImage.TYPE_INT_ARGB);
+      Graphics2D g2d = sprite.createGraphics();
+      g2d.translate(-bounds.x, -bounds.y);
+      template.drawFillColor(g2d);
+      template.drawSpaceOwner(g2d);
+      g2d.dispose();
+      this.sprites[index] = sprite;
+    }
+    return this.sprites[index];
+  }
+}
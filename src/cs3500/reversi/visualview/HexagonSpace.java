@@ -27,6 +27,21 @@ public class HexagonSpace extends ASpace {
     this.constructHexagon();
   }
 
+  /**
+   * Constructs a new HexagonSpace whose outline is a copy of the given outline of a
+   * hexagon of the same size, moved from the origin to the given currentX and currentY.
+   *
+   * @param outline          The outline of the hexagon space, drawn from the origin.
+   * @param size             The size of the hexagon space.
+   * @param currentX         The current x coordinate of the hexagon space.
+   * @param currentY         The current y coordinate of the hexagon space.
+   * @param representingCell The cell that the hexagon space represents.
+   */
+  HexagonSpace(Path2D outline, double size, double currentX, double currentY,
+                Cell representingCell) {
+    super(outline, size, currentX, currentY, representingCell);
+  }
+
   /**
    * Constructs the hexagon.
    */
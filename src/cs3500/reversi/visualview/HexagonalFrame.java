@@ -12,6 +12,8 @@ import cs3500.reversi.model.ReadOnlyReversiModel;
  */
 public class HexagonalFrame extends JFrame implements ReversiVisualView {
   private final ReversiPanel panel;
+  // passes refreshes on to the panel at most once per frame
+  private final RefreshDispatcher dispatcher;
 
   /**
    * Constructs a frame of hexagonal buttons.
@@ -37,6 +39,7 @@ public class HexagonalFrame extends JFrame implements ReversiVisualView {
     }
 
     this.add((Component) this.panel);
+    this.dispatcher = new RefreshDispatcher(model, this.panel, RefreshDispatcher.FRAME_MILLIS);
   }
 
   /**
@@ -54,7 +57,7 @@ public class HexagonalFrame extends JFrame implements ReversiVisualView {
    */
   @Override
   public void refresh(boolean currentTurn) {
-    this.panel.refresh(currentTurn);
+    this.dispatcher.refresh(currentTurn);
   }
 
   /**
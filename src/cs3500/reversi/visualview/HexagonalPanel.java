@@ -5,6 +5,7 @@ import javax.swing.JPanel;
 
 import cs3500.reversi.controller.PlayerActionFeatures;
 import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.GamePosition;
 import cs3500.reversi.model.PositionAxial;
 import cs3500.reversi.model.ReadOnlyReversiModel;
 
@@ -21,6 +22,7 @@ import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.event.ComponentEvent;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -35,6 +37,10 @@ public class HexagonalPanel extends JPanel implements ReversiPanel {
   private PlayerActionFeatures features;
   private PositionAxial selectedPosn;
   private boolean currentTurn;
+  // updates the spaces to show the model and paints again those that changed
+  private final SpaceRefresher refresher;
+  // the layout of the spaces, and how they look, at the panel's current size
+  private BoardGeometry geometry;
 
   /**
    * Constructs a new HexagonalPanel with the given number of rows and columns.
@@ -56,6 +62,7 @@ public class HexagonalPanel extends JPanel implements ReversiPanel {
     this.currentTurn = false;
     this.selectedPosn = new PositionAxial(0, 0, 0);
     this.spaceButtons = new ConcurrentHashMap<PositionAxial, ASpace>();
+    this.refresher = new SpaceRefresher(this, model, this.spaceButtons);
     this.initializeHexagons();
 
     if (!decorated) {
@@ -85,53 +92,11 @@ public class HexagonalPanel extends JPanel implements ReversiPanel {
   private void initializeHexagons() {
     HashMap<PositionAxial, ASpace> newHexagonButtons = new HashMap<>();
 
-    int distance = Math.min(this.width, this.height) / this.model.getNumRows();
-    double buttonSize = (distance / Math.sqrt(3));
-
-    // Total grid width and height
-    double totalGridWidth = (this.model.getNumRows()) * buttonSize * Math.sqrt(3);
-    double totalGridHeight = (this.model.getNumRows() * 1.5 + 0.5) * buttonSize;
-
-    // Calculate offsets to center the grid
-    double offsetX = (this.width - totalGridWidth) / 2;
-    double offsetY = (this.height - totalGridHeight) / 2;
-
-    int middleY = (this.model.getNumRows() - 1) / 2;
-    int currentRowStartingQ = 0;
-    int currentRowStartingS = middleY;
-    int currentR = -middleY;
-
-    // create the hexagons for each row
-    for (int rowsMade = 0; rowsMade < this.model.getNumRows(); rowsMade += 1) {
-      int currentQ = currentRowStartingQ;
-
-      // Adjust starting positions with offsets
-      double startingX = offsetX + (((buttonSize * Math.sqrt(3)) / 2) * Math.abs(currentR))
-              + (((buttonSize * Math.sqrt(3))) / 2);
-      double startingY = offsetY + ((buttonSize * 3) / 2) * (rowsMade + 1);
-
-      for (int currentS = currentRowStartingS; currentS >= currentRowStartingQ; currentS -= 1) {
-        // create a new position for the current hexagon
-        PositionAxial posn = new PositionAxial(currentQ, currentR, currentS);
-
-        // create a new hexagon button
-        ASpace hexagon = new HexagonSpace(buttonSize, startingX, startingY,
-                this.model.getCellAt(posn));
-
-        // create empty cell and add it to the board at the current poisiton
-        newHexagonButtons.put(posn, hexagon);
-        hexagon.moveTo(startingX, startingY);
-
-        startingX += Math.sqrt(3) * buttonSize;
-        currentQ += 1;
-      }
-
-      if (rowsMade < middleY) {
-        currentRowStartingQ -= 1;
-      } else {
-        currentRowStartingS -= 1;
-      }
-      currentR += 1;
+    // the layout is shared by every panel showing a board of this width at this size
+    this.geometry = BoardGeometry.hexagonal(this.model.getNumRows(), this.width, this.height);
+    for (int index = 0; index < this.geometry.getSpaceCount(); index += 1) {
+      PositionAxial posn = (PositionAxial) this.geometry.getPosition(index);
+      newHexagonButtons.put(posn, this.geometry.makeSpace(index, this.model.getCellAt(posn)));
     }
 
     this.spaceButtons.clear();
@@ -152,15 +117,15 @@ public class HexagonalPanel extends JPanel implements ReversiPanel {
     g2d.setColor(Color.darkGray);
     g2d.fill(new Rectangle(this.width, this.height));
 
-    // Draw the hexagons
+    // Draw the hexagons, skipping those outside the area being painted
+    Rectangle clip = g2d.getClipBounds();
     for (HashMap.Entry<PositionAxial, ASpace> entry : spaceButtons.entrySet()) {
       ASpace hexagon = entry.getValue();
-
-      hexagon.drawFillColor(g2d);
-
-      if (this.model.hasGameStarted()) {
-        hexagon.drawSpaceOwner(g2d);
+      if (clip != null && !clip.intersects(hexagon.getPaintBounds())) {
+        continue;
       }
+
+      this.geometry.draw(g2d, hexagon, this.model.hasGameStarted());
     }
 
     if (this.model.hasGameStarted()) {
@@ -215,8 +180,31 @@ public class HexagonalPanel extends JPanel implements ReversiPanel {
    */
   public void refresh(boolean currentTurn) {
     this.currentTurn = currentTurn;
-    this.initializeHexagons();
-    repaint();
+    this.refresher.refresh(this.selectedPosn, this.width, this.height);
+  }
+
+  @Override
+  public void refreshCells(boolean currentTurn, Collection<? extends GamePosition> changed) {
+    this.currentTurn = currentTurn;
+    this.refresher.refreshCells(changed, this.selectedPosn, this.width, this.height);
+  }
+
+  /**
+   * Gets the area of the panel painted again by the last refresh.
+   *
+   * @return the area, or null if the panel has not been refreshed
+   */
+  Rectangle getDirtyBounds() {
+    return this.refresher.getDirtyBounds();
+  }
+
+  /**
+   * Gets the area of the selected space.
+   *
+   * @return the area, or null if no space is selected
+   */
+  Rectangle getSelectedBounds() {
+    return this.refresher.getSelectedBounds(this.selectedPosn);
   }
 
   @Override
@@ -10,11 +10,13 @@ import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.util.Collection;
 import java.util.HashMap;
 
 import javax.swing.JPanel;
 
 import cs3500.reversi.controller.PlayerActionFeatures;
+import cs3500.reversi.model.GamePosition;
 import cs3500.reversi.model.PositionAxial;
 import cs3500.reversi.model.ReadOnlyReversiModel;
 
@@ -75,6 +77,12 @@ public class HexagonalPanelMock extends JPanel implements ReversiPanel {
     repaint();
   }
 
+  @Override
+  public void refreshCells(boolean currentTurn, Collection<? extends GamePosition> changed) {
+    this.log.append("Refreshed " + changed.size() + " cells\n");
+    this.refresh(currentTurn);
+  }
+
   @Override
   public double getCurrentX() {
     return 0;
@@ -4,16 +4,19 @@ import java.awt.BorderLayout;
 import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
+import java.awt.Rectangle;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.util.Collection;
 
 import javax.swing.JPanel;
 
 import cs3500.reversi.controller.PlayerActionFeatures;
+import cs3500.reversi.model.GamePosition;
 
 /**
  * Represents hints using the decorator pattern.
@@ -89,7 +92,36 @@ public class HintDecorator extends JPanel implements ReversiPanel {
   @Override
   public void refresh(boolean currentTurn) {
     this.decoratedPanel.refresh(currentTurn);
-    this.repaint();
+    this.repaintChanged();
+  }
+
+  @Override
+  public void refreshCells(boolean currentTurn, Collection<? extends GamePosition> changed) {
+    this.decoratedPanel.refreshCells(currentTurn, changed);
+    this.repaintChanged();
+  }
+
+  // paints again the area the panel painted again, on top of which the hint is drawn, and
+  // the hint itself, since its score may have changed
+  private void repaintChanged() {
+    Rectangle dirty = null;
+    if (this.decoratedPanel.getDirtyBounds() != null) {
+      dirty = new Rectangle(this.decoratedPanel.getDirtyBounds());
+    }
+
+    Rectangle selected = this.decoratedPanel.getSelectedBounds();
+    if (this.showHints && selected != null) {
+      // the score is written to the left of the middle of the selected space
+      int fontSize = Math.min(this.decoratedPanel.getHeight(), this.decoratedPanel.getWidth()) / 30;
+      Rectangle hint = new Rectangle(selected);
+      hint.grow(fontSize * 2, fontSize);
+      dirty = dirty == null ? hint : dirty.union(hint);
+    }
+
+    if (dirty != null) {
+      dirty.translate(this.decoratedPanel.getX(), this.decoratedPanel.getY());
+      this.repaint(dirty);
+    }
   }
 
   @Override
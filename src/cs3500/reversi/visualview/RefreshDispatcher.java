@@ -0,0 +1,106 @@
+package cs3500.reversi.visualview;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.Timer;
+
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.ReadOnlyReversiModel;
+import cs3500.reversi.model.SharedCell;
+
+/**
+ * Passes refreshes on to a panel at most once per frame. A burst of refreshes, such as the
+ * moves of two computer players that play faster than the screen is drawn, becomes a single
+ * refresh of the panel once the frame is up, with the turn of the last refresh in the burst.
+ *
+ * <p>The dispatcher remembers the cells the panel was last shown, and only gives the panel
+ * the positions whose cells have changed since, so the panel only has to update those.
+ */
+public final class RefreshDispatcher {
+
+  /**
+   * The time between refreshes of a panel, in milliseconds, which is about 60 per second.
+   */
+  public static final int FRAME_MILLIS = 16;
+
+  private final ReadOnlyReversiModel model;
+  private final ReversiPanel panel;
+  private final int frameMillis;
+  // fires once the frame after the last refresh of the panel is up
+  private final Timer timer;
+  // the cell of every position when the panel was last refreshed, by ordinal, null if the
+  // panel has not been refreshed by the dispatcher
+  private SharedCell[] shown;
+  // when the panel was last refreshed, in milliseconds
+  private long lastRefresh;
+  // the turn to give the panel when it is next refreshed
+  private boolean currentTurn;
+
+  /**
+   * Constructs a RefreshDispatcher for the given panel of the given model.
+   *
+   * @param model       the model the panel shows
+   * @param panel       the panel to refresh
+   * @param frameMillis the time between refreshes of the panel, in milliseconds
+   * @throws IllegalArgumentException if the time between refreshes is negative
+   */
+  public RefreshDispatcher(ReadOnlyReversiModel model, ReversiPanel panel, int frameMillis) {
+    if (frameMillis < 0) {
+      throw new IllegalArgumentException("Frame time cannot be negative");
+    }
+
+    this.model = model;
+    this.panel = panel;
+    this.frameMillis = frameMillis;
+    this.timer = new Timer(frameMillis, e -> this.dispatch());
+    this.timer.setRepeats(false);
+    this.shown = null;
+    this.lastRefresh = 0;
+  }
+
+  /**
+   * Asks for the panel to be refreshed. The panel is refreshed on the event thread once the
+   * frame after its last refresh is up, however many times this is called before then.
+   *
+   * @param currentTurn - whether or not it is the current player's turn
+   */
+  public synchronized void refresh(boolean currentTurn) {
+    this.currentTurn = currentTurn;
+    if (!this.timer.isRunning()) {
+      long wait = this.lastRefresh + this.frameMillis - System.currentTimeMillis();
+      this.timer.setInitialDelay((int) Math.max(0, Math.min(wait, this.frameMillis)));
+      this.timer.start();
+    }
+  }
+
+  // refreshes the panel with the positions that have changed since it was last refreshed
+  private synchronized void dispatch() {
+    this.lastRefresh = System.currentTimeMillis();
+    int size = this.model.getBoardSize();
+
+    if (this.shown == null || this.shown.length != size) {
+      this.shown = new SharedCell[size];
+      for (int ordinal = 0; ordinal < size; ordinal += 1) {
+        this.shown[ordinal] = this.cellAt(ordinal);
+      }
+      this.panel.refresh(this.currentTurn);
+      return;
+    }
+
+    List<GamePosition> changed = new ArrayList<>();
+    for (int ordinal = 0; ordinal < size; ordinal += 1) {
+      SharedCell cell = this.cellAt(ordinal);
+      if (cell != this.shown[ordinal]) {
+        this.shown[ordinal] = cell;
+        changed.add(this.model.getPositionAt(ordinal));
+      }
+    }
+    this.panel.refreshCells(this.currentTurn, changed);
+  }
+
+  // the shared cell at the position with the given ordinal
+  private SharedCell cellAt(int ordinal) {
+    return SharedCell.of(this.model.getCellAt(this.model.getPositionAt(ordinal)));
+  }
+}
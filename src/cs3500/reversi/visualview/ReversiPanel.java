@@ -1,6 +1,9 @@
 package cs3500.reversi.visualview;
 
+import java.util.Collection;
+
 import cs3500.reversi.controller.PlayerActionFeatures;
+import cs3500.reversi.model.GamePosition;
 
 /**
  * Represents the panel for the Reversi game.
@@ -22,6 +25,15 @@ public interface ReversiPanel {
    */
   void refresh(boolean currentTurn);
 
+  /**
+   * Refreshes the panel when only the cells at the given positions have changed since it
+   * was last refreshed, so only their spaces need to be updated.
+   *
+   * @param currentTurn - whether or not it is the current player's turn
+   * @param changed     - the positions whose cells have changed
+   */
+  void refreshCells(boolean currentTurn, Collection<? extends GamePosition> changed);
+
   /**
    * Gets the current x of the selected position by the user.
    *
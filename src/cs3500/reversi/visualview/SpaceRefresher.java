@@ -0,0 +1,136 @@
+package cs3500.reversi.visualview;
+
+import java.awt.Rectangle;
+import java.util.Collection;
+import java.util.Map;
+
+import javax.swing.JComponent;
+
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.ReadOnlyReversiModel;
+
+/**
+ * Updates the spaces of a panel to show the cells of its model, and has the panel paint
+ * again only the spaces that now look different and the text at its top. Every panel of
+ * spaces keeps one, so the hexagonal and square panels refresh the same way.
+ */
+final class SpaceRefresher {
+
+  private final JComponent panel;
+  private final ReadOnlyReversiModel model;
+  // the spaces of the panel, by the position of the cell each one shows
+  private final Map<? extends GamePosition, ASpace> spaces;
+  // whether the game had started when the panel was last refreshed
+  private boolean shownStarted;
+  // the area of the panel painted again by the last refresh
+  private Rectangle dirtyBounds;
+
+  /**
+   * Constructs a SpaceRefresher for the given spaces of the given panel.
+   *
+   * @param panel  the panel to paint again
+   * @param model  the model the panel shows
+   * @param spaces the spaces of the panel, by position, which the panel may change
+   */
+  SpaceRefresher(JComponent panel, ReadOnlyReversiModel model,
+                 Map<? extends GamePosition, ASpace> spaces) {
+    this.panel = panel;
+    this.model = model;
+    this.spaces = spaces;
+  }
+
+  /**
+   * Updates every space of the panel and paints again those that changed.
+   *
+   * @param selected the position of the selected space, or null if none is selected
+   * @param width    the width of the panel
+   * @param height   the height of the panel
+   */
+  void refresh(GamePosition selected, int width, int height) {
+    Rectangle dirty = null;
+    for (Map.Entry<? extends GamePosition, ASpace> entry : this.spaces.entrySet()) {
+      dirty = this.updateSpace(entry.getKey(), entry.getValue(), selected, dirty);
+    }
+    this.repaintChanged(dirty, width, height);
+  }
+
+  /**
+   * Updates the spaces at the given positions and paints again those that changed.
+   *
+   * @param changed  the positions whose cells have changed
+   * @param selected the position of the selected space, or null if none is selected
+   * @param width    the width of the panel
+   * @param height   the height of the panel
+   */
+  void refreshCells(Collection<? extends GamePosition> changed, GamePosition selected,
+                    int width, int height) {
+    Rectangle dirty = null;
+    for (GamePosition posn : changed) {
+      ASpace space = this.spaces.get(posn);
+      if (space != null) {
+        dirty = this.updateSpace(posn, space, selected, dirty);
+      }
+    }
+    this.repaintChanged(dirty, width, height);
+  }
+
+  // shows the model's cell at the given position in its space, and adds the space to the
+  // given area to paint again if it now looks different. A space stops being highlighted
+  // once a move changes its cell, or if it is not the selected space.
+  private Rectangle updateSpace(GamePosition posn, ASpace space, GamePosition selected,
+                                Rectangle dirty) {
+    boolean changed = space.updateCell(this.model.getCellAt(posn));
+    if (space.getState() && (changed || !posn.equals(selected))) {
+      space.setState(false);
+      changed = true;
+    }
+
+    if (!changed) {
+      return dirty;
+    } else if (dirty == null) {
+      return new Rectangle(space.getPaintBounds());
+    } else {
+      return dirty.union(space.getPaintBounds());
+    }
+  }
+
+  // paints again the given area, which may be null, and the text at the top of the panel,
+  // or all of the panel if the game has started or ended since it was last painted
+  private void repaintChanged(Rectangle dirty, int width, int height) {
+    if (this.model.hasGameStarted() != this.shownStarted || this.model.isGameOver()) {
+      this.shownStarted = this.model.hasGameStarted();
+      this.dirtyBounds = new Rectangle(width, height);
+      this.panel.repaint();
+      return;
+    }
+
+    // the turn and scores are written in two lines at the top
+    int fontSize = Math.max(10, Math.min(width, height) / 30);
+    Rectangle text = new Rectangle(0, 0, width, fontSize * 5 / 2);
+    this.dirtyBounds = dirty == null ? text : dirty.union(text);
+    this.panel.repaint(text);
+    if (dirty != null) {
+      this.panel.repaint(dirty);
+    }
+  }
+
+  /**
+   * Gets the area of the panel painted again by the last refresh.
+   *
+   * @return the area, or null if the panel has not been refreshed
+   */
+  Rectangle getDirtyBounds() {
+    return this.dirtyBounds;
+  }
+
+  /**
+   * Gets the area of the selected space.
+   *
+   * @param selected the position of the selected space, or null if none is selected
+   * @return the area, or null if no space is selected
+   */
+  Rectangle getSelectedBounds(GamePosition selected) {
+    ASpace space = selected == null ? null : this.spaces.get(selected);
+    return space == null ? null : space.getPaintBounds();
+  }
+}
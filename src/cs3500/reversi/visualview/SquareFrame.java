@@ -13,6 +13,8 @@ import cs3500.reversi.model.ReversiModel;
  */
 public class SquareFrame extends JFrame implements ReversiVisualView {
   private final SquarePanel panel;
+  // passes refreshes on to the panel at most once per frame
+  private final RefreshDispatcher dispatcher;
 
   /**
    * Constructs a frame of square buttons.
@@ -27,6 +29,7 @@ public class SquareFrame extends JFrame implements ReversiVisualView {
     setVisible(true); // Make the frame visible
 
     this.panel = new SquarePanel(model, 800, 800);
+    this.dispatcher = new RefreshDispatcher(model, this.panel, RefreshDispatcher.FRAME_MILLIS);
     this.render(); // Render the frame
   }
 
@@ -43,6 +46,7 @@ public class SquareFrame extends JFrame implements ReversiVisualView {
     setVisible(true); // Make the frame visible
 
     this.panel = new SquarePanel(model, 800, 800);
+    this.dispatcher = new RefreshDispatcher(model, this.panel, RefreshDispatcher.FRAME_MILLIS);
     this.render(); // Render the frame
   }
 
@@ -69,7 +73,7 @@ public class SquareFrame extends JFrame implements ReversiVisualView {
    */
   @Override
   public void refresh(boolean currentTurn) {
-    this.panel.refresh(currentTurn);
+    this.dispatcher.refresh(currentTurn);
   }
 
   /**
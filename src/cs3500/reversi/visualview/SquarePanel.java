@@ -5,6 +5,7 @@ import javax.swing.JPanel;
 
 import cs3500.reversi.controller.PlayerActionFeatures;
 import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.GamePosition;
 import cs3500.reversi.model.Position2D;
 import cs3500.reversi.model.ReadOnlyReversiModel;
 
@@ -21,6 +22,7 @@ import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.event.ComponentEvent;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -35,6 +37,10 @@ public class SquarePanel extends JPanel implements ReversiPanel {
   private PlayerActionFeatures features;
   private Position2D selectedPosn;
   private boolean currentTurn;
+  // updates the spaces to show the model and paints again those that changed
+  private final SpaceRefresher refresher;
+  // the layout of the spaces, and how they look, at the panel's current size
+  private BoardGeometry geometry;
   private boolean hints;
 
   /**
@@ -57,6 +63,7 @@ public class SquarePanel extends JPanel implements ReversiPanel {
     this.currentTurn = false;
     this.hints = false;
     this.spaceButtons = new ConcurrentHashMap<Position2D, ASpace>();
+    this.refresher = new SpaceRefresher(this, model, this.spaceButtons);
     this.initializeSquares();
 
     addMouseListener(new MouseListenerReversi());
@@ -84,31 +91,11 @@ public class SquarePanel extends JPanel implements ReversiPanel {
   private void initializeSquares() {
     HashMap<Position2D, ASpace> newSquareButtons = new HashMap<>();
 
-    int buttonSize = Math.min(this.width, this.height) / this.model.getNumRows();
-
-    // Total grid width and height
-    double totalGridWidth = (this.model.getNumRows()) * buttonSize;
-
-    // Calculate offset to center the grid
-    double offsetX = (this.width - totalGridWidth) / 2;
-    double offsetY = (this.height - totalGridWidth) / 2;
-
-    double centerX = offsetX;
-    double centerY = offsetY;
-
-    // Create the squares
-    for (int y = 0; y < this.model.getNumRows(); y += 1) {
-      for (int x = 0; x < this.model.getNumRows(); x += 1) {
-        Position2D posn = new Position2D(x, y);
-        ASpace square = new SquareSpace(buttonSize, centerX, centerY,
-                this.model.getCellAt(posn));
-
-        square.moveTo(centerX, centerY);
-        newSquareButtons.put(posn, square);
-        centerX += buttonSize;
-      }
-      centerX = offsetX;
-      centerY += buttonSize;
+    // the layout is shared by every panel showing a board of this width at this size
+    this.geometry = BoardGeometry.square(this.model.getNumRows(), this.width, this.height);
+    for (int index = 0; index < this.geometry.getSpaceCount(); index += 1) {
+      Position2D posn = (Position2D) this.geometry.getPosition(index);
+      newSquareButtons.put(posn, this.geometry.makeSpace(index, this.model.getCellAt(posn)));
     }
 
     this.spaceButtons.clear();
@@ -129,15 +116,15 @@ public class SquarePanel extends JPanel implements ReversiPanel {
     g2d.setColor(Color.darkGray);
     g2d.fill(new Rectangle(this.width, this.height));
 
-    // Draw the squares
+    // Draw the squares, skipping those outside the area being painted
+    Rectangle clip = g2d.getClipBounds();
     for (HashMap.Entry<Position2D, ASpace> entry : spaceButtons.entrySet()) {
       ASpace square = entry.getValue();
-
-      square.drawFillColor(g2d);
-
-      if (this.model.hasGameStarted()) {
-        square.drawSpaceOwner(g2d);
+      if (clip != null && !clip.intersects(square.getPaintBounds())) {
+        continue;
       }
+
+      this.geometry.draw(g2d, square, this.model.hasGameStarted());
     }
 
     if (this.model.hasGameStarted()) {
@@ -193,8 +180,22 @@ public class SquarePanel extends JPanel implements ReversiPanel {
    */
   public void refresh(boolean currentTurn) {
     this.currentTurn = currentTurn;
-    this.initializeSquares();
-    repaint();
+    this.refresher.refresh(this.selectedPosn, this.width, this.height);
+  }
+
+  @Override
+  public void refreshCells(boolean currentTurn, Collection<? extends GamePosition> changed) {
+    this.currentTurn = currentTurn;
+    this.refresher.refreshCells(changed, this.selectedPosn, this.width, this.height);
+  }
+
+  /**
+   * Gets the area of the panel painted again by the last refresh.
+   *
+   * @return the area, or null if the panel has not been refreshed
+   */
+  Rectangle getDirtyBounds() {
+    return this.refresher.getDirtyBounds();
   }
 
   @Override
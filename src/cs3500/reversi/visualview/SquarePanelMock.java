@@ -5,6 +5,7 @@ import javax.swing.JPanel;
 
 import cs3500.reversi.controller.PlayerActionFeatures;
 import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.GamePosition;
 import cs3500.reversi.model.Position2D;
 import cs3500.reversi.model.ReadOnlyReversiModel;
 
@@ -21,6 +22,7 @@ import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.event.ComponentEvent;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -200,6 +202,12 @@ public class SquarePanelMock extends JPanel implements ReversiPanel {
     repaint();
   }
 
+  @Override
+  public void refreshCells(boolean currentTurn, Collection<? extends GamePosition> changed) {
+    this.log.append("Refreshed " + changed.size() + " cells\n");
+    this.refresh(currentTurn);
+  }
+
   @Override
   public double getCurrentX() {
     if (this.model.hasGameStarted()) {
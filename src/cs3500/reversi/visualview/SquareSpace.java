@@ -27,6 +27,21 @@ public class SquareSpace extends ASpace {
     this.constructSquare();
   }
 
+  /**
+   * Constructs a new SquareSpace whose outline is a copy of the given outline of a
+   * square of the same size, moved from the origin to the given currentX and currentY.
+   *
+   * @param outline          The outline of the square space, drawn from the origin.
+   * @param size             The size of the square space.
+   * @param currentX         The current x coordinate of the square space.
+   * @param currentY         The current y coordinate of the square space.
+   * @param representingCell The cell that the square space represents.
+   */
+  SquareSpace(Path2D outline, double size, double currentX, double currentY,
+               Cell representingCell) {
+    super(outline, size, currentX, currentY, representingCell);
+  }
+
   /**
    * Constructs the square.
    */
@@ -0,0 +1,237 @@
+package cs3500.reversi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import cs3500.reversi.controller.ComputerPlayer;
+import cs3500.reversi.controller.Player;
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.BasicReversiModel;
+import cs3500.reversi.model.BitboardHexReversiModel;
+import cs3500.reversi.model.Cell;
+import cs3500.reversi.model.CellType;
+import cs3500.reversi.model.GameCell;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.Position2D;
+import cs3500.reversi.model.PositionAxial;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.textualview.ReversiTextualView;
+import cs3500.reversi.textualview.TextualView;
+
+/**
+ * Tests the bitboard implementation of the hexagonal model, mostly by playing it against
+ * the original HashMap based model.
+ */
+public class TestBitboardModel {
+
+  private Player playerBlack;
+  private Player playerWhite;
+
+  @Before
+  public void init() {
+    playerBlack = new ComputerPlayer(PlayerType.BLACK);
+    playerWhite = new ComputerPlayer(PlayerType.WHITE);
+  }
+
+  // Test that the model has initialized correctly with a correct starting board
+  // of width 7.
+  @Test
+  public void testModelIntialization7() {
+    ReversiModel model = new BitboardHexReversiModel(7);
+
+    TextualView modelView = new ReversiTextualView(model);
+
+    Assert.assertEquals(modelView.toString(), "   _ _ _ _\n" + //
+            "  _ _ _ _ _\n" + //
+            " _ _ X O _ _\n" + //
+            "_ _ O _ X _ _\n" + //
+            " _ _ X O _ _\n" + //
+            "  _ _ _ _ _\n" + //
+            "   _ _ _ _\n");
+  }
+
+  // Tests that multiple valid moves on the model work as intended.
+  @Test
+  public void testModelMoveMultipleMoves() {
+    ReversiModel model = new BitboardHexReversiModel(7, playerBlack, playerWhite);
+
+    model.startGame();
+
+    model.addPieceToCoordinates(new PositionAxial(1, -2, 1), playerBlack);
+    model.addPieceToCoordinates(new PositionAxial(-2, 1, 1), playerWhite);
+    model.addPieceToCoordinates(new PositionAxial(-3, 2, 1), playerBlack);
+    model.addPieceToCoordinates(new PositionAxial(-3, 1, 2), playerWhite);
+
+    TextualView modelView = new ReversiTextualView(model);
+
+    Assert.assertEquals(modelView.toString(), "   _ _ _ _\n" + //
+            "  _ _ X _ _\n" + //
+            " _ _ X X _ _\n" + //
+            "_ _ X _ X _ _\n" + //
+            " O O O O _ _\n" + //
+            "  X _ _ _ _\n" + //
+            "   _ _ _ _\n");
+    Assert.assertEquals(model.getCurrentScore(PlayerType.BLACK), 6);
+    Assert.assertEquals(model.getCurrentScore(PlayerType.WHITE), 4);
+  }
+
+  // Tests that the model rejects invalid moves, nonexistant positions and square positions.
+  @Test
+  public void testModelErrors() {
+    ReversiModel model = new BitboardHexReversiModel(7, playerBlack, playerWhite);
+
+    Assert.assertThrows(IllegalStateException.class, () ->
+            model.addPieceToCoordinates(new PositionAxial(1, -2, 1), playerBlack));
+
+    model.startGame();
+
+    Assert.assertThrows(IllegalStateException.class, () ->
+            model.addPieceToCoordinates(new PositionAxial(0, 0, 0), playerBlack));
+    Assert.assertThrows(IllegalStateException.class, () ->
+            model.addPieceToCoordinates(new PositionAxial(1, -2, 1), playerWhite));
+    Assert.assertThrows(IllegalArgumentException.class, () ->
+            model.addPieceToCoordinates(new PositionAxial(10, -2, 1), playerBlack));
+    Assert.assertThrows(IllegalArgumentException.class, () ->
+            model.getCellAt(new Position2D(0, 0)));
+    Assert.assertThrows(IllegalArgumentException.class, () ->
+            new BitboardHexReversiModel(4));
+  }
+
+  // Tests that a board given in the middle of a game is loaded correctly.
+  @Test
+  public void testModelFromBoard() {
+    Cell blackCell = new GameCell(CellType.Player);
+    blackCell.setCellToPlayer(playerBlack);
+
+    HashMap<GamePosition, Cell> board = new HashMap<>();
+    board.put(new PositionAxial(1, -2, 1), blackCell);
+    board.put(new PositionAxial(1, -1, 0), blackCell);
+
+    ReversiModel model = new BitboardHexReversiModel(7, board, playerWhite);
+
+    Assert.assertEquals(model.getCellAt(new PositionAxial(1, -1, 0)).getCellOwner(), "X");
+    Assert.assertEquals(model.getCurrentScore(PlayerType.BLACK), 5);
+    Assert.assertEquals(model.getCurrentScore(PlayerType.WHITE), 2);
+    Assert.assertEquals(new ReversiTextualView(model).toString(),
+            new ReversiTextualView(new BasicReversiModel(7, board, playerWhite)).toString());
+  }
+
+  // Tests that random games played on both models agree on every observation.
+  @Test
+  public void testModelMatchesBasicModel() {
+    Random rand = new Random(3500);
+
+    for (int width = 3; width <= 11; width += 2) {
+      ReversiModel basic = new BasicReversiModel(width, playerBlack, playerWhite);
+      ReversiModel bitboard = new BitboardHexReversiModel(width, playerBlack, playerWhite);
+      basic.startGame();
+      bitboard.startGame();
+      Player turn = playerBlack;
+
+      while (!basic.isGameOver()) {
+        Assert.assertFalse(bitboard.isGameOver());
+        this.assertSameBoard(basic, bitboard);
+
+        List<GamePosition> moves = new ArrayList<>();
+        for (GamePosition posn : basic.getBoardCopy().keySet()) {
+          boolean valid = basic.doesCurrentPlayerHaveValidMovesPosn(posn, turn);
+          Assert.assertEquals(valid, bitboard.doesCurrentPlayerHaveValidMovesPosn(posn, turn));
+          Assert.assertEquals(basic.getScoreForMove(posn), bitboard.getScoreForMove(posn));
+          if (valid) {
+            moves.add(posn);
+          }
+        }
+
+        Assert.assertEquals(basic.doesCurrentPlayerHaveValidMoves(),
+                bitboard.doesCurrentPlayerHaveValidMoves());
+        this.assertSameLegalMoves(basic, bitboard);
+        this.assertSameAfterApplyAndUndo(basic, bitboard,
+                turn.equals(playerBlack) ? PlayerType.BLACK : PlayerType.WHITE);
+        this.assertSameAfterApplyAndUndo(basic.copy(), bitboard.copy(),
+                turn.equals(playerBlack) ? PlayerType.BLACK : PlayerType.WHITE);
+        if (moves.isEmpty()) {
+          basic.passTurn(turn);
+          bitboard.passTurn(turn);
+        } else {
+          GamePosition move = moves.get(rand.nextInt(moves.size()));
+          basic.addPieceToCoordinates(move, turn);
+          bitboard.addPieceToCoordinates(move, turn);
+        }
+        turn = turn.getOppositePlayer();
+      }
+
+      Assert.assertTrue(bitboard.isGameOver());
+      this.assertSameBoard(basic, bitboard);
+      Assert.assertEquals(basic.getCurrentWinner(), bitboard.getCurrentWinner());
+    }
+  }
+
+  // asserts that the two models have the same cells, scores and position hash
+  private void assertSameBoard(ReversiModel expected, ReversiModel actual) {
+    Assert.assertEquals(expected.getPositionHash(), actual.getPositionHash());
+    Assert.assertEquals(expected.getBoardSize(), actual.getBoardSize());
+    for (GamePosition posn : expected.getBoardCopy().keySet()) {
+      Assert.assertEquals(expected.getCellAt(posn).toString(), actual.getCellAt(posn).toString());
+    }
+    Assert.assertEquals(expected.getCurrentScore(PlayerType.BLACK),
+            actual.getCurrentScore(PlayerType.BLACK));
+    Assert.assertEquals(expected.getCurrentScore(PlayerType.WHITE),
+            actual.getCurrentScore(PlayerType.WHITE));
+  }
+
+  // asserts that the two models find the same legal moves for both players
+  private void assertSameLegalMoves(ReversiModel expected, ReversiModel actual) {
+    int[] expectedMoves = new int[expected.getBoardSize()];
+    int[] expectedFlips = new int[expected.getBoardSize()];
+    int[] actualMoves = new int[actual.getBoardSize()];
+    int[] actualFlips = new int[actual.getBoardSize()];
+
+    for (PlayerType type : PlayerType.values()) {
+      int expectedCount = expected.getLegalMoves(type, expectedMoves, expectedFlips);
+      Assert.assertEquals(expectedCount, actual.getLegalMoves(type, actualMoves, actualFlips));
+      for (int i = 0; i < expectedCount; i += 1) {
+        Assert.assertEquals(expected.getPositionAt(expectedMoves[i]),
+                actual.getPositionAt(actualMoves[i]));
+        Assert.assertEquals(expectedFlips[i], actualFlips[i]);
+      }
+    }
+  }
+
+  // asserts that the two models agree after each legal move of the player whose turn it is
+  // is applied and taken back
+  private void assertSameAfterApplyAndUndo(ReversiModel expected, ReversiModel actual,
+                                           PlayerType turn) {
+    int[] moves = new int[expected.getBoardSize()];
+    int[] flips = new int[expected.getBoardSize()];
+    String before = new ReversiTextualView(expected).toString();
+    long hashBefore = expected.getPositionHash();
+
+    int count = expected.getLegalMoves(turn, moves, flips);
+    for (int i = 0; i < count; i += 1) {
+      expected.applyMove(moves[i]);
+      actual.applyMove(moves[i]);
+      this.assertSameBoard(expected, actual);
+      Assert.assertEquals(expected.isGameOver(), actual.isGameOver());
+      expected.undoMove();
+      actual.undoMove();
+    }
+
+    // passing can be taken back too
+    expected.applyMove(expected.getBoardSize());
+    actual.applyMove(actual.getBoardSize());
+    Assert.assertNotEquals(hashBefore, actual.getPositionHash());
+    this.assertSameBoard(expected, actual);
+    expected.undoMove();
+    actual.undoMove();
+
+    this.assertSameBoard(expected, actual);
+    Assert.assertEquals(new ReversiTextualView(expected).toString(), before);
+    Assert.assertEquals(hashBefore, actual.getPositionHash());
+  }
+}
@@ -1,18 +1,34 @@
 package cs3500.reversi;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
 import org.junit.Assert;
 import org.junit.Test;
 
 import cs3500.reversi.controller.BasicReversiController;
 import cs3500.reversi.controller.ComputerPlayer;
+import cs3500.reversi.controller.DecisionMetrics;
+import cs3500.reversi.controller.GameLoop;
 import cs3500.reversi.controller.HumanPlayer;
 import cs3500.reversi.controller.MockController;
+import cs3500.reversi.controller.PlayerActionFeatures;
 import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.controller.TurnScheduler;
 import cs3500.reversi.model.BasicReversiModel;
 import cs3500.reversi.model.BasicSquareReversiModel;
+import cs3500.reversi.model.Cell;
+import cs3500.reversi.model.CellType;
+import cs3500.reversi.model.GameCell;
+import cs3500.reversi.model.GamePosition;
 import cs3500.reversi.model.Position2D;
 import cs3500.reversi.model.PositionAxial;
 import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.strategies.CaptureMostPieces;
+import cs3500.reversi.strategies.ParallelRootSearch;
+import cs3500.reversi.strategies.ReversiStrategy;
 import cs3500.reversi.visualview.HexagonalFrame;
 import cs3500.reversi.visualview.ReversiVisualView;
 import cs3500.reversi.visualview.SquareFrame;
@@ -307,4 +323,306 @@ public class TestController {
     Assert.assertEquals(controller.getLog(), "Notified to refresh.\n");
   }
 
+  // Test that a computer player with a decision listener chooses the same move as one
+  // without, and reports how long it took and what it asked of the model
+  @Test
+  public void testComputerPlayerDecisionMetrics() {
+    ReversiModel model = new BasicReversiModel(7);
+    model.startGame();
+    List<DecisionMetrics> decisions = new ArrayList<>();
+    ComputerPlayer measured = new ComputerPlayer(PlayerType.BLACK, new CaptureMostPieces());
+    measured.addDecisionListener(decisions::add);
+
+    GamePosition move = measured.requestMove(model, new PositionAxial(0, 0, 0));
+
+    Assert.assertEquals(move, new ComputerPlayer(PlayerType.BLACK, new CaptureMostPieces())
+            .requestMove(model, new PositionAxial(0, 0, 0)));
+    Assert.assertEquals(decisions.size(), 1);
+    DecisionMetrics metrics = decisions.get(0);
+    Assert.assertEquals(metrics.getPlayer(), PlayerType.BLACK);
+    Assert.assertEquals(metrics.getBoardSize(), 37);
+    Assert.assertTrue(metrics.getWallNanos() > 0);
+    Assert.assertTrue(metrics.getLegalMovesExamined() > 0);
+    Assert.assertTrue(metrics.getModelCalls() >= metrics.getLegalMovesExamined());
+    Assert.assertEquals(metrics.getBoardCopies(), 0);
+  }
+
+  // Test that a computer player counts the copies of the model its strategy makes, and the
+  // work its strategy does on them
+  @Test
+  public void testComputerPlayerDecisionMetricsCopies() {
+    ReversiModel model = new BasicSquareReversiModel(6);
+    model.startGame();
+    List<DecisionMetrics> decisions = new ArrayList<>();
+    ComputerPlayer measured = new ComputerPlayer(PlayerType.BLACK, new ParallelRootSearch(2));
+    measured.addDecisionListener(decisions::add);
+
+    measured.requestMove(model, new PositionAxial(0, 0, 0));
+
+    // the search copies the model once for each of black's four opening moves, and the
+    // copies count the three replies white has to each of them
+    Assert.assertEquals(decisions.get(0).getBoardCopies(), 4);
+    Assert.assertEquals(decisions.get(0).getLegalMovesExamined(), 4 + 4 * 3);
+  }
+
+  // Test that two computer players whose moves are worked out off the game thread play the
+  // same game as they do when their moves are made as soon as they are told it is their turn
+  @Test
+  public void testControllerAsyncComputerGame() throws InterruptedException {
+    ReversiModel expected = new BasicReversiModel(5);
+    playGame(expected, null);
+
+    try (TurnScheduler turns = TurnScheduler.onOwnThread(10_000)) {
+      ReversiModel model = new BasicReversiModel(5);
+      playGame(model, turns);
+      waitFor(turns, () -> model.isGameOver());
+
+      Assert.assertEquals(turns.call(() -> model.getPositionHash()),
+              (Long) expected.getPositionHash());
+      Assert.assertEquals(turns.call(() -> model.getCurrentScore(PlayerType.BLACK)),
+              (Integer) expected.getCurrentScore(PlayerType.BLACK));
+    }
+  }
+
+  // Test that a computer player that takes too long to choose a move is stopped and passes
+  @Test
+  public void testControllerAsyncComputerTimeout() throws InterruptedException {
+    ReversiStrategy slow = (model, playerTurn) -> {
+      try {
+        Thread.sleep(60_000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new PositionAxial(1, -1, 0);
+    };
+
+    try (TurnScheduler turns = TurnScheduler.onOwnThread(50)) {
+      ReversiModel model = new BasicReversiModel(5);
+      List<Boolean> whiteRefreshes = new ArrayList<>();
+      model.addFeaturesListener(new BasicReversiController(model,
+              new ComputerPlayer(PlayerType.BLACK, slow), new LoggingView(new ArrayList<>()),
+              turns));
+      model.addFeaturesListener(new BasicReversiController(model,
+              new HumanPlayer(PlayerType.WHITE), new LoggingView(whiteRefreshes), turns));
+      turns.call(() -> {
+        model.startGame();
+        return null;
+      });
+
+      // black gives up its turn without changing the board
+      waitFor(turns, () -> whiteRefreshes.contains(true));
+      Assert.assertEquals(turns.call(() -> model.getCurrentScore(PlayerType.BLACK)),
+              (Integer) 3);
+      Assert.assertEquals(turns.call(() -> model.getCurrentScore(PlayerType.WHITE)),
+              (Integer) 3);
+    }
+  }
+
+  // Test that a computer player that chooses the centre of the board has its move made,
+  // whether its moves are worked out off the game thread or as soon as it is told it is
+  // its turn
+  @Test
+  public void testControllerComputerPlaysCentre() throws InterruptedException {
+    ReversiModel model = centreOpenModel();
+    playCentre(model, null);
+    Assert.assertEquals(model.getCellAt(new PositionAxial(0, 0, 0)).getCellOwner(), "X");
+
+    try (TurnScheduler turns = TurnScheduler.onOwnThread(10_000)) {
+      ReversiModel asyncModel = centreOpenModel();
+      playCentre(asyncModel, turns);
+      waitFor(turns, () -> asyncModel.getCellAt(new PositionAxial(0, 0, 0))
+              .sameCellType(CellType.Player));
+      Assert.assertEquals(turns.call(() -> asyncModel.getCellAt(new PositionAxial(0, 0, 0))
+              .getCellOwner()), "X");
+    }
+  }
+
+  // Test that a computer player whose strategy throws an error, rather than an exception,
+  // gives up its turn straight away instead of holding up the game until it times out
+  @Test
+  public void testControllerAsyncComputerError() throws InterruptedException {
+    ReversiStrategy broken = (model, playerTurn) -> {
+      throw new AssertionError("Broken strategy");
+    };
+
+    try (TurnScheduler turns = TurnScheduler.onOwnThread(60_000)) {
+      ReversiModel model = new BasicReversiModel(5);
+      List<Boolean> whiteRefreshes = new ArrayList<>();
+      model.addFeaturesListener(new BasicReversiController(model,
+              new ComputerPlayer(PlayerType.BLACK, broken), new LoggingView(new ArrayList<>()),
+              turns));
+      model.addFeaturesListener(new BasicReversiController(model,
+              new HumanPlayer(PlayerType.WHITE), new LoggingView(whiteRefreshes), turns));
+      turns.call(() -> {
+        model.startGame();
+        return null;
+      });
+
+      waitFor(turns, () -> whiteRefreshes.contains(true));
+      Assert.assertEquals(turns.call(() -> model.getCurrentScore(PlayerType.BLACK)),
+              (Integer) 3);
+    }
+  }
+
+  // Test that a human move asked for off the game thread is made on it, and that a move
+  // the model refuses still throws to the caller
+  @Test
+  public void testControllerAsyncHumanMove() {
+    try (TurnScheduler turns = TurnScheduler.onOwnThread(10_000)) {
+      HumanPlayer blackPlayer = new HumanPlayer(PlayerType.BLACK);
+      ReversiModel model = new BasicReversiModel(5, blackPlayer,
+              new HumanPlayer(PlayerType.WHITE));
+      BasicReversiController black = new BasicReversiController(model, blackPlayer,
+              new LoggingView(new ArrayList<>()), turns);
+      model.addFeaturesListener(black);
+      turns.call(() -> {
+        model.startGame();
+        return null;
+      });
+
+      Assert.assertThrows(IllegalStateException.class,
+          () -> black.moveToCoordinate(new PositionAxial(0, 0, 0)));
+      black.moveToCoordinate(new PositionAxial(1, -2, 1));
+      Assert.assertEquals(turns.call(() -> model.getCurrentScore(PlayerType.BLACK)),
+              (Integer) 5);
+    }
+  }
+
+  // Test that a game loop plays the same game as controllers making their players' moves
+  // as they are told it is their turn, and tells its listeners about every move
+  @Test
+  public void testGameLoopPlaysWholeGame() {
+    ReversiModel expected = new BasicReversiModel(7);
+    playGame(expected, null);
+
+    ReversiModel model = new BasicReversiModel(7);
+    GameLoop loop = new GameLoop(model,
+            new ComputerPlayer(PlayerType.BLACK, new CaptureMostPieces()),
+            new ComputerPlayer(PlayerType.WHITE, new CaptureMostPieces()));
+    MockController listener = new MockController(new HumanPlayer(PlayerType.BLACK));
+    loop.addListener(listener);
+    int turns = loop.play();
+
+    Assert.assertTrue(model.isGameOver());
+    Assert.assertEquals(model.getPositionHash(), expected.getPositionHash());
+    Assert.assertEquals(listener.getLog().split("\n").length, turns + 1);
+  }
+
+  // Test that a game loop can play a game on a board too big for controllers to play by
+  // making each move from inside the last one
+  @Test
+  public void testGameLoopPlaysLargeBoard() {
+    ReversiModel model = new BasicSquareReversiModel(40);
+    GameLoop loop = new GameLoop(model,
+            new ComputerPlayer(PlayerType.BLACK, new CaptureMostPieces()),
+            new ComputerPlayer(PlayerType.WHITE, new CaptureMostPieces()));
+
+    Assert.assertTrue(loop.play() > 1000);
+    Assert.assertTrue(model.isGameOver());
+  }
+
+  // Test that a game loop stops when the player whose turn it is waits for a view
+  @Test
+  public void testGameLoopStopsForHuman() {
+    HumanPlayer black = new HumanPlayer(PlayerType.BLACK);
+    ReversiModel model = new BasicReversiModel(5, black, new HumanPlayer(PlayerType.WHITE));
+    GameLoop loop = new GameLoop(model, black, new HumanPlayer(PlayerType.WHITE));
+
+    Assert.assertEquals(loop.play(), 0);
+    Assert.assertTrue(model.hasGameStarted());
+    Assert.assertThrows(IllegalStateException.class,
+        () -> new GameLoop(model, black, new HumanPlayer(PlayerType.WHITE)));
+  }
+
+  // Test that a game loop makes the move of a computer player that chooses the centre, and
+  // stops once it is the turn of a player waiting for a view
+  @Test
+  public void testGameLoopPlaysCentre() {
+    ReversiModel model = centreOpenModel();
+    GameLoop loop = new GameLoop(model,
+            new ComputerPlayer(PlayerType.BLACK, (m, playerTurn) -> new PositionAxial(0, 0, 0)),
+            new HumanPlayer(PlayerType.WHITE));
+
+    Assert.assertEquals(loop.play(), 1);
+    Assert.assertEquals(model.getCellAt(new PositionAxial(0, 0, 0)).getCellOwner(), "X");
+  }
+
+  // plays a game between two computer players on the given model, with the given scheduler
+  private static void playGame(ReversiModel model, TurnScheduler turns) {
+    ComputerPlayer black = new ComputerPlayer(PlayerType.BLACK, new CaptureMostPieces());
+    ComputerPlayer white = new ComputerPlayer(PlayerType.WHITE, new CaptureMostPieces());
+    model.addFeaturesListener(new BasicReversiController(model, black,
+            new LoggingView(new ArrayList<>()), turns));
+    model.addFeaturesListener(new BasicReversiController(model, white,
+            new LoggingView(new ArrayList<>()), turns));
+    if (turns == null) {
+      model.startGame();
+    } else {
+      turns.execute(model::startGame);
+    }
+  }
+
+  // a model of a hexagonal board of width five where black's first move can be the centre,
+  // since the black piece to its right has been turned white and there is a black piece
+  // beyond it
+  private static ReversiModel centreOpenModel() {
+    HashMap<GamePosition, Cell> board = new HashMap<>();
+    Cell white = new GameCell(CellType.Player);
+    white.setCellToPlayer(new ComputerPlayer(PlayerType.WHITE));
+    board.put(new PositionAxial(1, 0, -1), white);
+    Cell black = new GameCell(CellType.Player);
+    black.setCellToPlayer(new ComputerPlayer(PlayerType.BLACK));
+    board.put(new PositionAxial(2, 0, -2), black);
+    return new BasicReversiModel(5, board, new ComputerPlayer(PlayerType.BLACK));
+  }
+
+  // starts a game on the given model, with the given scheduler, where black is a computer
+  // player that always chooses the centre and white is a human player
+  private static void playCentre(ReversiModel model, TurnScheduler turns) {
+    ReversiStrategy centre = (m, playerTurn) -> new PositionAxial(0, 0, 0);
+    model.addFeaturesListener(new BasicReversiController(model,
+            new ComputerPlayer(PlayerType.BLACK, centre), new LoggingView(new ArrayList<>()),
+            turns));
+    model.addFeaturesListener(new BasicReversiController(model,
+            new HumanPlayer(PlayerType.WHITE), new LoggingView(new ArrayList<>()), turns));
+    if (turns == null) {
+      model.startGame();
+    } else {
+      turns.execute(model::startGame);
+    }
+  }
+
+  // waits up to ten seconds for the given condition to hold on the game thread
+  private static void waitFor(TurnScheduler turns, BooleanSupplier condition)
+          throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!turns.call(condition::getAsBoolean)) {
+      Assert.assertTrue(System.currentTimeMillis() < deadline);
+      Thread.sleep(5);
+    }
+  }
+
+  // a view without a window, which logs whether it was told it was the player's turn
+  private static final class LoggingView implements ReversiVisualView {
+    private final List<Boolean> refreshes;
+
+    private LoggingView(List<Boolean> refreshes) {
+      this.refreshes = refreshes;
+    }
+
+    @Override
+    public void makeVisible() {
+      // there is no window to show
+    }
+
+    @Override
+    public void refresh(boolean currentTurn) {
+      this.refreshes.add(currentTurn);
+    }
+
+    @Override
+    public void setUpFeatures(PlayerActionFeatures features) {
+      // there is nothing to click
+    }
+  }
 }
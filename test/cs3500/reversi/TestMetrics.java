@@ -0,0 +1,184 @@
+package cs3500.reversi;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.ObjectName;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import cs3500.reversi.controller.ComputerPlayer;
+import cs3500.reversi.controller.DecisionMetrics;
+import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.metrics.DecisionStatistics;
+import cs3500.reversi.metrics.LatencyHistogram;
+import cs3500.reversi.metrics.ModelMetrics;
+import cs3500.reversi.metrics.ModelOperation;
+import cs3500.reversi.model.BasicReversiModel;
+import cs3500.reversi.model.BasicSquareReversiModel;
+import cs3500.reversi.model.Position2D;
+import cs3500.reversi.model.PositionAxial;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * Tests the histograms and statistics in the metrics package.
+ */
+public class TestMetrics {
+
+  // Test that the histogram reports percentiles within 1/64 of the recorded values
+  @Test
+  public void testLatencyHistogramPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    Assert.assertEquals(histogram.getValueAtPercentile(50), 0);
+
+    for (long value = 1; value <= 10000; value += 1) {
+      histogram.record(value * 1000);
+    }
+
+    Assert.assertEquals(histogram.getCount(), 10000);
+    Assert.assertEquals(histogram.getMax(), 10_000_000);
+    Assert.assertEquals(histogram.getMean(), 5_000_500, 0.001);
+    Assert.assertEquals(histogram.getValueAtPercentile(50), 5_000_000, 5_000_000 / 64);
+    Assert.assertEquals(histogram.getValueAtPercentile(99), 9_900_000, 9_900_000 / 64);
+    Assert.assertEquals(histogram.getValueAtPercentile(100), 10_000_000);
+    Assert.assertTrue(histogram.getValueAtPercentile(50) >= 5_000_000);
+  }
+
+  // Test that small values are reported exactly and that a reset forgets every value
+  @Test
+  public void testLatencyHistogramSmallValuesAndReset() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(0);
+    histogram.record(3);
+    histogram.record(127);
+    histogram.record(128);
+
+    Assert.assertEquals(histogram.getValueAtPercentile(25), 0);
+    Assert.assertEquals(histogram.getValueAtPercentile(50), 3);
+    Assert.assertEquals(histogram.getValueAtPercentile(75), 127);
+    Assert.assertEquals(histogram.getValueAtPercentile(100), 128);
+    Assert.assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> histogram.getValueAtPercentile(0));
+
+    histogram.reset();
+    Assert.assertEquals(histogram.getCount(), 0);
+    Assert.assertEquals(histogram.getMax(), 0);
+  }
+
+  // Test that decision statistics add up the decisions they are told about
+  @Test
+  public void testDecisionStatistics() {
+    DecisionStatistics statistics = new DecisionStatistics();
+    statistics.decisionMade(new DecisionMetrics(PlayerType.BLACK, 37, 2_000_000, 5, 1, 40));
+    statistics.decisionMade(new DecisionMetrics(PlayerType.BLACK, 37, 4_000_000, 7, 0, 60));
+
+    Assert.assertEquals(statistics.getDecisions(), 2);
+    Assert.assertEquals(statistics.getMeanMillis(), 3, 0.001);
+    Assert.assertEquals(statistics.getMaxMillis(), 4, 0.001);
+    Assert.assertEquals(statistics.getP50Millis(), 2, 2.0 / 64);
+    Assert.assertEquals(statistics.getLegalMovesExamined(), 12);
+    Assert.assertEquals(statistics.getBoardCopies(), 1);
+    Assert.assertEquals(statistics.getModelCalls(), 100);
+
+    statistics.reset();
+    Assert.assertEquals(statistics.getDecisions(), 0);
+    Assert.assertEquals(statistics.getModelCalls(), 0);
+  }
+
+  // Test that decision statistics can be published over JMX once under a name
+  @Test
+  public void testDecisionStatisticsRegister() throws Exception {
+    DecisionStatistics statistics = new DecisionStatistics();
+    statistics.register("testDecisionStatisticsRegister");
+
+    ObjectName name = new ObjectName(
+        "cs3500.reversi:type=DecisionStatistics,name=testDecisionStatisticsRegister");
+    Assert.assertEquals(ManagementFactory.getPlatformMBeanServer()
+            .getAttribute(name, "Decisions"), 0L);
+    Assert.assertThrows(IllegalStateException.class,
+        () -> new DecisionStatistics().register("testDecisionStatisticsRegister"));
+  }
+
+  // Test that a measured hexagonal model counts its expensive operations, and that the
+  // time spent in a move includes the lines it checked
+  @Test
+  public void testModelMetricsCountsOperations() {
+    BasicReversiModel model = new BasicReversiModel(7);
+    ModelMetrics metrics = new ModelMetrics();
+    model.setMetrics(metrics);
+    model.startGame();
+    Assert.assertEquals(metrics.getCalls(ModelOperation.NOTIFY_LISTENERS), 1);
+
+    model.addPieceToCoordinates(new PositionAxial(1, -2, 1),
+            new ComputerPlayer(PlayerType.BLACK));
+    model.getBoardCopy();
+
+    Assert.assertEquals(metrics.getIsValidMoveForPlayerCalls(), 1);
+    Assert.assertEquals(metrics.getCheckValidLineMadeCalls(), 1);
+    Assert.assertTrue(metrics.getGetCellAtCalls() > 0);
+    Assert.assertEquals(metrics.getGetBoardCopyCalls(), 1);
+    Assert.assertEquals(metrics.getNotifyListenersCalls(), 2);
+    Assert.assertTrue(metrics.getIsValidMoveForPlayerNanos()
+            >= metrics.getCheckValidLineMadeNanos());
+
+    metrics.reset();
+    Assert.assertEquals(metrics.getGetCellAtCalls(), 0);
+  }
+
+  // Test that a measured model still records a call that fails, and keeps timing its
+  // other calls afterwards
+  @Test
+  public void testModelMetricsRecordsFailedCalls() {
+    BasicReversiModel model = new BasicReversiModel(7);
+    ModelMetrics metrics = new ModelMetrics();
+    model.setMetrics(metrics);
+
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> model.getCellAt(new PositionAxial(10, -10, 0)));
+    Assert.assertEquals(metrics.getGetCellAtCalls(), 1);
+
+    model.getCellAt(new PositionAxial(0, 0, 0));
+    Assert.assertEquals(metrics.getGetCellAtCalls(), 2);
+  }
+
+  // Test that copies of a measured square model record into the same metrics, and that a
+  // model stops recording once its metrics are taken away
+  @Test
+  public void testModelMetricsCopiesAndDisabled() {
+    BasicSquareReversiModel model = new BasicSquareReversiModel(6);
+    model.startGame();
+    model.getCellAt(new Position2D(0, 0));
+
+    ModelMetrics metrics = new ModelMetrics();
+    model.setMetrics(metrics);
+    ReversiModel copy = model.copy();
+    Assert.assertEquals(metrics.getGetBoardCopyCalls(), 1);
+
+    copy.getCellAt(new Position2D(0, 0));
+    Assert.assertEquals(metrics.getGetCellAtCalls(), 1);
+
+    model.setMetrics(null);
+    model.getCellAt(new Position2D(0, 0));
+    model.getScoreForMove(new Position2D(1, 2));
+    Assert.assertEquals(metrics.getGetCellAtCalls(), 1);
+    Assert.assertEquals(metrics.getIsValidMoveForPlayerCalls(), 0);
+  }
+
+  // Test that model metrics can be published over JMX once under a name
+  @Test
+  public void testModelMetricsRegister() throws Exception {
+    ModelMetrics metrics = new ModelMetrics();
+    metrics.register("testModelMetricsRegister");
+    metrics.record(ModelOperation.GET_CELL_AT, 10);
+
+    ObjectName name = new ObjectName(
+        "cs3500.reversi:type=ModelMetrics,name=testModelMetricsRegister");
+    Assert.assertEquals(ManagementFactory.getPlatformMBeanServer()
+            .getAttribute(name, "GetCellAtCalls"), 1L);
+    Assert.assertEquals(ManagementFactory.getPlatformMBeanServer()
+            .getAttribute(name, "GetCellAtNanos"), 10L);
+    Assert.assertThrows(IllegalStateException.class,
+        () -> new ModelMetrics().register("testModelMetricsRegister"));
+  }
+}
@@ -1,5 +1,9 @@
 package cs3500.reversi;
 
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Random;
+
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -8,11 +12,14 @@ import cs3500.reversi.controller.ComputerPlayer;
 import cs3500.reversi.controller.Player;
 import cs3500.reversi.controller.PlayerType;
 import cs3500.reversi.model.BasicReversiModel;
+import cs3500.reversi.model.BoardTopology;
 import cs3500.reversi.model.Cell;
 import cs3500.reversi.model.CellType;
 import cs3500.reversi.model.GameCell;
+import cs3500.reversi.model.GamePosition;
 import cs3500.reversi.model.PositionAxial;
 import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.SharedCell;
 import cs3500.reversi.textualview.ReversiTextualView;
 import cs3500.reversi.textualview.TextualView;
 
@@ -469,6 +476,27 @@ public class TestModel {
     });
   }
 
+  // Tests that cells are found both on the regular board, where they are looked up by
+  // ordinal, and at positions a given board placed off it.
+  @Test
+  public void testModelGetCellAtOnAndOffRegularBoard() {
+    HashMap<GamePosition, Cell> board = new HashMap<>();
+    Cell black = new GameCell(CellType.Player);
+    black.setCellToPlayer(playerBlack);
+    board.put(new PositionAxial(4, -4, 1), black);
+    ReversiModel model = new BasicReversiModel(7, board, playerBlack);
+
+    Assert.assertEquals(38, model.getBoardSize());
+    Assert.assertEquals("X", model.getCellAt(new PositionAxial(4, -4, 1)).getCellOwner());
+    Assert.assertEquals("O", model.getCellAt(new PositionAxial(-1, 0, 1)).getCellOwner());
+    for (int ordinal = 0; ordinal < model.getBoardSize(); ordinal += 1) {
+      GamePosition posn = model.getPositionAt(ordinal);
+      Assert.assertSame(model.getBoardCopy().get(posn), model.getCellAt(posn));
+    }
+    Assert.assertThrows(IllegalArgumentException.class, () ->
+            model.getCellAt(new PositionAxial(4, -4, 0)));
+  }
+
   // Tests that getBoardSize returns the correct board size with width 7.
   @Test
   public void testModelGetBoardSizeWidthSeven() {
@@ -562,6 +590,75 @@ public class TestModel {
 
   }
 
+  // Tests that getCellAt and getBoardCopy give out the shared cells instead of making new
+  // ones, and that those cells cannot be changed.
+  @Test
+  public void testModelSharesCells() {
+    ReversiModel model = new BasicReversiModel(5, playerBlack, playerWhite);
+    model.startGame();
+    model.addPieceToCoordinates(new PositionAxial(2, -1, -1), playerBlack);
+
+    Assert.assertSame(SharedCell.BLACK, model.getCellAt(new PositionAxial(2, -1, -1)));
+    Assert.assertSame(SharedCell.BLACK, model.getCellAt(new PositionAxial(1, -1, 0)));
+    Assert.assertSame(SharedCell.EMPTY, model.getCellAt(new PositionAxial(0, 0, 0)));
+    Assert.assertSame(model.getCellAt(new PositionAxial(-1, 0, 1)),
+            model.getBoardCopy().get(new PositionAxial(-1, 0, 1)));
+
+    Assert.assertThrows(UnsupportedOperationException.class,
+        () -> model.getCellAt(new PositionAxial(0, 0, 0)).setCellToPlayer(playerBlack));
+    Assert.assertEquals("_", model.getCellAt(new PositionAxial(0, 0, 0)).toString());
+  }
+
+  // Tests that a board of changeable cells given to the constructor is never changed by the
+  // game played on it.
+  @Test
+  public void testModelDoesNotChangeGivenBoard() {
+    HashMap<GamePosition, Cell> board = new HashMap<>();
+    Cell black = new GameCell(CellType.Player);
+    black.setCellToPlayer(playerBlack);
+    board.put(new PositionAxial(0, -1, 1), black);
+    Cell white = new GameCell(CellType.Player);
+    white.setCellToPlayer(playerWhite);
+    board.put(new PositionAxial(1, -1, 0), white);
+
+    ReversiModel model = new BasicReversiModel(5, board, playerWhite);
+    model.startGame();
+    model.addPieceToCoordinates(new PositionAxial(-1, -1, 2), playerWhite);
+
+    Assert.assertEquals("O", model.getCellAt(new PositionAxial(0, -1, 1)).getCellOwner());
+    Assert.assertEquals("X", black.getCellOwner());
+  }
+
+  // Tests that the shared cells match the players and cells they are looked up by, and know
+  // their opponents.
+  @Test
+  public void testSharedCellOwners() {
+    Assert.assertSame(SharedCell.BLACK, SharedCell.of(playerBlack));
+    Assert.assertSame(SharedCell.WHITE, SharedCell.of(PlayerType.WHITE));
+    Assert.assertSame(SharedCell.WHITE, SharedCell.BLACK.opponent());
+    Assert.assertSame(SharedCell.BLACK, SharedCell.WHITE.opponent());
+    Assert.assertSame(SharedCell.EMPTY, SharedCell.EMPTY.opponent());
+    Assert.assertSame(SharedCell.EMPTY, SharedCell.of(new GameCell(CellType.Empty)));
+
+    Cell white = new GameCell(CellType.Player);
+    white.setCellToPlayer(playerWhite);
+    Assert.assertSame(SharedCell.WHITE, SharedCell.of(white));
+    Assert.assertEquals("O", SharedCell.WHITE.getCellOwner());
+    Assert.assertEquals("", SharedCell.EMPTY.getCellOwner());
+  }
+
+  // Tests that the shared players are the same every time and cannot be given listeners.
+  @Test
+  public void testSharedPlayers() {
+    Assert.assertSame(ComputerPlayer.of(PlayerType.BLACK), ComputerPlayer.of(PlayerType.BLACK));
+    Assert.assertSame(ComputerPlayer.of(PlayerType.WHITE),
+            ComputerPlayer.of(PlayerType.BLACK).getOppositePlayer());
+    Assert.assertEquals(playerBlack, ComputerPlayer.of(PlayerType.BLACK));
+    Assert.assertThrows(IllegalStateException.class,
+        () -> ((ComputerPlayer) ComputerPlayer.of(PlayerType.WHITE))
+            .addDecisionListener(metrics -> { }));
+  }
+
   // Tests that getScoreForMove returns the correct score (one) for the given
   // move.
   @Test
@@ -602,4 +699,264 @@ public class TestModel {
 
   }
 
+  // Tests that the hexagonal topology numbers every cell and knows its neighbors and lines.
+  @Test
+  public void testBoardTopologyHexagonal() {
+    BoardTopology topology = BoardTopology.hexagonal(7);
+    int center = topology.getOrdinal(new PositionAxial(0, 0, 0));
+
+    Assert.assertSame(topology, BoardTopology.hexagonal(7));
+    Assert.assertEquals(topology.getCellCount(), 37);
+    Assert.assertEquals(topology.getDirectionCount(), 6);
+    Assert.assertEquals(topology.getOrdinal(new PositionAxial(0, -3, 3)), 0);
+    Assert.assertEquals(topology.getOrdinal(new PositionAxial(0, -4, 4)), -1);
+    Assert.assertEquals(topology.getPosition(center), new PositionAxial(0, 0, 0));
+    Assert.assertEquals(topology.getNeighbors(center).length, 6);
+    Assert.assertEquals(topology.getNeighbors(0).length, 3);
+
+    for (int direction = 0; direction < topology.getDirectionCount(); direction += 1) {
+      int[] ray = topology.getRay(center, direction);
+      Assert.assertEquals(ray.length, 3);
+      Assert.assertEquals(topology.getDirection(center, ray[0]), direction);
+      Assert.assertTrue(topology.getPosition(ray[0]).isNextTo(new PositionAxial(0, 0, 0)));
+    }
+  }
+
+  // Tests that the legal moves of a player are all found in one pass, with their flips.
+  @Test
+  public void testModelGetLegalMoves() {
+    ReversiModel model = new BasicReversiModel(7, playerBlack, playerWhite);
+    int[] moves = new int[model.getBoardSize()];
+    int[] flips = new int[model.getBoardSize()];
+
+    int count = model.getLegalMoves(PlayerType.BLACK, moves, flips);
+
+    Assert.assertEquals(count, 6);
+    for (int i = 0; i < count; i += 1) {
+      Assert.assertTrue(model.doesCurrentPlayerHaveValidMovesPosn(
+              model.getPositionAt(moves[i]), playerBlack));
+      Assert.assertEquals(flips[i], 1);
+      if (i > 0) {
+        Assert.assertTrue(moves[i - 1] < moves[i]);
+      }
+    }
+    Assert.assertEquals(model.getPositionAt(moves[0]), new PositionAxial(1, -2, 1));
+
+    model.startGame();
+    model.addPieceToCoordinates(new PositionAxial(1, -2, 1), playerBlack);
+
+    Assert.assertEquals(model.getLegalMoves(PlayerType.WHITE, moves, flips), 4);
+    Assert.assertEquals(model.getPositionAt(moves[0]), new PositionAxial(2, -3, 1));
+    Assert.assertEquals(flips[0], 2);
+    Assert.assertThrows(IllegalArgumentException.class, () ->
+            model.getLegalMoves(PlayerType.BLACK, new int[3], new int[3]));
+    Assert.assertThrows(IllegalArgumentException.class, () -> model.getPositionAt(37));
+  }
+
+  // Tests that the legal moves of a board with positions off the regular board include the
+  // moves there, and the moves whose lines run through them.
+  @Test
+  public void testModelGetLegalMovesOffBoard() {
+    Cell blackCell = new GameCell(CellType.Player);
+    blackCell.setCellToPlayer(playerBlack);
+    Cell whiteCell = new GameCell(CellType.Player);
+    whiteCell.setCellToPlayer(playerWhite);
+
+    HashMap<GamePosition, Cell> board = new HashMap<>();
+    board.put(new PositionAxial(1, -1, 0), blackCell);
+    board.put(new PositionAxial(2, -2, 0), whiteCell);
+    board.put(new PositionAxial(3, -3, 0), new GameCell(CellType.Empty));
+    ReversiModel model = new BasicReversiModel(5, board, playerBlack);
+    int[] moves = new int[model.getBoardSize()];
+    int[] flips = new int[model.getBoardSize()];
+
+    int count = model.getLegalMoves(PlayerType.BLACK, moves, flips);
+
+    int expected = 0;
+    for (GamePosition posn : model.getBoardCopy().keySet()) {
+      if (model.doesCurrentPlayerHaveValidMovesPosn(posn, playerBlack)) {
+        expected += 1;
+      }
+    }
+    Assert.assertEquals(count, expected);
+    for (int i = 0; i < count; i += 1) {
+      GamePosition posn = model.getPositionAt(moves[i]);
+      Assert.assertTrue(model.doesCurrentPlayerHaveValidMovesPosn(posn, playerBlack));
+      Assert.assertEquals(flips[i], model.getScoreForMove(posn));
+    }
+    Assert.assertEquals(model.getPositionAt(moves[count - 1]), new PositionAxial(3, -3, 0));
+    Assert.assertEquals(flips[count - 1], 1);
+  }
+
+  // Tests that moves made with applyMove can be taken back, restoring the whole game.
+  @Test
+  public void testModelApplyAndUndoMove() {
+    ReversiModel model = new BasicReversiModel(7, playerBlack, playerWhite);
+    String start = new ReversiTextualView(model).toString();
+    int[] moves = new int[model.getBoardSize()];
+    int[] flips = new int[model.getBoardSize()];
+
+    model.getLegalMoves(PlayerType.BLACK, moves, flips);
+    model.applyMove(moves[0]);
+
+    Assert.assertEquals(new ReversiTextualView(model).toString(), "   _ _ _ _\n" + //
+            "  _ _ X _ _\n" + //
+            " _ _ X X _ _\n" + //
+            "_ _ O _ X _ _\n" + //
+            " _ _ X O _ _\n" + //
+            "  _ _ _ _ _\n" + //
+            "   _ _ _ _\n");
+    Assert.assertEquals(model.getCurrentScore(PlayerType.BLACK), 5);
+    Assert.assertEquals(model.getLegalMoves(PlayerType.WHITE, moves, flips), 4);
+
+    model.applyMove(moves[0]);
+    model.applyMove(model.getBoardSize());
+    model.undoMove();
+    model.undoMove();
+    model.undoMove();
+
+    Assert.assertEquals(new ReversiTextualView(model).toString(), start);
+    Assert.assertEquals(model.getCurrentScore(PlayerType.BLACK), 3);
+    Assert.assertThrows(IllegalStateException.class, model::undoMove);
+    Assert.assertThrows(IllegalStateException.class, () -> model.applyMove(0));
+
+    // the first player is still up, so the real move can be made
+    model.startGame();
+    model.addPieceToCoordinates(new PositionAxial(1, -2, 1), playerBlack);
+    Assert.assertEquals(model.getCurrentScore(PlayerType.BLACK), 5);
+  }
+
+  // Tests that the position hash is kept up to date as moves are made, matching the hash of
+  // the same position worked out from scratch.
+  @Test
+  public void testModelPositionHash() {
+    ReversiModel model = new BasicReversiModel(7, playerBlack, playerWhite);
+    long unstarted = model.getPositionHash();
+    Assert.assertEquals(model.copy().getPositionHash(), unstarted);
+    model.startGame();
+    Assert.assertEquals(model.getPositionHash(), unstarted);
+
+    model.addPieceToCoordinates(new PositionAxial(1, -2, 1), playerBlack);
+    Assert.assertNotEquals(model.getPositionHash(), unstarted);
+    Assert.assertEquals(model.getPositionHash(),
+            new BasicReversiModel(7, model.getBoardCopy(), playerWhite).getPositionHash());
+
+    // passing only changes whose turn it is
+    long beforePass = model.getPositionHash();
+    model.passTurn(playerWhite);
+    Assert.assertNotEquals(model.getPositionHash(), beforePass);
+    Assert.assertEquals(model.getPositionHash(),
+            new BasicReversiModel(7, model.getBoardCopy(), playerBlack).getPositionHash());
+
+    // applying and taking back a move gives back the same hash
+    long beforeApply = model.getPositionHash();
+    int[] moves = new int[model.getBoardSize()];
+    int[] flips = new int[model.getBoardSize()];
+    model.getLegalMoves(PlayerType.BLACK, moves, flips);
+    model.applyMove(moves[0]);
+    Assert.assertEquals(model.getPositionHash(),
+            new BasicReversiModel(7, model.getBoardCopy(), playerWhite).getPositionHash());
+    model.undoMove();
+    Assert.assertEquals(model.getPositionHash(), beforeApply);
+  }
+
+  // Tests that the scores kept as moves are made, flipped and taken back always match the
+  // pieces on the board.
+  @Test
+  public void testModelScoresMatchBoard() {
+    ReversiModel model = new BasicReversiModel(7, playerBlack, playerWhite);
+    model.startGame();
+    model.addPieceToCoordinates(new PositionAxial(1, -2, 1), playerBlack);
+    model.addPieceToCoordinates(new PositionAxial(-2, 1, 1), playerWhite);
+    Assert.assertEquals(4, model.getCurrentScore(PlayerType.BLACK));
+    Assert.assertEquals(4, model.getCurrentScore(PlayerType.WHITE));
+    Assert.assertEquals("Tie", model.getCurrentWinner());
+
+    int[] moves = new int[model.getBoardSize()];
+    int[] flips = new int[model.getBoardSize()];
+    model.getLegalMoves(PlayerType.BLACK, moves, flips);
+    model.applyMove(moves[0]);
+    Assert.assertEquals(4 + flips[0] + 1, model.getCurrentScore(PlayerType.BLACK));
+    Assert.assertEquals(4 - flips[0], model.getCurrentScore(PlayerType.WHITE));
+    Assert.assertEquals("X", model.getCurrentWinner());
+
+    ReversiModel copy = model.copy();
+    model.undoMove();
+    Assert.assertEquals(4, model.getCurrentScore(PlayerType.BLACK));
+    Assert.assertEquals(4, model.getCurrentScore(PlayerType.WHITE));
+    Assert.assertEquals(4 + flips[0] + 1, copy.getCurrentScore(PlayerType.BLACK));
+
+    int black = 0;
+    for (int ordinal = 0; ordinal < copy.getBoardSize(); ordinal += 1) {
+      if (copy.getCellAt(copy.getPositionAt(ordinal)).getCellOwner().equals("X")) {
+        black += 1;
+      }
+    }
+    Assert.assertEquals(black, copy.getCurrentScore(PlayerType.BLACK));
+  }
+
+  // Tests that the legal moves kept as random moves are made and taken back are always the
+  // moves found by checking every cell of the board.
+  @Test
+  public void testModelLegalMoveSetMatchesBoard() {
+    BasicReversiModel model = new BasicReversiModel(9, playerBlack, playerWhite);
+    model.startGame();
+    Random random = new Random(3);
+    int[] moves = new int[model.getBoardSize()];
+    int[] flips = new int[model.getBoardSize()];
+
+    for (int turn = 0; turn < 60 && !model.isGameOver(); turn += 1) {
+      for (PlayerType type : PlayerType.values()) {
+        BitSet expected = new BitSet();
+        for (int ordinal = 0; ordinal < model.getBoardSize(); ordinal += 1) {
+          GamePosition posn = model.getPositionAt(ordinal);
+          if (model.getCellAt(posn).getCellOwner().isEmpty()
+                  && model.getScoreForMovePlayer(posn,
+                      type.equals(PlayerType.BLACK) ? "X" : "O") > 0) {
+            expected.set(ordinal);
+          }
+        }
+        Assert.assertEquals(expected, model.getLegalMoveSet(type));
+      }
+
+      PlayerType toMove = turn % 2 == 0 ? PlayerType.BLACK : PlayerType.WHITE;
+      int count = model.getLegalMoves(toMove, moves, flips);
+      Assert.assertEquals(count > 0, model.doesCurrentPlayerHaveValidMoves());
+      int move = count == 0 ? model.getBoardSize() : moves[random.nextInt(count)];
+      model.applyMove(move);
+
+      // every third move is taken back and made again
+      if (turn % 3 == 0) {
+        model.undoMove();
+        model.applyMove(move);
+      }
+    }
+  }
+
+  // Tests that a copy of the model starts out the same but changes independently of it.
+  @Test
+  public void testModelCopy() {
+    ReversiModel model = new BasicReversiModel(7, playerBlack, playerWhite);
+    model.startGame();
+    model.addPieceToCoordinates(new PositionAxial(1, -2, 1), playerBlack);
+    String board = new ReversiTextualView(model).toString();
+
+    ReversiModel copy = model.copy();
+    Assert.assertEquals(new ReversiTextualView(copy).toString(), board);
+    Assert.assertEquals(copy.getPositionHash(), model.getPositionHash());
+    Assert.assertTrue(copy.hasGameStarted());
+
+    int[] moves = new int[copy.getBoardSize()];
+    int[] flips = new int[copy.getBoardSize()];
+    copy.getLegalMoves(PlayerType.WHITE, moves, flips);
+    copy.applyMove(moves[0]);
+    Assert.assertEquals(new ReversiTextualView(model).toString(), board);
+    Assert.assertNotEquals(copy.getPositionHash(), model.getPositionHash());
+
+    // the copy is still white's turn to take back, and the original can still be played
+    copy.undoMove();
+    Assert.assertEquals(copy.getPositionHash(), model.getPositionHash());
+    Assert.assertThrows(IllegalStateException.class, copy::undoMove);
+    model.addPieceToCoordinates(model.getPositionAt(moves[0]), playerWhite);
+  }
 }
@@ -8,6 +8,7 @@ import cs3500.reversi.controller.ComputerPlayer;
 import cs3500.reversi.controller.Player;
 import cs3500.reversi.controller.PlayerType;
 import cs3500.reversi.model.BasicSquareReversiModel;
+import cs3500.reversi.model.BoardTopology;
 import cs3500.reversi.model.Position2D;
 import cs3500.reversi.model.ReversiModel;
 import cs3500.reversi.textualview.SquareReversiTextualView;
@@ -391,4 +392,63 @@ public class TestSquareModel {
     Assert.assertEquals(model.getScoreForMove(new Position2D(0, 0)), 0);
   }
 
+  // Tests that the square topology numbers every cell and knows its neighbors and lines.
+  @Test
+  public void testBoardTopologySquare() {
+    BoardTopology topology = BoardTopology.square(4);
+    int corner = topology.getOrdinal(new Position2D(0, 0));
+
+    Assert.assertEquals(topology.getCellCount(), 16);
+    Assert.assertEquals(topology.getDirectionCount(), 8);
+    Assert.assertEquals(topology.getOrdinal(new Position2D(3, 1)), 7);
+    Assert.assertEquals(topology.getOrdinal(new Position2D(4, 0)), -1);
+    Assert.assertEquals(topology.getNeighbors(corner).length, 3);
+    Assert.assertEquals(topology.getNeighbors(topology.getOrdinal(new Position2D(1, 1))).length,
+            8);
+
+    int diagonal = topology.getDirection(new Position2D(0, 0), new Position2D(1, 1));
+    int[] ray = topology.getRay(corner, diagonal);
+    Assert.assertEquals(ray.length, 3);
+    Assert.assertEquals(topology.getPosition(ray[2]), new Position2D(3, 3));
+  }
+
+  // Tests that the legal moves of a player are all found in one pass, with their flips.
+  @Test
+  public void testModelGetLegalMoves() {
+    ReversiModel model = new BasicSquareReversiModel(4, playerBlack, playerWhite);
+    int[] moves = new int[model.getBoardSize()];
+    int[] flips = new int[model.getBoardSize()];
+
+    Assert.assertEquals(model.getLegalMoves(PlayerType.BLACK, moves, flips), 4);
+    Assert.assertEquals(model.getPositionAt(moves[0]), new Position2D(2, 0));
+    Assert.assertEquals(model.getPositionAt(moves[1]), new Position2D(3, 1));
+    Assert.assertEquals(model.getPositionAt(moves[2]), new Position2D(0, 2));
+    Assert.assertEquals(model.getPositionAt(moves[3]), new Position2D(1, 3));
+    Assert.assertEquals(flips[0] + flips[1] + flips[2] + flips[3], 4);
+  }
+
+  // Tests that the position hash of square reversi is kept up to date as moves are made.
+  @Test
+  public void testModelPositionHash() {
+    ReversiModel model = new BasicSquareReversiModel(8, playerBlack, playerWhite);
+    model.startGame();
+    long start = model.getPositionHash();
+
+    int[] moves = new int[model.getBoardSize()];
+    int[] flips = new int[model.getBoardSize()];
+    model.getLegalMoves(PlayerType.BLACK, moves, flips);
+    model.addPieceToCoordinates(model.getPositionAt(moves[0]), playerBlack);
+
+    Assert.assertNotEquals(model.getPositionHash(), start);
+    Assert.assertEquals(model.getPositionHash(),
+            new BasicSquareReversiModel(8, model.getBoardCopy(), playerWhite).getPositionHash());
+
+    model.getLegalMoves(PlayerType.WHITE, moves, flips);
+    long beforeApply = model.getPositionHash();
+    model.applyMove(moves[0]);
+    Assert.assertEquals(model.getPositionHash(),
+            new BasicSquareReversiModel(8, model.getBoardCopy(), playerBlack).getPositionHash());
+    model.undoMove();
+    Assert.assertEquals(model.getPositionHash(), beforeApply);
+  }
 }
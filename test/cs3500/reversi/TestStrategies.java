@@ -1,6 +1,7 @@
 package cs3500.reversi;
 
 import java.util.HashMap;
+import java.util.Random;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -8,7 +9,9 @@ import org.junit.Test;
 import cs3500.reversi.controller.ComputerPlayer;
 import cs3500.reversi.controller.Player;
 import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.model.BasicReversiModel;
 import cs3500.reversi.model.BasicReversiModelMockTranscript;
+import cs3500.reversi.model.BasicSquareReversiModel;
 import cs3500.reversi.model.BasicSquareReversiModelMock;
 import cs3500.reversi.model.Cell;
 import cs3500.reversi.model.CellType;
@@ -16,12 +19,21 @@ import cs3500.reversi.model.GameCell;
 import cs3500.reversi.model.GamePosition;
 import cs3500.reversi.model.Position2D;
 import cs3500.reversi.model.PositionAxial;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.strategies.AlphaBetaSearch;
 import cs3500.reversi.strategies.AvoidCellsNextToCorner;
 import cs3500.reversi.strategies.CaptureCellsInCorner;
 import cs3500.reversi.strategies.CaptureMostPieces;
+import cs3500.reversi.strategies.CornerEvaluator;
+import cs3500.reversi.strategies.LazySmpSearch;
 import cs3500.reversi.strategies.MinimizeNextOpponentMove;
+import cs3500.reversi.strategies.MonteCarloTreeSearch;
+import cs3500.reversi.strategies.ParallelMonteCarloTreeSearch;
+import cs3500.reversi.strategies.ParallelRootSearch;
 import cs3500.reversi.strategies.ReversiStrategy;
+import cs3500.reversi.strategies.TranspositionTable;
 import cs3500.reversi.strategies.TryTwoStrategies;
+import cs3500.reversi.textualview.ReversiTextualView;
 
 /**
  * Tests the strategies for playing Reversi for both hexagonal and square models.
@@ -43,10 +55,10 @@ public class TestStrategies {
 
     Assert.assertEquals(model.getLog(),
             "getScoreForMove(Q: 1, R: -2, S: 1)\n"
-                    + "getScoreForMove(Q: -2, R: 1, S: " + "1)\n"
-                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: -1, S: 2)\n"
                     + "getScoreForMove(Q: 2, R: -1, S: -1)\n"
+                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
+                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: 2, S: -1)\n");
     Assert.assertEquals(stratPosn, new PositionAxial(-1, -1, 2));
   }
@@ -67,8 +79,8 @@ public class TestStrategies {
 
     Assert.assertEquals(model.getLog(),
             "getScoreForMove(X: 5, Y: 3)\n" +
-                    "getScoreForMove(X: 3, Y: 5)\n" +
                     "getScoreForMove(X: 6, Y: 4)\n" +
+                    "getScoreForMove(X: 3, Y: 5)\n" +
                     "getScoreForMove(X: 4, Y: 6)\n");
     Assert.assertEquals(stratPosn, new Position2D(3, 5));
   }
@@ -95,13 +107,13 @@ public class TestStrategies {
     GamePosition stratPosn = strat.chooseMove(model, PlayerType.WHITE);
 
     Assert.assertEquals(model.getLog(),
-            "getScoreForMove(Q: -2, R: 1, S: 1)\n"
-                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
+            "getScoreForMove(Q: 1, R: -3, S: 2)\n"
+                    + "getScoreForMove(Q: 2, R: -3, S: 1)\n"
                     + "getScoreForMove(Q: -1, R: -1, S: 2)\n"
                     + "getScoreForMove(Q: 2, R: -1, S: -1)\n"
-                    + "getScoreForMove(Q: -1, R: 2, S: -1)\n"
-                    + "getScoreForMove(Q: 1, R: -3, S: 2)\n"
-                    + "getScoreForMove(Q: 2, R: -3, S: 1)\n");
+                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
+                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
+                    + "getScoreForMove(Q: -1, R: 2, S: -1)\n");
     Assert.assertEquals(stratPosn, new PositionAxial(2, -3, 1));
   }
 
@@ -160,11 +172,11 @@ public class TestStrategies {
 
     Assert.assertEquals(model.getLog(),
             "getScoreForMove(Q: 1, R: -2, S: 1)\n"
-                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
                     + "getScoreForMove(Q: -1, R: -1, S: 2)\n"
                     + "getScoreForMove(Q: 2, R: -1, S: -1)\n"
-                    + "getScoreForMove(Q: -1, R: 2, S: -1)\n"
+                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
                     + "getScoreForMove(Q: 2, R: 1, S: -3)\n"
+                    + "getScoreForMove(Q: -1, R: 2, S: -1)\n"
                     + "getScoreForMove(Q: 1, R: 2, S: -3)\n");
     // Correct logical move would be (1, 2, -3) but the mock tells the strategy
     // that move is not valid, so the strategy correctly listens to the mock
@@ -280,13 +292,13 @@ public class TestStrategies {
     GamePosition stratPosn = strat.chooseMove(model, PlayerType.WHITE);
 
     Assert.assertEquals(model.getLog(),
-            "getScoreForMove(Q: -2, R: 1, S: 1)\n"
-                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
+            "getScoreForMove(Q: 1, R: -3, S: 2)\n"
+                    + "getScoreForMove(Q: 2, R: -3, S: 1)\n"
                     + "getScoreForMove(Q: -1, R: -1, S: 2)\n"
                     + "getScoreForMove(Q: 2, R: -1, S: -1)\n"
-                    + "getScoreForMove(Q: -1, R: 2, S: -1)\n"
-                    + "getScoreForMove(Q: 1, R: -3, S: 2)\n"
-                    + "getScoreForMove(Q: 2, R: -3, S: 1)\n");
+                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
+                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
+                    + "getScoreForMove(Q: -1, R: 2, S: -1)\n");
     Assert.assertEquals(stratPosn, new PositionAxial(-1, -1, 2));
   }
 
@@ -339,13 +351,13 @@ public class TestStrategies {
     GamePosition stratPosn = strat.chooseMove(model, PlayerType.WHITE);
 
     Assert.assertEquals(model.getLog(),
-            "getScoreForMove(Q: -2, R: 1, S: 1)\n"
-                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
+            "getScoreForMove(Q: 1, R: -3, S: 2)\n"
+                    + "getScoreForMove(Q: 2, R: -3, S: 1)\n"
                     + "getScoreForMove(Q: -1, R: -1, S: 2)\n"
                     + "getScoreForMove(Q: 2, R: -1, S: -1)\n"
-                    + "getScoreForMove(Q: -1, R: 2, S: -1)\n"
-                    + "getScoreForMove(Q: 1, R: -3, S: 2)\n"
-                    + "getScoreForMove(Q: 2, R: -3, S: 1)\n");
+                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
+                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
+                    + "getScoreForMove(Q: -1, R: 2, S: -1)\n");
     Assert.assertEquals(stratPosn, new PositionAxial(37, 37, 37));
   }
 
@@ -401,10 +413,10 @@ public class TestStrategies {
     Assert.assertEquals(model.getLog(),
             "getScoreForMove(Q: 3, R: -3, S: 0)\n"
                     + "getScoreForMove(Q: 1, R: -2, S: 1)\n"
-                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
-                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: -1, S: 2)\n"
                     + "getScoreForMove(Q: 2, R: -1, S: -1)\n"
+                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
+                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: 2, S: -1)\n");
     Assert.assertEquals(stratPosn, new PositionAxial(3, -3, 0));
   }
@@ -463,17 +475,17 @@ public class TestStrategies {
     Assert.assertEquals(model.getLog(),
             "getScoreForMove(Q: 3, R: -3, S: 0)\n"
                     + "getScoreForMove(Q: 1, R: -2, S: 1)\n"
-                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
-                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: -1, S: 2)\n"
                     + "getScoreForMove(Q: 2, R: -1, S: -1)\n"
+                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
+                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: 2, S: -1)\n"
                     + "getScoreForMove(Q: 3, R: -3, S: 0)\n"
                     + "getScoreForMove(Q: 1, R: -2, S: 1)\n"
-                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
-                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: -1, S: 2)\n"
                     + "getScoreForMove(Q: 2, R: -1, S: -1)\n"
+                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
+                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: 2, S: -1)\n");
 
     Assert.assertEquals(stratPosn, new PositionAxial(-1, -1, 2));
@@ -541,17 +553,17 @@ public class TestStrategies {
     Assert.assertEquals(model.getLog(),
             "getScoreForMove(Q: 3, R: -3, S: 0)\n"
                     + "getScoreForMove(Q: 1, R: -2, S: 1)\n"
-                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
-                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: -1, S: 2)\n"
                     + "getScoreForMove(Q: 2, R: -1, S: -1)\n"
+                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
+                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: 2, S: -1)\n"
                     + "getScoreForMove(Q: 3, R: -3, S: 0)\n"
                     + "getScoreForMove(Q: 1, R: -2, S: 1)\n"
-                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
-                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: -1, S: 2)\n"
                     + "getScoreForMove(Q: 2, R: -1, S: -1)\n"
+                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
+                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: 2, S: -1)\n");
 
     Assert.assertEquals(stratPosn, new PositionAxial(3, -3, 0));
@@ -610,21 +622,20 @@ public class TestStrategies {
                     new ComputerPlayer(PlayerType.WHITE));
 
     ReversiStrategy strat = new MinimizeNextOpponentMove();
+    String boardBefore = new ReversiTextualView(model).toString();
 
     GamePosition stratPosn = strat.chooseMove(model, PlayerType.WHITE);
 
     Assert.assertEquals(model.getLog(),
-
-            "getScoreForMove(Q: 3, R: -3, S: 0)" + "\n"
-                    + "getScoreForMove(Q: 1, R: -2, S: 1)" + "\n"
-                    + "getScoreForMove(Q: -2, R: 1, S: 1)" + "\n"
-                    + "getScoreForMove(Q: 1, R: 1, S: -2)"
-                    + "\n" + "getScoreForMove(Q: -1, R: -1, S: 2)"
-                    + "\n"
-                    + "getScoreForMove(Q: 2, R: -1, S: -1)"
-                    + "\n"
+            "getScoreForMove(Q: 3, R: -3, S: 0)\n"
+                    + "getScoreForMove(Q: 1, R: -2, S: 1)\n"
+                    + "getScoreForMove(Q: -1, R: -1, S: 2)\n"
+                    + "getScoreForMove(Q: 2, R: -1, S: -1)\n"
+                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
+                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: 2, S: -1)\n");
     Assert.assertEquals(stratPosn, new PositionAxial(-1, 2, -1));
+    Assert.assertEquals(new ReversiTextualView(model).toString(), boardBefore);
 
   }
 
@@ -696,16 +707,485 @@ public class TestStrategies {
 
     ReversiStrategy strat = new MinimizeNextOpponentMove();
 
+    String boardBefore = new ReversiTextualView(model).toString();
+
     GamePosition stratPosn = strat.chooseMove(model, PlayerType.BLACK);
 
     Assert.assertEquals(model.getLog(),
             "getScoreForMove(Q: 1, R: -2, S: 1)\n"
-                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
-                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: -1, S: 2)\n"
                     + "getScoreForMove(Q: 2, R: -1, S: -1)\n"
+                    + "getScoreForMove(Q: -2, R: 1, S: 1)\n"
+                    + "getScoreForMove(Q: 1, R: 1, S: -2)\n"
                     + "getScoreForMove(Q: -1, R: 2, S: -1)\n");
     Assert.assertEquals(stratPosn, new PositionAxial(-1, 2, -1));
+    Assert.assertEquals(new ReversiTextualView(model).toString(), boardBefore);
+    Assert.assertEquals(strat.chooseMove(model, PlayerType.BLACK), stratPosn);
   }
 
+  // Tests that alphaBetaSearch passes the turn when there are no moves to make.
+  @Test
+  public void testAlphaBetaSearchNoMoveStartGame() {
+
+    Cell blackCell = new GameCell(CellType.Player);
+    blackCell.setCellToPlayer(new ComputerPlayer(PlayerType.BLACK));
+
+    HashMap<PositionAxial, Cell> boardToAdd = new HashMap<PositionAxial, Cell>();
+    boardToAdd.put(new PositionAxial(1, -2, 1), blackCell);
+    boardToAdd.put(new PositionAxial(-1, -1, 2), blackCell);
+    boardToAdd.put(new PositionAxial(-2, 1, 1), blackCell);
+    boardToAdd.put(new PositionAxial(-1, 2, -1), blackCell);
+    boardToAdd.put(new PositionAxial(1, 1, -2), blackCell);
+    boardToAdd.put(new PositionAxial(2, -1, -1), blackCell);
+
+    BasicReversiModelMockTranscript model =
+            new BasicReversiModelMockTranscript(5, boardToAdd,
+                    new ComputerPlayer(PlayerType.WHITE));
+
+    GamePosition stratPosn = new AlphaBetaSearch().chooseMove(model, PlayerType.WHITE);
+
+    Assert.assertEquals(stratPosn, new PositionAxial(19, 19, 19));
+  }
+
+  // Tests that alphaBetaSearch takes a corner when every move captures the same number
+  // of pieces for square reversi.
+  @Test
+  public void testAlphaBetaSearchTakesCornerSquare() {
+
+    Cell whiteCell = new GameCell(CellType.Player);
+    whiteCell.setCellToPlayer(new ComputerPlayer(PlayerType.WHITE));
+    Cell blackCell = new GameCell(CellType.Player);
+    blackCell.setCellToPlayer(new ComputerPlayer(PlayerType.BLACK));
+
+    HashMap<GamePosition, Cell> boardToAdd = new HashMap<GamePosition, Cell>();
+    boardToAdd.put(new Position2D(1, 0), whiteCell);
+    boardToAdd.put(new Position2D(2, 0), blackCell);
+
+    ReversiModel model = new BasicSquareReversiModel(4, boardToAdd,
+            new ComputerPlayer(PlayerType.BLACK));
+    model.startGame();
+
+    Assert.assertEquals(new AlphaBetaSearch(1000, 1, new CornerEvaluator())
+            .chooseMove(model, PlayerType.BLACK), new Position2D(0, 0));
+    Assert.assertEquals(new AlphaBetaSearch(1000).chooseMove(model, PlayerType.BLACK),
+            new Position2D(0, 0));
+  }
+
+  // Tests that alphaBetaSearch chooses a legal move within its time budget and leaves the
+  // model as it was given for hexagonal reversi.
+  @Test
+  public void testAlphaBetaSearchLegalMoveStartGame() {
+
+    ReversiModel model = new BasicReversiModel(11);
+    model.startGame();
+
+    String boardBefore = new ReversiTextualView(model).toString();
+
+    long start = System.currentTimeMillis();
+    GamePosition stratPosn = new AlphaBetaSearch(100).chooseMove(model, PlayerType.BLACK);
+    long elapsed = System.currentTimeMillis() - start;
+
+    Assert.assertTrue(model.getScoreForMove(stratPosn) > 0);
+    Assert.assertTrue(elapsed < 2000);
+    Assert.assertEquals(new ReversiTextualView(model).toString(), boardBefore);
+  }
+
+  // Tests that alphaBetaSearch does not accept a time budget, depth or evaluator it
+  // cannot search with.
+  @Test
+  public void testAlphaBetaSearchInvalidArguments() {
+    Assert.assertThrows(IllegalArgumentException.class, () -> new AlphaBetaSearch(0));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new AlphaBetaSearch(100, 0, new CornerEvaluator()));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new AlphaBetaSearch(100, 3, null));
+  }
+
+  // Tests that the transposition table gives back what was stored and counts its hits and
+  // misses.
+  @Test
+  public void testTranspositionTableStoreAndProbe() {
+    TranspositionTable table = new TranspositionTable(1000);
+    Assert.assertEquals(table.getCapacity(), 1024);
+
+    Assert.assertEquals(table.probe(12345L), 0);
+    table.store(12345L, 3, -42, TranspositionTable.LOWER_BOUND, 17);
+    long entry = table.probe(12345L);
+
+    Assert.assertEquals(TranspositionTable.scoreOf(entry), -42);
+    Assert.assertEquals(TranspositionTable.depthOf(entry), 3);
+    Assert.assertEquals(TranspositionTable.boundOf(entry), TranspositionTable.LOWER_BOUND);
+    Assert.assertEquals(TranspositionTable.moveOf(entry), 17);
+    Assert.assertEquals(table.getHits(), 1);
+    Assert.assertEquals(table.getMisses(), 1);
+
+    table.store(99L, 0, 5, TranspositionTable.EXACT, -1);
+    Assert.assertEquals(TranspositionTable.moveOf(table.probe(99L)), -1);
+
+    table.clear();
+    Assert.assertEquals(table.probe(12345L), 0);
+    Assert.assertEquals(table.getHits(), 0);
+    Assert.assertEquals(table.getMisses(), 1);
+  }
+
+  // Tests that the transposition table keeps the more deeply searched of two positions that
+  // want the same slot.
+  @Test
+  public void testTranspositionTableReplaceByDepth() {
+    TranspositionTable table = new TranspositionTable(1);
+    table.store(1L, 5, 10, TranspositionTable.EXACT, 0);
+    table.store(2L, 4, 20, TranspositionTable.EXACT, 0);
+
+    Assert.assertEquals(TranspositionTable.scoreOf(table.probe(1L)), 10);
+    Assert.assertEquals(table.probe(2L), 0);
+
+    table.store(2L, 5, 20, TranspositionTable.UPPER_BOUND, 0);
+    Assert.assertEquals(table.probe(1L), 0);
+    Assert.assertEquals(TranspositionTable.scoreOf(table.probe(2L)), 20);
+
+    Assert.assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> table.store(3L, -1, 0, TranspositionTable.EXACT, 0));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> table.store(3L, 1, 0, 0, 0));
+  }
+
+  // Tests that alphaBetaSearch makes use of the transposition table it is given.
+  @Test
+  public void testAlphaBetaSearchUsesTranspositionTable() {
+    ReversiModel model = new BasicReversiModel(7);
+    model.startGame();
+
+    TranspositionTable table = new TranspositionTable(1 << 12);
+    GamePosition stratPosn = new AlphaBetaSearch(1000, 4, new CornerEvaluator(), table)
+            .chooseMove(model, PlayerType.BLACK);
+
+    Assert.assertTrue(model.getScoreForMove(stratPosn) > 0);
+    Assert.assertTrue(table.getHits() > 0);
+    Assert.assertTrue(table.getMisses() > 0);
+  }
+
+  // Tests that parallelRootSearch chooses the same moves however many threads it uses, and
+  // leaves the model as it was given, over a whole game of hexagonal reversi.
+  @Test
+  public void testParallelRootSearchDeterministic() {
+    ReversiModel model = new BasicReversiModel(7);
+    model.startGame();
+
+    ReversiStrategy single = new ParallelRootSearch(3, 1, new CornerEvaluator());
+    ReversiStrategy parallel = new ParallelRootSearch(3, 4, new CornerEvaluator());
+    PlayerType turn = PlayerType.BLACK;
+
+    while (!model.isGameOver()) {
+      String boardBefore = new ReversiTextualView(model).toString();
+      GamePosition stratPosn = single.chooseMove(model, turn);
+
+      Assert.assertEquals(parallel.chooseMove(model, turn), stratPosn);
+      Assert.assertEquals(new ReversiTextualView(model).toString(), boardBefore);
+
+      if (stratPosn.containsCoordinate(model.getBoardSize())) {
+        model.passTurn(new ComputerPlayer(turn));
+      } else {
+        model.addPieceToCoordinates(stratPosn, new ComputerPlayer(turn));
+      }
+      turn = turn.equals(PlayerType.BLACK) ? PlayerType.WHITE : PlayerType.BLACK;
+    }
+  }
+
+  // Tests that parallelRootSearch breaks ties by choosing the uppermost-leftmost move, like
+  // captureMostPieces, when looking one move ahead for square reversi.
+  @Test
+  public void testParallelRootSearchTieBreakSquare() {
+    ReversiModel model = new BasicSquareReversiModel(8);
+    model.startGame();
+
+    // every first move flips one piece onto an ordinary cell, so all of them tie
+    Assert.assertEquals(new ParallelRootSearch(1, 2, new CornerEvaluator())
+            .chooseMove(model, PlayerType.BLACK),
+            new CaptureMostPieces().chooseMove(model, PlayerType.BLACK));
+  }
+
+  // Tests that parallelRootSearch does not accept a depth, parallelism or evaluator it
+  // cannot search with.
+  @Test
+  public void testParallelRootSearchInvalidArguments() {
+    Assert.assertThrows(IllegalArgumentException.class, () -> new ParallelRootSearch(0));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new ParallelRootSearch(2, 0, new CornerEvaluator()));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new ParallelRootSearch(2, 2, null));
+  }
+
+  // Tests that lazySmpSearch chooses a legal move, leaves the model as it was given and
+  // reports how much it searched for hexagonal reversi.
+  @Test
+  public void testLazySmpSearchLegalMoveStartGame() {
+    ReversiModel model = new BasicReversiModel(11);
+    model.startGame();
+    String boardBefore = new ReversiTextualView(model).toString();
+
+    LazySmpSearch strat = new LazySmpSearch(100, 3, 64, new CornerEvaluator(),
+            new TranspositionTable(1 << 14));
+    Assert.assertEquals(strat.getLastNodesPerSecond(), 0, 0);
+    GamePosition stratPosn = strat.chooseMove(model, PlayerType.BLACK);
+
+    Assert.assertTrue(model.getScoreForMove(stratPosn) > 0);
+    Assert.assertEquals(new ReversiTextualView(model).toString(), boardBefore);
+    Assert.assertTrue(strat.getLastDepth() >= 1);
+    Assert.assertTrue(strat.getLastNodes() > 0);
+    Assert.assertTrue(strat.getLastNodesPerSecond() > 0);
+    Assert.assertTrue(strat.getLastEffectiveBranchingFactor() >= 1);
+  }
+
+  // Tests that lazySmpSearch takes a corner when every move captures the same number of
+  // pieces, and stops early once the whole game has been searched, for square reversi.
+  @Test
+  public void testLazySmpSearchTakesCornerSquare() {
+    Cell whiteCell = new GameCell(CellType.Player);
+    whiteCell.setCellToPlayer(new ComputerPlayer(PlayerType.WHITE));
+    Cell blackCell = new GameCell(CellType.Player);
+    blackCell.setCellToPlayer(new ComputerPlayer(PlayerType.BLACK));
+
+    HashMap<GamePosition, Cell> boardToAdd = new HashMap<GamePosition, Cell>();
+    boardToAdd.put(new Position2D(1, 0), whiteCell);
+    boardToAdd.put(new Position2D(2, 0), blackCell);
+
+    ReversiModel model = new BasicSquareReversiModel(4, boardToAdd,
+            new ComputerPlayer(PlayerType.BLACK));
+    model.startGame();
+
+    LazySmpSearch strat = new LazySmpSearch(10000, 2, 64, new CornerEvaluator(),
+            new TranspositionTable(1 << 14));
+    Assert.assertEquals(strat.chooseMove(model, PlayerType.BLACK), new Position2D(0, 0));
+    Assert.assertTrue(strat.getLastDepth() < 64);
+  }
+
+  // Tests that lazySmpSearch passes when there are no moves, and does not accept arguments
+  // it cannot search with.
+  @Test
+  public void testLazySmpSearchNoMoveAndInvalidArguments() {
+    Cell blackCell = new GameCell(CellType.Player);
+    blackCell.setCellToPlayer(new ComputerPlayer(PlayerType.BLACK));
+
+    HashMap<GamePosition, Cell> boardToAdd = new HashMap<GamePosition, Cell>();
+    boardToAdd.put(new Position2D(0, 0), blackCell);
+    ReversiModel model = new BasicSquareReversiModel(2, boardToAdd,
+            new ComputerPlayer(PlayerType.WHITE));
+
+    Assert.assertEquals(new LazySmpSearch(2).chooseMove(model, PlayerType.WHITE),
+            new PositionAxial(4, 4, 4));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new LazySmpSearch(0));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new LazySmpSearch(0, 2, 64, new CornerEvaluator(), new TranspositionTable(1)));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new LazySmpSearch(100, 2, 64, new CornerEvaluator(), null));
+  }
+
+  // Tests that lazySmpSearches with the same number of threads share their threads, so
+  // making one for every game does not leave more and more threads running.
+  @Test
+  public void testLazySmpSearchSharesThreads() {
+    for (int search = 0; search < 8; search += 1) {
+      ReversiModel model = new BasicReversiModel(5);
+      model.startGame();
+      new LazySmpSearch(10, 4, 2, new CornerEvaluator(), new TranspositionTable(1 << 10))
+              .chooseMove(model, PlayerType.BLACK);
+    }
+
+    // the other tests search on fewer threads, so there are never more than this left
+    Assert.assertTrue(countThreads("lazy-smp-search") <= 16);
+  }
+
+  // Tests that monteCarloTreeSearch chooses a legal move, leaves the model as it was given,
+  // reports its playouts and chooses the same move again with the same seed for hexagonal
+  // reversi.
+  @Test
+  public void testMonteCarloTreeSearchLegalMoveStartGame() {
+    ReversiModel model = new BasicReversiModel(7);
+    model.startGame();
+    String boardBefore = new ReversiTextualView(model).toString();
+
+    MonteCarloTreeSearch strat = new MonteCarloTreeSearch(10000, 500, new Random(3));
+    Assert.assertEquals(strat.getLastPlayoutsPerSecond(), 0, 0);
+    GamePosition stratPosn = strat.chooseMove(model, PlayerType.BLACK);
+
+    Assert.assertTrue(model.getScoreForMove(stratPosn) > 0);
+    Assert.assertEquals(new ReversiTextualView(model).toString(), boardBefore);
+    Assert.assertEquals(strat.getLastPlayouts(), 500);
+    Assert.assertTrue(strat.getLastPlayoutsPerSecond() > 0);
+    Assert.assertEquals(strat.getLastReusedPlayouts(), 0);
+    Assert.assertEquals(new MonteCarloTreeSearch(10000, 500, new Random(3))
+            .chooseMove(model, PlayerType.BLACK), stratPosn);
+  }
+
+  // Tests that monteCarloTreeSearch plays only legal moves over a whole game of square
+  // reversi, and keeps the playouts below the opponent's reply for its next move.
+  @Test
+  public void testMonteCarloTreeSearchReusesTreeSquare() {
+    ReversiModel model = new BasicSquareReversiModel(6);
+    model.startGame();
+
+    MonteCarloTreeSearch strat = new MonteCarloTreeSearch(10000, 2000, new Random(7));
+    ReversiStrategy opponent = new CaptureMostPieces();
+    PlayerType turn = PlayerType.BLACK;
+    int movesChosen = 0;
+
+    while (!model.isGameOver()) {
+      GamePosition posn;
+      if (turn.equals(PlayerType.BLACK)) {
+        posn = strat.chooseMove(model, turn);
+        if (movesChosen == 1) {
+          Assert.assertTrue(strat.getLastReusedPlayouts() > 0);
+        }
+        movesChosen += 1;
+      } else {
+        posn = opponent.chooseMove(model, turn);
+      }
+
+      if (posn.containsCoordinate(model.getBoardSize())) {
+        Assert.assertTrue(model.getLegalMoves(turn, new int[model.getBoardSize()],
+            new int[model.getBoardSize()]) == 0);
+        model.passTurn(new ComputerPlayer(turn));
+      } else {
+        Assert.assertTrue(model.getScoreForMove(posn) > 0);
+        model.addPieceToCoordinates(posn, new ComputerPlayer(turn));
+      }
+      turn = turn.equals(PlayerType.BLACK) ? PlayerType.WHITE : PlayerType.BLACK;
+    }
+  }
+
+  // Tests that monteCarloTreeSearch still chooses a legal move when its time is up before
+  // the first playout.
+  @Test
+  public void testMonteCarloTreeSearchOutOfTime() {
+    // a model so slow to read that the time budget is spent before the search starts
+    ReversiModel model = new BasicReversiModel(7) {
+      @Override
+      public int getNumRows() {
+        try {
+          Thread.sleep(5);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return super.getNumRows();
+      }
+    };
+    model.startGame();
+
+    MonteCarloTreeSearch strat = new MonteCarloTreeSearch(1, 500, new Random(3));
+    GamePosition stratPosn = strat.chooseMove(model, PlayerType.BLACK);
+
+    Assert.assertTrue(model.getScoreForMove(stratPosn) > 0);
+    Assert.assertEquals(strat.getLastPlayouts(), 1);
+  }
+
+  // Tests that monteCarloTreeSearch passes when there are no moves, and does not accept
+  // arguments it cannot search with.
+  @Test
+  public void testMonteCarloTreeSearchNoMoveAndInvalidArguments() {
+    Cell blackCell = new GameCell(CellType.Player);
+    blackCell.setCellToPlayer(new ComputerPlayer(PlayerType.BLACK));
+
+    HashMap<GamePosition, Cell> boardToAdd = new HashMap<GamePosition, Cell>();
+    boardToAdd.put(new Position2D(0, 0), blackCell);
+    ReversiModel model = new BasicSquareReversiModel(2, boardToAdd,
+            new ComputerPlayer(PlayerType.WHITE));
+
+    Assert.assertEquals(new MonteCarloTreeSearch(100, 10).chooseMove(model, PlayerType.WHITE),
+            new PositionAxial(4, 4, 4));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new MonteCarloTreeSearch(0, 10));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new MonteCarloTreeSearch(100, 0));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new MonteCarloTreeSearch(100, 10, null));
+  }
+
+  // Tests that parallelMonteCarloTreeSearch chooses a legal move, leaves the model as it was
+  // given and stops at its number of playouts over all of its threads for hexagonal reversi.
+  @Test
+  public void testParallelMonteCarloTreeSearchLegalMoveStartGame() {
+    ReversiModel model = new BasicReversiModel(7);
+    model.startGame();
+    String boardBefore = new ReversiTextualView(model).toString();
+
+    ParallelMonteCarloTreeSearch strat = new ParallelMonteCarloTreeSearch(10000, 2000, 4, 5);
+    Assert.assertEquals(strat.getLastPlayoutsPerSecond(), 0, 0);
+    GamePosition stratPosn = strat.chooseMove(model, PlayerType.BLACK);
+
+    Assert.assertTrue(model.getScoreForMove(stratPosn) > 0);
+    Assert.assertEquals(new ReversiTextualView(model).toString(), boardBefore);
+    Assert.assertEquals(strat.getLastPlayouts(), 2000);
+    Assert.assertTrue(strat.getLastPlayoutsPerSecond() > 0);
+  }
+
+  // Tests that parallelMonteCarloTreeSearch plays only legal moves over a whole game of
+  // square reversi.
+  @Test
+  public void testParallelMonteCarloTreeSearchWholeGameSquare() {
+    ReversiModel model = new BasicSquareReversiModel(6);
+    model.startGame();
+
+    ReversiStrategy strat = new ParallelMonteCarloTreeSearch(10000, 500, 3, 11);
+    PlayerType turn = PlayerType.BLACK;
+
+    while (!model.isGameOver()) {
+      GamePosition posn = strat.chooseMove(model, turn);
+
+      if (posn.containsCoordinate(model.getBoardSize())) {
+        Assert.assertTrue(model.getLegalMoves(turn, new int[model.getBoardSize()],
+            new int[model.getBoardSize()]) == 0);
+        model.passTurn(new ComputerPlayer(turn));
+      } else {
+        Assert.assertTrue(model.getScoreForMove(posn) > 0);
+        model.addPieceToCoordinates(posn, new ComputerPlayer(turn));
+      }
+      turn = turn.equals(PlayerType.BLACK) ? PlayerType.WHITE : PlayerType.BLACK;
+    }
+  }
+
+  // Tests that parallelMonteCarloTreeSearch passes when there are no moves, and does not
+  // accept arguments it cannot search with.
+  @Test
+  public void testParallelMonteCarloTreeSearchNoMoveAndInvalidArguments() {
+    Cell blackCell = new GameCell(CellType.Player);
+    blackCell.setCellToPlayer(new ComputerPlayer(PlayerType.BLACK));
+
+    HashMap<GamePosition, Cell> boardToAdd = new HashMap<GamePosition, Cell>();
+    boardToAdd.put(new Position2D(0, 0), blackCell);
+    ReversiModel model = new BasicSquareReversiModel(2, boardToAdd,
+            new ComputerPlayer(PlayerType.WHITE));
+
+    Assert.assertEquals(new ParallelMonteCarloTreeSearch(100, 10, 2, 0)
+            .chooseMove(model, PlayerType.WHITE), new PositionAxial(4, 4, 4));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new ParallelMonteCarloTreeSearch(0, 10, 2, 0));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new ParallelMonteCarloTreeSearch(100, 0, 2, 0));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new ParallelMonteCarloTreeSearch(100, 10, 0, 0));
+  }
+
+  // Tests that parallelMonteCarloTreeSearches with the same number of threads share their
+  // threads, so making one for every game does not leave more and more threads running.
+  @Test
+  public void testParallelMonteCarloTreeSearchSharesThreads() {
+    for (int search = 0; search < 8; search += 1) {
+      ReversiModel model = new BasicReversiModel(5);
+      model.startGame();
+      new ParallelMonteCarloTreeSearch(10, 40, 4, search).chooseMove(model, PlayerType.BLACK);
+    }
+
+    // the other tests search on no more threads, so there are never more than this left
+    Assert.assertTrue(countThreads("parallel-mcts") <= 16);
+  }
+
+  // counts the live threads with the given name
+  private static int countThreads(String name) {
+    int count = 0;
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.getName().equals(name)) {
+        count += 1;
+      }
+    }
+    return count;
+  }
 }
@@ -0,0 +1,90 @@
+package cs3500.reversi;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import cs3500.reversi.strategies.AvoidCellsNextToCorner;
+import cs3500.reversi.strategies.CaptureCellsInCorner;
+import cs3500.reversi.strategies.CaptureMostPieces;
+import cs3500.reversi.strategies.TryTwoStrategies;
+import cs3500.reversi.tournament.Tournament;
+import cs3500.reversi.tournament.TournamentResult;
+
+/**
+ * Tests the headless tournament for both hexagonal and square boards.
+ */
+public class TestTournament {
+
+  // Tests that every entrant plays every other the given number of games on hexagonal
+  // boards, and that the wins, losses and ties add up.
+  @Test
+  public void testTournamentCountsGames() {
+    Tournament tournament = new Tournament(false, 5, 3);
+    tournament.addEntrant("captureMost", CaptureMostPieces::new);
+    tournament.addEntrant("avoidNextToCorner", AvoidCellsNextToCorner::new);
+    tournament.addEntrant("cornerThenMost",
+        () -> new TryTwoStrategies(new CaptureCellsInCorner(), new CaptureMostPieces()));
+    TournamentResult result = tournament.run(4);
+
+    Assert.assertEquals(result.getTotalGames(), 12);
+    Assert.assertTrue(result.getGamesPerSecond() > 0);
+    int wins = 0;
+    int losses = 0;
+    for (String name : new String[]{"captureMost", "avoidNextToCorner", "cornerThenMost"}) {
+      Assert.assertEquals(result.getGames(name), 8);
+      Assert.assertEquals(result.getWins(name) + result.getLosses(name) + result.getTies(name),
+              8);
+      wins += result.getWins(name);
+      losses += result.getLosses(name);
+      Assert.assertTrue(result.getWinRate(name) >= 0 && result.getWinRate(name) <= 1);
+    }
+    Assert.assertEquals(wins, losses);
+  }
+
+  // Tests that the move latencies are reported in order and the results do not depend on
+  // the number of threads, since the strategies are deterministic, on square boards.
+  @Test
+  public void testTournamentLatencyAndThreadsSquare() {
+    Tournament single = new Tournament(true, 6, 1);
+    Tournament parallel = new Tournament(true, 6, 4);
+    for (Tournament tournament : new Tournament[]{single, parallel}) {
+      tournament.addEntrant("captureMost", CaptureMostPieces::new);
+      tournament.addEntrant("captureCorner", CaptureCellsInCorner::new);
+    }
+    TournamentResult singleResult = single.run(6);
+    TournamentResult parallelResult = parallel.run(6);
+
+    Assert.assertEquals(singleResult.getWins("captureMost"),
+            parallelResult.getWins("captureMost"));
+    Assert.assertEquals(singleResult.getTies("captureCorner"),
+            parallelResult.getTies("captureCorner"));
+
+    long p50 = parallelResult.getMoveLatencyPercentileNanos("captureMost", 50);
+    long p99 = parallelResult.getMoveLatencyPercentileNanos("captureMost", 99);
+    Assert.assertTrue(p50 > 0);
+    Assert.assertTrue(p50 <= p99);
+    Assert.assertTrue(parallelResult.getAverageMoveLatencyNanos("captureMost") > 0);
+    Assert.assertTrue(parallelResult.toString().contains("captureCorner"));
+  }
+
+  // Tests that the tournament does not accept arguments it cannot play with.
+  @Test
+  public void testTournamentInvalidArguments() {
+    Assert.assertThrows(IllegalArgumentException.class, () -> new Tournament(false, 6, 2));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new Tournament(true, 7, 2));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new Tournament(false, 7, 0));
+
+    Tournament tournament = new Tournament(false, 5, 2);
+    tournament.addEntrant("captureMost", CaptureMostPieces::new);
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> tournament.addEntrant("captureMost", CaptureMostPieces::new));
+    Assert.assertThrows(IllegalStateException.class, () -> tournament.run(2));
+
+    tournament.addEntrant("captureCorner", CaptureCellsInCorner::new);
+    Assert.assertThrows(IllegalArgumentException.class, () -> tournament.run(0));
+    TournamentResult result = tournament.run(2);
+    Assert.assertThrows(IllegalArgumentException.class, () -> result.getWins("missing"));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> result.getMoveLatencyPercentileNanos("captureMost", 0));
+  }
+}
@@ -1,18 +1,41 @@
 package cs3500.reversi;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.swing.JComponent;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+
 import org.junit.Assert;
 import org.junit.Test;
 import cs3500.reversi.controller.BasicReversiController;
 import cs3500.reversi.controller.ComputerPlayer;
+import cs3500.reversi.controller.HumanPlayer;
+import cs3500.reversi.controller.MockController;
 import cs3500.reversi.controller.PlayerType;
+import cs3500.reversi.strategies.CaptureMostPieces;
 import cs3500.reversi.model.BasicReversiModel;
 import cs3500.reversi.model.BasicSquareReversiModel;
+import cs3500.reversi.model.GamePosition;
+import cs3500.reversi.model.Position2D;
+import cs3500.reversi.model.PositionAxial;
 import cs3500.reversi.model.ReadOnlyReversiModel;
 import cs3500.reversi.model.ReversiModel;
 import cs3500.reversi.visualview.HexagonalFrame;
+import cs3500.reversi.visualview.HexagonalPanel;
 import cs3500.reversi.visualview.HexagonalPanelMock;
+import cs3500.reversi.visualview.RefreshDispatcher;
+import cs3500.reversi.visualview.ReversiPanel;
 import cs3500.reversi.visualview.ReversiVisualView;
 import cs3500.reversi.visualview.SquareFrame;
+import cs3500.reversi.visualview.SquarePanel;
 import cs3500.reversi.visualview.SquarePanelMock;
 
 /**
@@ -206,4 +229,186 @@ public class TestVisualView {
 
     Assert.assertEquals(mockPanel.getLog(), "");
   }
+
+  // tests that a burst of refreshes reaches the panel as one refresh, which is only given
+  // the positions that changed since the last one
+  @Test
+  public void testRefreshDispatcherCoalesces()
+          throws InterruptedException, InvocationTargetException {
+    ReversiModel model = new BasicReversiModel(7);
+    model.startGame();
+    HexagonalPanelMock mockPanel = new HexagonalPanelMock(model, 800, 800);
+    RefreshDispatcher dispatcher = new RefreshDispatcher(model, mockPanel, 50);
+    int blackBefore = model.getCurrentScore(PlayerType.BLACK);
+
+    // the first refresh shows the whole board
+    SwingUtilities.invokeAndWait(() -> dispatcher.refresh(true));
+    Thread.sleep(100);
+    SwingUtilities.invokeAndWait(() -> { });
+    Assert.assertEquals(mockPanel.getLog(), "");
+
+    SwingUtilities.invokeAndWait(() -> {
+      GamePosition move = new ComputerPlayer(PlayerType.BLACK, new CaptureMostPieces())
+              .requestMove(model, new PositionAxial(0, 0, 0));
+      model.addPieceToCoordinates(move, ComputerPlayer.of(PlayerType.BLACK));
+      for (int i = 0; i < 5; i += 1) {
+        dispatcher.refresh(i % 2 == 0);
+      }
+    });
+    Thread.sleep(150);
+    SwingUtilities.invokeAndWait(() -> { });
+
+    // the piece played and the pieces it flipped
+    int changed = model.getCurrentScore(PlayerType.BLACK) - blackBefore;
+    Assert.assertEquals(mockPanel.getLog(), "Refreshed " + changed + " cells\n");
+  }
+
+  // tests that refreshing a hexagonal panel after a move only paints again the spaces that
+  // changed and the text at the top
+  @Test
+  public void testHexagonalPanelRepaintsChangedCells()
+          throws InterruptedException, InvocationTargetException {
+    ReversiModel model = new BasicReversiModel(7);
+    testPanelRepaintsChangedCells(model, new HexagonalPanel(model, 800, 800, false));
+  }
+
+  // tests that refreshing a square panel after a move only paints again the spaces that
+  // changed and the text at the top
+  @Test
+  public void testSquarePanelRepaintsChangedCells()
+          throws InterruptedException, InvocationTargetException {
+    ReversiModel model = new BasicSquareReversiModel(8);
+    testPanelRepaintsChangedCells(model, new SquarePanel(model, 800, 800));
+  }
+
+  // checks the areas the given panel of the given unstarted model asks to paint again
+  private static void testPanelRepaintsChangedCells(ReversiModel model, JComponent panel)
+          throws InterruptedException, InvocationTargetException {
+    List<Rectangle> regions = new ArrayList<>();
+    panel.setSize(800, 800);
+    // let the panel handle being resized before watching what it paints
+    SwingUtilities.invokeAndWait(() -> { });
+    RepaintManager original = RepaintManager.currentManager(panel);
+    RepaintManager.setCurrentManager(new RepaintManager() {
+      @Override
+      public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+        regions.add(new Rectangle(x, y, w, h));
+      }
+    });
+
+    try {
+      // starting the game paints the whole panel
+      model.startGame();
+      ((ReversiPanel) panel).refresh(true);
+      Assert.assertEquals(regions.get(regions.size() - 1), new Rectangle(800, 800));
+
+      // nothing changed on the board, so only the text at the top is painted
+      regions.clear();
+      ((ReversiPanel) panel).refresh(false);
+      Assert.assertEquals(regions.size(), 1);
+      Assert.assertTrue(regions.get(0).height < 100);
+
+      // a move paints the few spaces it changed
+      GamePosition move = new ComputerPlayer(PlayerType.BLACK, new CaptureMostPieces())
+              .requestMove(model, new PositionAxial(0, 0, 0));
+      model.addPieceToCoordinates(move, ComputerPlayer.of(PlayerType.BLACK));
+      regions.clear();
+      ((ReversiPanel) panel).refresh(true);
+      Assert.assertEquals(regions.size(), 2);
+      Assert.assertTrue(regions.get(1).width * regions.get(1).height < 800 * 800 / 8);
+    } finally {
+      RepaintManager.setCurrentManager(original);
+    }
+  }
+
+  // tests that a hexagonal panel paints the spaces in the right places, with the pieces
+  // of the cells they show
+  @Test
+  public void testHexagonalPanelPaintsSpaces() {
+    ReversiModel model = new BasicReversiModel(7);
+    model.startGame();
+    HexagonalPanel panel = new HexagonalPanel(model, 800, 800, false);
+    panel.setUpFeatures(new MockController(new HumanPlayer(PlayerType.BLACK)));
+    panel.setSize(800, 800);
+
+    BufferedImage image = new BufferedImage(800, 800, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g2d = image.createGraphics();
+    panel.paint(g2d);
+    g2d.dispose();
+
+    // the middle row is 114 pixels per hexagon, with the middle of the board at (400, 433)
+    Assert.assertEquals(new Color(image.getRGB(400, 433)), Color.LIGHT_GRAY);
+    Color owner = model.getCellAt(new PositionAxial(1, 0, -1)).getCellOwner().equals("X")
+            ? Color.BLACK : Color.WHITE;
+    Assert.assertEquals(new Color(image.getRGB(514, 433)), owner);
+    Assert.assertEquals(new Color(image.getRGB(5, 790)), Color.DARK_GRAY);
+  }
+
+  // tests that the space a move is made on is no longer highlighted once the panel is
+  // refreshed, and that no other space is
+  @Test
+  public void testHexagonalPanelClearsHighlightAfterMove()
+          throws InterruptedException, InvocationTargetException {
+    ReversiModel model = new BasicReversiModel(7);
+    model.startGame();
+    HexagonalPanel panel = new HexagonalPanel(model, 800, 800, false);
+    panel.setUpFeatures(new MockController(new HumanPlayer(PlayerType.BLACK)));
+    panel.setSize(800, 800);
+    // let the panel handle being resized, which makes its spaces again, before selecting
+    SwingUtilities.invokeAndWait(() -> { });
+
+    // the space of (1, -2, 1) is drawn around (400, 236), to the right of its empty middle
+    panel.mouseClickUpdateView(400, 236);
+    Assert.assertEquals(new Color(paintPanel(panel).getRGB(445, 236)), Color.CYAN);
+
+    model.addPieceToCoordinates(new PositionAxial(1, -2, 1), ComputerPlayer.of(PlayerType.BLACK));
+    panel.refresh(false);
+
+    BufferedImage image = paintPanel(panel);
+    Assert.assertEquals(new Color(image.getRGB(445, 236)), Color.LIGHT_GRAY);
+    for (int x = 0; x < image.getWidth(); x += 1) {
+      for (int y = 0; y < image.getHeight(); y += 1) {
+        Assert.assertNotEquals(new Color(image.getRGB(x, y)), Color.CYAN);
+      }
+    }
+  }
+
+  // tests that refreshing only the cells a move changed also clears the highlight of the
+  // space the move was made on, on a square panel
+  @Test
+  public void testSquarePanelClearsHighlightAfterMove()
+          throws InterruptedException, InvocationTargetException {
+    ReversiModel model = new BasicSquareReversiModel(8);
+    model.startGame();
+    SquarePanel panel = new SquarePanel(model, 800, 800);
+    panel.setUpFeatures(new MockController(new HumanPlayer(PlayerType.BLACK)));
+    panel.setSize(800, 800);
+    // let the panel handle being resized, which makes its spaces again, before selecting
+    SwingUtilities.invokeAndWait(() -> { });
+
+    // the space of (4, 2) covers (400, 200) to (500, 300), with its piece in the middle
+    panel.mouseClickUpdateView(450, 250);
+    Assert.assertEquals(new Color(paintPanel(panel).getRGB(405, 205)), Color.CYAN);
+
+    model.addPieceToCoordinates(new Position2D(4, 2), ComputerPlayer.of(PlayerType.BLACK));
+    panel.refreshCells(false, Arrays.asList(new Position2D(4, 2), new Position2D(4, 3)));
+
+    BufferedImage image = paintPanel(panel);
+    Assert.assertEquals(new Color(image.getRGB(405, 205)), Color.LIGHT_GRAY);
+    for (int x = 0; x < image.getWidth(); x += 1) {
+      for (int y = 0; y < image.getHeight(); y += 1) {
+        Assert.assertNotEquals(new Color(image.getRGB(x, y)), Color.CYAN);
+      }
+    }
+  }
+
+  // paints the given panel into a picture of its size
+  private static BufferedImage paintPanel(JComponent panel) {
+    BufferedImage image = new BufferedImage(panel.getWidth(), panel.getHeight(),
+            BufferedImage.TYPE_INT_RGB);
+    Graphics2D g2d = image.createGraphics();
+    panel.paint(g2d);
+    g2d.dispose();
+    return image;
+  }
 }